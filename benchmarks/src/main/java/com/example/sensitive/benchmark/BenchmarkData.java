@@ -0,0 +1,164 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.benchmark.model.ApiMaskedUserDTO;
+import com.example.sensitive.benchmark.model.ApiPlainUserDTO;
+import com.example.sensitive.benchmark.model.LogUserDTO;
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 基准测试数据构造
+ *
+ * @author example
+ */
+final class BenchmarkData {
+
+    /** HMAC 基准使用的固定密钥 */
+    static final byte[] HMAC_KEY = "benchmark-hmac-key-0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    /** FPE 基准使用的固定 AES-128 密钥 */
+    static final byte[] FPE_KEY = "benchmark-fpe-k1".getBytes(StandardCharsets.UTF_8);
+
+    private BenchmarkData() {
+    }
+
+    static LogUserDTO logUser() {
+        LogUserDTO user = new LogUserDTO();
+        user.setId(1L);
+        user.setUsername("testuser");
+        user.setPhone("13812345678");
+        user.setIdCard("110101199001011234");
+        user.setBankCard("6222021234567890123");
+        user.setEmail("test@example.com");
+        user.setRealName("张三丰");
+        user.setAddress("北京市朝阳区望京街道10号");
+        user.setLoginIp("192.168.1.100");
+        user.setRemark("VIP 客户，需优先处理");
+        user.setOrderNo("ORD20260101000123");
+        user.setCreateTime(LocalDateTime.of(2026, 1, 1, 12, 0));
+        return user;
+    }
+
+    static ApiMaskedUserDTO apiMaskedUser(long id) {
+        ApiMaskedUserDTO user = new ApiMaskedUserDTO();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setPhone("13812345678");
+        user.setIdCard("110101199001011234");
+        user.setBankCard("6222021234567890123");
+        user.setEmail("test@example.com");
+        user.setRealName("张三丰");
+        user.setAddress("北京市朝阳区望京街道10号");
+        return user;
+    }
+
+    static ApiPlainUserDTO apiPlainUser(long id) {
+        ApiPlainUserDTO user = new ApiPlainUserDTO();
+        user.setId(id);
+        user.setUsername("user" + id);
+        user.setPhone("13812345678");
+        user.setIdCard("110101199001011234");
+        user.setBankCard("6222021234567890123");
+        user.setEmail("test@example.com");
+        user.setRealName("张三丰");
+        user.setAddress("北京市朝阳区望京街道10号");
+        return user;
+    }
+
+    /**
+     * 构造指定大小的 API DTO 列表
+     *
+     * @param size    列表大小
+     * @param forApi  是否使用 forApi = true 的 DTO
+     * @return DTO 列表
+     */
+    static List<Object> apiUsers(int size, boolean forApi) {
+        List<Object> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            users.add(forApi ? apiMaskedUser(i) : apiPlainUser(i));
+        }
+        return users;
+    }
+
+    /**
+     * 以 {@link PiiCorpus} 语料填充日志 DTO，每个字段取自对应类型的独立语料流
+     *
+     * @param count 数量
+     * @return DTO 数组
+     */
+    static LogUserDTO[] corpusLogUsers(int count) {
+        String[] phones = PiiCorpus.generate(SensitiveType.PHONE, count);
+        String[] idCards = PiiCorpus.generate(SensitiveType.ID_CARD, count);
+        String[] bankCards = PiiCorpus.generate(SensitiveType.BANK_CARD, count);
+        String[] emails = PiiCorpus.generate(SensitiveType.EMAIL, count);
+        String[] names = PiiCorpus.generate(SensitiveType.NAME, count);
+        String[] addresses = PiiCorpus.generate(SensitiveType.ADDRESS, count);
+        String[] ips = PiiCorpus.generate(SensitiveType.IP_ADDRESS, count);
+        String[] remarks = PiiCorpus.generate(SensitiveType.TEXT, count);
+        String[] orderNos = PiiCorpus.generate(SensitiveType.CUSTOM, count);
+
+        LogUserDTO[] users = new LogUserDTO[count];
+        for (int i = 0; i < count; i++) {
+            LogUserDTO user = new LogUserDTO();
+            user.setId((long) i);
+            user.setUsername("user" + i);
+            user.setPhone(phones[i]);
+            user.setIdCard(idCards[i]);
+            user.setBankCard(bankCards[i]);
+            user.setEmail(emails[i]);
+            user.setRealName(names[i]);
+            user.setAddress(addresses[i]);
+            user.setLoginIp(ips[i]);
+            user.setRemark(remarks[i]);
+            user.setOrderNo(orderNos[i]);
+            user.setCreateTime(LocalDateTime.of(2026, 1, 1, 12, 0));
+            users[i] = user;
+        }
+        return users;
+    }
+
+    /**
+     * 以 {@link PiiCorpus} 语料构造 API DTO 列表
+     *
+     * @param size   列表大小
+     * @param forApi 是否使用 forApi = true 的 DTO
+     * @return DTO 列表
+     */
+    static List<Object> corpusApiUsers(int size, boolean forApi) {
+        String[] phones = PiiCorpus.generate(SensitiveType.PHONE, size);
+        String[] idCards = PiiCorpus.generate(SensitiveType.ID_CARD, size);
+        String[] bankCards = PiiCorpus.generate(SensitiveType.BANK_CARD, size);
+        String[] emails = PiiCorpus.generate(SensitiveType.EMAIL, size);
+        String[] names = PiiCorpus.generate(SensitiveType.NAME, size);
+        String[] addresses = PiiCorpus.generate(SensitiveType.ADDRESS, size);
+
+        List<Object> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            if (forApi) {
+                ApiMaskedUserDTO user = apiMaskedUser(i);
+                user.setPhone(phones[i]);
+                user.setIdCard(idCards[i]);
+                user.setBankCard(bankCards[i]);
+                user.setEmail(emails[i]);
+                user.setRealName(names[i]);
+                user.setAddress(addresses[i]);
+                users.add(user);
+            } else {
+                ApiPlainUserDTO user = apiPlainUser(i);
+                user.setPhone(phones[i]);
+                user.setIdCard(idCards[i]);
+                user.setBankCard(bankCards[i]);
+                user.setEmail(emails[i]);
+                user.setRealName(names[i]);
+                user.setAddress(addresses[i]);
+                users.add(user);
+            }
+        }
+        return users;
+    }
+}
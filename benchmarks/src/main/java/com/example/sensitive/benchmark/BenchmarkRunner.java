@@ -0,0 +1,88 @@
+package com.example.sensitive.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.options.ProfilerConfig;
+
+import java.io.IOException;
+
+/**
+ * 基准测试入口
+ * <p>
+ * 接受与 {@code org.openjdk.jmh.Main} 相同的命令行参数，并为每次运行强制挂载
+ * {@link GCProfiler}，使所有结果都带有 {@code gc.alloc.rate.norm}（每次操作分配字节数）。
+ * 未指定 {@code -rf} 时结果以 JSON 写入 {@code jmh-result.json}，供
+ * {@link com.example.sensitive.benchmark.report.PerformanceReport} 生成报告与基线比对。
+ *
+ * <p>运行方式:
+ * <pre>
+ * # 运行全部基准
+ * java -jar benchmarks/target/benchmarks.jar
+ *
+ * # 只运行策略基准，快速模式
+ * java -jar benchmarks/target/benchmarks.jar MaskStrategyBenchmark -f 1 -wi 2 -i 3
+ * </pre>
+ *
+ * @author example
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, IOException {
+        CommandLineOptions cmdOptions;
+        try {
+            cmdOptions = new CommandLineOptions(args);
+        } catch (CommandLineOptionException e) {
+            System.err.println("Error parsing command line: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+
+        if (cmdOptions.shouldHelp()) {
+            cmdOptions.showHelp();
+            return;
+        }
+
+        OptionsBuilder builder = new OptionsBuilder();
+        builder.parent(cmdOptions);
+        if (!hasGcProfiler(cmdOptions)) {
+            builder.addProfiler(GCProfiler.class);
+        }
+        if (!cmdOptions.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        Options options = builder.build();
+
+        Runner runner = new Runner(options);
+        if (cmdOptions.shouldList()) {
+            runner.list();
+            return;
+        }
+        if (cmdOptions.shouldListWithParams()) {
+            runner.listWithParams(cmdOptions);
+            return;
+        }
+        runner.run();
+    }
+
+    /**
+     * 命令行是否已显式指定 {@code -prof gc}，避免重复挂载
+     */
+    private static boolean hasGcProfiler(CommandLineOptions cmdOptions) {
+        for (ProfilerConfig profiler : cmdOptions.getProfilers()) {
+            String klass = profiler.getKlass();
+            if ("gc".equals(klass) || GCProfiler.class.getName().equals(klass)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
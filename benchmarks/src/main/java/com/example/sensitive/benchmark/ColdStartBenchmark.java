@@ -0,0 +1,83 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.benchmark.model.LogUserDTO;
+import com.example.sensitive.config.SensitiveLogProperties;
+import com.example.sensitive.config.SensitiveMetadataWarmer;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 冷启动首调用基准
+ * <p>
+ * {@code SingleShotTime} + 每个 fork 只测一次，测得的是全新 JVM 中第一次调用的耗时：
+ * <ul>
+ *   <li>{@code coldFirstBuild}: 未预热，首个 toString() 承担反射解析与策略类加载</li>
+ *   <li>{@code prewarmedFirstBuild}: 先按编译期索引执行启动预热，再测首个 toString()</li>
+ *   <li>{@code warmUpFromIndex}: 启动预热本身的耗时（计入应用启动而非首个请求）</li>
+ * </ul>
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(20)
+public class ColdStartBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class ColdState {
+
+        LogUserDTO user;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            user = BenchmarkData.logUser();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class PrewarmedState {
+
+        LogUserDTO user;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            user = BenchmarkData.logUser();
+            newWarmer().afterSingletonsInstantiated();
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WarmerState {
+
+        SensitiveMetadataWarmer warmer;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            warmer = newWarmer();
+        }
+    }
+
+    @Benchmark
+    public String coldFirstBuild(ColdState state) {
+        return SensitiveToStringBuilder.build(state.user);
+    }
+
+    @Benchmark
+    public String prewarmedFirstBuild(PrewarmedState state) {
+        return SensitiveToStringBuilder.build(state.user);
+    }
+
+    @Benchmark
+    public int warmUpFromIndex(WarmerState state) {
+        state.warmer.afterSingletonsInstantiated();
+        return state.warmer.getWarmedClassCount();
+    }
+
+    private static SensitiveMetadataWarmer newWarmer() {
+        return new SensitiveMetadataWarmer(new SensitiveLogProperties().getWarmUp());
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.sensitive.benchmark;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * 批量生成互不相同的 DTO 类
+ * <p>
+ * 每个实例都由独立的 {@link ClassLoader} 重新定义同一份模板字节码，
+ * 对 {@code SensitiveEngine} 的字段计划缓存而言就是不同的 Key，从而无需代码生成即可得到
+ * 任意数量的 "不同 DTO 类"。
+ *
+ * @author example
+ */
+final class DistinctClasses {
+
+    private DistinctClasses() {
+    }
+
+    /**
+     * 创建 {@code count} 个实例，每个实例属于一个独立定义的 {@code template} 类
+     *
+     * @param template 模板类，必须有可访问的无参构造
+     * @param count    类的数量
+     * @return 实例数组
+     */
+    static Object[] newInstances(Class<?> template, int count) {
+        byte[] bytecode = readBytecode(template);
+        Object[] instances = new Object[count];
+        for (int i = 0; i < count; i++) {
+            ClassLoader loader = new CloningClassLoader(template.getClassLoader(), template.getName(), bytecode);
+            try {
+                Class<?> clazz = loader.loadClass(template.getName());
+                instances[i] = clazz.getDeclaredConstructor().newInstance();
+            } catch (ClassNotFoundException | NoSuchMethodException | InstantiationException
+                     | IllegalAccessException | InvocationTargetException e) {
+                throw new IllegalStateException("Cannot define copy of " + template.getName(), e);
+            }
+        }
+        return instances;
+    }
+
+    private static byte[] readBytecode(Class<?> template) {
+        String resource = template.getSimpleName() + ".class";
+        try (InputStream in = template.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException("Bytecode not found: " + resource);
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 只为模板类重新定义字节码，其余类委托父加载器
+     */
+    private static final class CloningClassLoader extends ClassLoader {
+
+        private final String className;
+        private final byte[] bytecode;
+
+        CloningClassLoader(ClassLoader parent, String className, byte[] bytecode) {
+            super(parent);
+            this.className = className;
+            this.bytecode = bytecode;
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (!className.equals(name)) {
+                return super.loadClass(name, resolve);
+            }
+            synchronized (getClassLoadingLock(name)) {
+                Class<?> loaded = findLoadedClass(name);
+                if (loaded == null) {
+                    loaded = defineClass(name, bytecode, 0, bytecode.length);
+                }
+                if (resolve) {
+                    resolveClass(loaded);
+                }
+                return loaded;
+            }
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HMAC 假名化基准
+ * <p>
+ * 在 64K 条手机号/身份证语料上轮询，对比：
+ * <ul>
+ *   <li>{@code naive}: 每次 {@code Mac.getInstance + init}</li>
+ *   <li>{@code pooledUncached}: Mac 池复用，不缓存令牌</li>
+ *   <li>{@code pooledCached}: Mac 池复用 + 默认 4096 项令牌缓存</li>
+ * </ul>
+ * {@code access = UNIFORM} 每个值出现概率相同（缓存最坏情况）；
+ * {@code SKEWED} 80% 的访问集中在 1024 个热点值上，接近同一批用户反复出现在日志中的实际分布。
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class HmacBenchmark {
+
+    private static final int CORPUS_SIZE = 1 << 16;
+
+    private static final int HOT_VALUES = 1024;
+
+    public enum Access { UNIFORM, SKEWED }
+
+    @Param
+    private Access access;
+
+    private String[] inputs;
+    private HmacMaskStrategy uncached;
+    private HmacMaskStrategy cached;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        String[] corpus = PiiCorpus.generate(SensitiveType.HMAC, CORPUS_SIZE);
+        inputs = new String[CORPUS_SIZE];
+        SplittableRandom random = new SplittableRandom(PiiCorpus.DEFAULT_SEED);
+        for (int i = 0; i < CORPUS_SIZE; i++) {
+            boolean hot = access == Access.SKEWED && random.nextInt(100) < 80;
+            inputs[i] = corpus[hot ? random.nextInt(HOT_VALUES) : i];
+        }
+        uncached = new HmacMaskStrategy(BenchmarkData.HMAC_KEY, HmacMaskStrategy.DEFAULT_ALGORITHM,
+                HmacMaskStrategy.DEFAULT_TOKEN_LENGTH, 0);
+        cached = new HmacMaskStrategy(BenchmarkData.HMAC_KEY, HmacMaskStrategy.DEFAULT_ALGORITHM,
+                HmacMaskStrategy.DEFAULT_TOKEN_LENGTH, HmacMaskStrategy.DEFAULT_CACHE_SIZE);
+    }
+
+    @Benchmark
+    public String naive() throws GeneralSecurityException {
+        Mac mac = Mac.getInstance(HmacMaskStrategy.DEFAULT_ALGORITHM);
+        mac.init(new SecretKeySpec(BenchmarkData.HMAC_KEY, HmacMaskStrategy.DEFAULT_ALGORITHM));
+        byte[] digest = mac.doFinal(next().getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(digest, 0, HmacMaskStrategy.DEFAULT_TOKEN_LENGTH / 2);
+    }
+
+    @Benchmark
+    public String pooledUncached() {
+        return uncached.mask(next());
+    }
+
+    @Benchmark
+    public String pooledCached() {
+        return cached.mask(next());
+    }
+
+    private String next() {
+        return inputs[cursor++ & (CORPUS_SIZE - 1)];
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.jackson.SensitiveJsonSerializer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson 序列化基准
+ * <p>
+ * 分别测量 {@code forApi} 开启与关闭时，单个 DTO 与 10k 元素列表经由
+ * {@link SensitiveJsonSerializer} 序列化的开销；{@code serializeCorpusList}
+ * 的列表元素以合成语料填充。
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class JacksonSerializationBenchmark {
+
+    private static final int LIST_SIZE = 10_000;
+
+    @Param({"true", "false"})
+    private boolean forApi;
+
+    private ObjectMapper objectMapper;
+    private Object single;
+    private List<Object> list;
+    private List<Object> corpusList;
+
+    @Setup
+    public void setup() {
+        objectMapper = new ObjectMapper();
+        single = forApi ? BenchmarkData.apiMaskedUser(1L) : BenchmarkData.apiPlainUser(1L);
+        list = BenchmarkData.apiUsers(LIST_SIZE, forApi);
+        corpusList = BenchmarkData.corpusApiUsers(LIST_SIZE, forApi);
+    }
+
+    @Benchmark
+    public String serializeSingle() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(single);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String serializeList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(list);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public String serializeCorpusList() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(corpusList);
+    }
+}
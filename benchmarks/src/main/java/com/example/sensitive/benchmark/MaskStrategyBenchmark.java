@@ -0,0 +1,109 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.impl.FpeMaskStrategy;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 单策略脱敏基准
+ * <p>
+ * 对每种 {@link SensitiveType} 分别使用短、典型、长三档固定输入进行测量；
+ * {@code CORPUS} 档在 {@link PiiCorpus} 预生成的 64K 条混合语料上轮询，
+ * 反映真实流量中长度混杂、非法输入带来的分支与分配开销。
+ * {@code CUSTOM} 走 {@link MaskStrategyFactory#maskCustom(String, int, int, char)}（保留前2后3）；
+ * {@code HMAC} 在 setup 中以固定密钥注册 {@link HmacMaskStrategy}（默认 4096 项令牌缓存），
+ * {@code FPE} 同样以固定密钥注册 {@link FpeMaskStrategy}。
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class MaskStrategyBenchmark {
+
+    /** 输入长度档位 */
+    public enum InputSize { SHORT, TYPICAL, LONG, CORPUS }
+
+    /** 语料长度，取 2 的幂以便用位运算轮询 */
+    private static final int CORPUS_SIZE = 1 << 16;
+
+    /** 各类型的 短 / 典型 / 长 输入 */
+    private static final Map<SensitiveType, String[]> INPUTS = new EnumMap<>(SensitiveType.class);
+
+    static {
+        INPUTS.put(SensitiveType.PHONE, new String[]{
+                "1381234", "13812345678", "+86-138-1234-5678-0000-1111"});
+        INPUTS.put(SensitiveType.ID_CARD, new String[]{
+                "1101011990", "110101199001011234", "110101199001011234110101199001011234"});
+        INPUTS.put(SensitiveType.BANK_CARD, new String[]{
+                "62220212", "6222021234567890123", "6222021234567890123622202123456789012362220212"});
+        INPUTS.put(SensitiveType.EMAIL, new String[]{
+                "a@b.cn", "test@example.com", "very.long.local.part.for.benchmark.purposes@mail.subdomain.example.com"});
+        INPUTS.put(SensitiveType.NAME, new String[]{
+                "张三", "张三丰", "Alexander Maximilian Montgomery-Fitzgerald"});
+        INPUTS.put(SensitiveType.ADDRESS, new String[]{
+                "北京市朝阳区", "北京市朝阳区望京街道10号", "广东省深圳市南山区粤海街道科技园南区高新南七道国家工程实验室大楼A座1201室"});
+        INPUTS.put(SensitiveType.IP_ADDRESS, new String[]{
+                "1.1.1.1", "192.168.1.100", "2001:0db8:85a3:0000:0000:8a2e:0370:7334"});
+        INPUTS.put(SensitiveType.TEXT, new String[]{
+                "ab", "VIP 客户，需优先处理", "这是一段较长的备注信息，用于测试通用文本脱敏在长输入下的表现，包含中英文 mixed content 以及数字 1234567890。"});
+        INPUTS.put(SensitiveType.EMBEDDED, new String[]{
+                "已联系", "客户要求改约，联系电话13812345678，邮箱 test@example.com",
+                "这是一段较长的备注信息，用于测试嵌入式 PII 扫描在长输入下的表现。客户身份证号 110101199003077774，"
+                        + "退款至卡号6222021234567890128，订单 ORD20260101000123 已发货，如有疑问请联系 +8613812345678。"});
+        INPUTS.put(SensitiveType.AUTO, new String[]{
+                "张三", "13812345678", "客户要求改约，联系电话13812345678，邮箱 test@example.com，地址北京市朝阳区望京街道10号"});
+        INPUTS.put(SensitiveType.ADDRESS_REGION, new String[]{
+                "北京市朝阳区", "北京市朝阳区望京街道10号", "广东省深圳市南山区粤海街道科技园南区高新南七道国家工程实验室大楼A座1201室"});
+        INPUTS.put(SensitiveType.HMAC, new String[]{
+                "1381234", "13812345678", "110101199001011234110101199001011234110101199001011234"});
+        INPUTS.put(SensitiveType.FPE, new String[]{
+                "622202", "6222021234567890123", "6222-0212-3456-7890-1236-2220-2123-4567"});
+        INPUTS.put(SensitiveType.CUSTOM, new String[]{
+                "123456", "ORD20260101000123", "ORD20260101000123-ORD20260101000124-ORD20260101000125-ORD20260101000126"});
+    }
+
+    @Param
+    private SensitiveType type;
+
+    @Param
+    private InputSize size;
+
+    private String[] inputs;
+
+    private int mask;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        if (type == SensitiveType.HMAC) {
+            MaskStrategyFactory.register(new HmacMaskStrategy(BenchmarkData.HMAC_KEY));
+        } else if (type == SensitiveType.FPE) {
+            MaskStrategyFactory.register(new FpeMaskStrategy(BenchmarkData.FPE_KEY));
+        }
+        inputs = size == InputSize.CORPUS
+                ? PiiCorpus.generate(type, CORPUS_SIZE)
+                : new String[]{INPUTS.get(type)[size.ordinal()]};
+        mask = inputs.length - 1;
+    }
+
+    @Benchmark
+    public String mask() {
+        String input = inputs[cursor++ & mask];
+        if (type == SensitiveType.CUSTOM) {
+            return MaskStrategyFactory.maskCustom(input, 2, 3, '*');
+        }
+        return MaskStrategyFactory.mask(input, type);
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.benchmark.model.ScalingUserDTO;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 字段元数据缓存多线程扩展性基准
+ * <p>
+ * 所有线程共享同一批互不相同的 DTO 类，通过 {@code -t} 或 {@link ScalingRunner}
+ * 改变线程数即可得到吞吐量随线程数变化的曲线。
+ * <ul>
+ *   <li>{@code hotClasses}: {@code classCount} 个类在缓存中常驻，测量命中路径上
+ *       {@link com.example.sensitive.util.SensitiveEngine} 字段计划缓存的并发读取</li>
+ *   <li>{@code classChurn}: 类数量超过默认引擎的缓存上限
+ *       （{@link com.example.sensitive.util.SensitiveEngine#DEFAULT_MAX_CACHE_SIZE}，可经 {@code setMaxCacheSize} 调整），
+ *       持续触发整表清空与重建</li>
+ * </ul>
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+public class MetadataCacheScalingBenchmark {
+
+    /** 超过 SensitiveEngine.DEFAULT_MAX_CACHE_SIZE (10000) 的类数量 */
+    private static final int CHURN_CLASS_COUNT = 12_000;
+
+    /**
+     * 常驻缓存的类，所有线程共享
+     */
+    @State(Scope.Benchmark)
+    public static class HotClasses {
+
+        @Param({"100", "500"})
+        int classCount;
+
+        Object[] instances;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SensitiveToStringBuilder.clearCache();
+            instances = DistinctClasses.newInstances(ScalingUserDTO.class, classCount);
+            for (Object instance : instances) {
+                SensitiveToStringBuilder.build(instance);
+            }
+        }
+    }
+
+    /**
+     * 超出缓存上限的类，所有线程共享
+     */
+    @State(Scope.Benchmark)
+    public static class ChurnClasses {
+
+        Object[] instances;
+
+        @Setup(Level.Trial)
+        public void setup() {
+            SensitiveToStringBuilder.clearCache();
+            instances = DistinctClasses.newInstances(ScalingUserDTO.class, CHURN_CLASS_COUNT);
+        }
+    }
+
+    /**
+     * 每个线程独立的游标，起点随机以避免线程间步调一致
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int next;
+
+        @Setup(Level.Iteration)
+        public void setup() {
+            next = ThreadLocalRandom.current().nextInt(CHURN_CLASS_COUNT);
+        }
+
+        Object pick(Object[] instances) {
+            int index = next++ % instances.length;
+            if (next == Integer.MAX_VALUE) {
+                next = 0;
+            }
+            return instances[index];
+        }
+    }
+
+    @Benchmark
+    public String hotClasses(HotClasses classes, Cursor cursor) {
+        return SensitiveToStringBuilder.build(cursor.pick(classes.instances));
+    }
+
+    @Benchmark
+    public String classChurn(ChurnClasses classes, Cursor cursor) {
+        return SensitiveToStringBuilder.build(cursor.pick(classes.instances));
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.reactive.SensitiveJsonEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.PooledByteBufAllocator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.core.io.buffer.NettyDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.AbstractJackson2Encoder;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * WebFlux 流式导出基准
+ * <p>
+ * 以 NDJSON 编码 10k 个 forApi 脱敏 DTO，逐个释放缓冲区（模拟写出到网络），对比：
+ * <ul>
+ *   <li>{@code encoder}: Spring 默认 {@link Jackson2JsonEncoder} / {@link SensitiveJsonEncoder}</li>
+ *   <li>{@code buffers}: 堆缓冲区 / Netty 池化缓冲区（WebFlux on Netty 的实际情况）</li>
+ * </ul>
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class ReactiveStreamingBenchmark {
+
+    private static final int ELEMENTS = 10_000;
+
+    private static final ResolvableType ELEMENT_TYPE = ResolvableType.forClass(Object.class);
+
+    public enum EncoderKind { JACKSON, SENSITIVE }
+
+    public enum BufferKind { HEAP, NETTY_POOLED }
+
+    @Param
+    private EncoderKind encoder;
+
+    @Param
+    private BufferKind buffers;
+
+    private AbstractJackson2Encoder jsonEncoder;
+    private DataBufferFactory bufferFactory;
+    private List<Object> users;
+
+    @Setup
+    public void setup() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jsonEncoder = encoder == EncoderKind.JACKSON
+                ? new Jackson2JsonEncoder(objectMapper)
+                : new SensitiveJsonEncoder(objectMapper);
+        bufferFactory = buffers == BufferKind.HEAP
+                ? DefaultDataBufferFactory.sharedInstance
+                : new NettyDataBufferFactory(PooledByteBufAllocator.DEFAULT);
+        users = BenchmarkData.corpusApiUsers(ELEMENTS, true);
+    }
+
+    @Benchmark
+    public long encodeNdjson() {
+        return jsonEncoder.encode(Flux.fromIterable(users), bufferFactory, ELEMENT_TYPE,
+                        MediaType.APPLICATION_NDJSON, null)
+                .map(ReactiveStreamingBenchmark::consume)
+                .reduce(0L, Long::sum)
+                .block();
+    }
+
+    private static long consume(DataBuffer buffer) {
+        int size = buffer.readableByteCount();
+        DataBufferUtils.release(buffer);
+        return size;
+    }
+}
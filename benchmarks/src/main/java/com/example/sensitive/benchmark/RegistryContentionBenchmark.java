@@ -0,0 +1,49 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.impl.PhoneMaskStrategy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 策略注册表并发基准
+ * <p>
+ * {@code readOnly} 只做查找与脱敏；{@code registry} 组中一个线程持续调用
+ * {@link MaskStrategyFactory#register}，其余线程同时脱敏，观察写入对读路径的影响。
+ * 组内线程比例为 1 写 : 3 读，{@code -t} 会按组大小向上取整。
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Benchmark)
+public class RegistryContentionBenchmark {
+
+    private static final String PHONE = "13812345678";
+
+    private final PhoneMaskStrategy replacement = new PhoneMaskStrategy();
+
+    @Benchmark
+    public String readOnly() {
+        return MaskStrategyFactory.mask(PHONE, SensitiveType.PHONE);
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(3)
+    public String registryMask() {
+        return MaskStrategyFactory.mask(PHONE, SensitiveType.PHONE);
+    }
+
+    @Benchmark
+    @Group("registry")
+    @GroupThreads(1)
+    public void registryRegister() {
+        MaskStrategyFactory.register(replacement);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.sensitive.benchmark;
+
+import org.openjdk.jmh.results.RunResult;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 多线程扩展曲线运行器
+ * <p>
+ * 依次以 1、2、4 … N 个线程运行扩展性基准，输出每个基准在各线程数下的吞吐量、
+ * 相对单线程的加速比与并行效率。
+ *
+ * 命令行参数与 {@code org.openjdk.jmh.Main} 相同（{@code -t} 除外，由本类控制），
+ * 最大线程数 N 通过 {@code -Dscaling.maxThreads} 指定，默认为 CPU 核数。
+ *
+ * <p>运行方式:
+ * <pre>
+ * java -cp benchmarks/target/benchmarks.jar com.example.sensitive.benchmark.ScalingRunner
+ *
+ * # 64 核机器，只跑元数据缓存基准
+ * java -Dscaling.maxThreads=64 -cp benchmarks/target/benchmarks.jar \
+ *      com.example.sensitive.benchmark.ScalingRunner MetadataCache
+ * </pre>
+ *
+ * @author example
+ */
+public final class ScalingRunner {
+
+    private static final String DEFAULT_INCLUDE = "MetadataCacheScalingBenchmark|RegistryContentionBenchmark";
+
+    private ScalingRunner() {
+    }
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions cmdOptions = new CommandLineOptions(args);
+        int maxThreads = Integer.getInteger("scaling.maxThreads", Runtime.getRuntime().availableProcessors());
+
+        // benchmark -> (threads -> ops/ms)
+        Map<String, Map<Integer, Double>> curves = new LinkedHashMap<>();
+        for (int threads : threadCounts(maxThreads)) {
+            OptionsBuilder builder = new OptionsBuilder();
+            builder.parent(cmdOptions);
+            if (cmdOptions.getIncludes().isEmpty()) {
+                builder.include(DEFAULT_INCLUDE);
+            }
+            Options options = builder.threads(threads).build();
+            Collection<RunResult> results = new Runner(options).run();
+            for (RunResult result : results) {
+                String label = label(result);
+                curves.computeIfAbsent(label, k -> new LinkedHashMap<>())
+                        .put(threads, result.getPrimaryResult().getScore());
+            }
+        }
+
+        printCurves(curves);
+    }
+
+    /**
+     * 1, 2, 4 … 直到 maxThreads（maxThreads 本身总会包含在内）
+     */
+    static List<Integer> threadCounts(int maxThreads) {
+        TreeSet<Integer> counts = new TreeSet<>();
+        for (int t = 1; t < maxThreads; t <<= 1) {
+            counts.add(t);
+        }
+        counts.add(Math.max(1, maxThreads));
+        return new ArrayList<>(counts);
+    }
+
+    private static String label(RunResult result) {
+        StringBuilder sb = new StringBuilder(result.getParams().getBenchmark());
+        for (String key : result.getParams().getParamsKeys()) {
+            sb.append(' ').append(key).append('=').append(result.getParams().getParam(key));
+        }
+        return sb.toString();
+    }
+
+    private static void printCurves(Map<String, Map<Integer, Double>> curves) {
+        System.out.println();
+        System.out.println("# Throughput scaling (ops/ms)");
+        System.out.printf("%-90s %8s %14s %9s %11s%n", "Benchmark", "Threads", "Score", "Speedup", "Efficiency");
+        for (Map.Entry<String, Map<Integer, Double>> curve : curves.entrySet()) {
+            Double base = curve.getValue().values().iterator().next();
+            for (Map.Entry<Integer, Double> point : curve.getValue().entrySet()) {
+                int threads = point.getKey();
+                double speedup = point.getValue() / base;
+                System.out.printf("%-90s %8d %14.3f %8.2fx %10.1f%%%n",
+                        curve.getKey(), threads, point.getValue(), speedup, speedup / threads * 100);
+            }
+        }
+    }
+}
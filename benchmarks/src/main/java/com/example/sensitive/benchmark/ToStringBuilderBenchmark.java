@@ -0,0 +1,59 @@
+package com.example.sensitive.benchmark;
+
+import com.example.sensitive.benchmark.model.LogUserDTO;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link SensitiveToStringBuilder} 渲染基准
+ * <p>
+ * 对比全量渲染、包含指定字段、排除指定字段三种入口的开销；
+ * {@code buildCorpus} 在 4096 个以合成语料填充的 DTO 上轮询全量渲染。
+ *
+ * @author example
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(2)
+@State(Scope.Thread)
+public class ToStringBuilderBenchmark {
+
+    /** 语料 DTO 数量，取 2 的幂以便用位运算轮询 */
+    private static final int CORPUS_SIZE = 4096;
+
+    private LogUserDTO user;
+
+    private LogUserDTO[] corpusUsers;
+
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        user = BenchmarkData.logUser();
+        corpusUsers = BenchmarkData.corpusLogUsers(CORPUS_SIZE);
+    }
+
+    @Benchmark
+    public String build() {
+        return SensitiveToStringBuilder.build(user);
+    }
+
+    @Benchmark
+    public String buildWith() {
+        return SensitiveToStringBuilder.buildWith(user, "id", "phone", "realName");
+    }
+
+    @Benchmark
+    public String buildWithout() {
+        return SensitiveToStringBuilder.buildWithout(user, "createTime", "remark");
+    }
+
+    @Benchmark
+    public String buildCorpus() {
+        return SensitiveToStringBuilder.build(corpusUsers[cursor++ & (CORPUS_SIZE - 1)]);
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.sensitive.benchmark.load;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * 单线程延迟记录器，按需扩容的原始数组，测量结束后合并排序求分位数
+ *
+ * @author example
+ */
+final class LatencyRecorder {
+
+    private long[] latencies = new long[1 << 14];
+    private int count;
+
+    void record(long nanos) {
+        if (count == latencies.length) {
+            latencies = Arrays.copyOf(latencies, count << 1);
+        }
+        latencies[count++] = nanos;
+    }
+
+    void merge(LatencyRecorder other) {
+        for (int i = 0; i < other.count; i++) {
+            record(other.latencies[i]);
+        }
+    }
+
+    LoadResult toResult(Duration elapsed) {
+        long[] sorted = Arrays.copyOf(latencies, count);
+        Arrays.sort(sorted);
+        double rps = count / (elapsed.toNanos() / 1e9);
+        return new LoadResult(count, rps, percentile(sorted, 0.50), percentile(sorted, 0.99));
+    }
+
+    private static long percentile(long[] sorted, double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(p * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+}
@@ -0,0 +1,135 @@
+package com.example.sensitive.benchmark.load;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 端到端吞吐量 / 延迟压测
+ * <p>
+ * 在本进程内启动 {@link LoadHarnessApplication}（随机端口），用 JDK {@link HttpClient}
+ * 以固定并发闭环压测列表接口，分别测量 {@code forApi} 脱敏开启与关闭、不同列表大小下的
+ * RPS 与 p50 / p99 延迟。结果包含完整的 {@code MappingJackson2HttpMessageConverter} 管道开销。
+ *
+ * <p>可通过系统属性调整:
+ * <ul>
+ *   <li>{@code load.concurrency} 并发请求数，默认 8</li>
+ *   <li>{@code load.warmupSeconds} 每个场景预热秒数，默认 5</li>
+ *   <li>{@code load.durationSeconds} 每个场景测量秒数，默认 15</li>
+ *   <li>{@code load.sizes} 列表大小，逗号分隔，默认 1,100,1000</li>
+ * </ul>
+ *
+ * <p>运行方式:
+ * <pre>
+ * java -Dload.concurrency=32 -cp benchmarks/target/benchmarks.jar \
+ *      com.example.sensitive.benchmark.load.LoadHarness
+ * </pre>
+ *
+ * @author example
+ */
+public final class LoadHarness {
+
+    private LoadHarness() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 8);
+        int warmupSeconds = Integer.getInteger("load.warmupSeconds", 5);
+        int durationSeconds = Integer.getInteger("load.durationSeconds", 15);
+        int[] sizes = Arrays.stream(System.getProperty("load.sizes", "1,100,1000").split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+
+        ConfigurableApplicationContext context = SpringApplication.run(LoadHarnessApplication.class,
+                "--server.port=0", "--spring.main.banner-mode=off", "--logging.level.root=WARN");
+        int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+
+        List<LoadResult> results = new ArrayList<>();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .build();
+        try {
+            // 先预热全部场景，避免第一个场景承担 JIT 编译成本
+            for (int size : sizes) {
+                for (boolean masked : new boolean[]{true, false}) {
+                    run(client, executor, uri(port, masked, size), concurrency, warmupSeconds);
+                }
+            }
+            for (int size : sizes) {
+                for (boolean masked : new boolean[]{true, false}) {
+                    LoadResult result = run(client, executor, uri(port, masked, size), concurrency, durationSeconds)
+                            .describe(masked, size);
+                    results.add(result);
+                    System.out.println(result);
+                }
+            }
+        } finally {
+            executor.shutdownNow();
+            context.close();
+        }
+
+        System.out.println();
+        System.out.printf("# concurrency=%d, duration=%ds, cpus=%d, jvm=%s%n", concurrency, durationSeconds,
+                Runtime.getRuntime().availableProcessors(), System.getProperty("java.vm.version"));
+        System.out.println(LoadResult.HEADER);
+        results.forEach(System.out::println);
+    }
+
+    private static URI uri(int port, boolean masked, int size) {
+        return URI.create("http://localhost:" + port
+                + (masked ? "/users/masked" : "/users/plain") + "?size=" + size);
+    }
+
+    /**
+     * 以固定并发闭环压测指定接口
+     */
+    private static LoadResult run(HttpClient client, ExecutorService executor, URI uri,
+                                  int concurrency, int seconds) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).GET().build();
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(seconds);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<LatencyRecorder>> futures = new ArrayList<>(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(executor.submit(() -> {
+                LatencyRecorder recorder = new LatencyRecorder();
+                start.await();
+                while (System.nanoTime() < deadline) {
+                    long begin = System.nanoTime();
+                    HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                    long elapsed = System.nanoTime() - begin;
+                    if (response.statusCode() != 200) {
+                        throw new IOException("Unexpected status " + response.statusCode() + " for " + uri);
+                    }
+                    recorder.record(elapsed);
+                }
+                return recorder;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        LatencyRecorder merged = new LatencyRecorder();
+        for (Future<LatencyRecorder> future : futures) {
+            merged.merge(future.get());
+        }
+        return merged.toResult(Duration.ofNanos(System.nanoTime() - begin));
+    }
+}
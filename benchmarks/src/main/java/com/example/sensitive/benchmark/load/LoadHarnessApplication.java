@@ -0,0 +1,77 @@
+package com.example.sensitive.benchmark.load;
+
+import com.example.sensitive.benchmark.model.ApiMaskedUserDTO;
+import com.example.sensitive.benchmark.model.ApiPlainUserDTO;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 压测用内嵌 Spring MVC 应用
+ * <p>
+ * 两个列表接口返回结构相同的 DTO，区别仅在于 {@code @Sensitive(forApi)}：
+ * <ul>
+ *   <li>{@code /users/masked}: forApi = true，经 SensitiveJsonSerializer 脱敏</li>
+ *   <li>{@code /users/plain}: forApi = false，原文输出</li>
+ * </ul>
+ * 列表按大小预先构建并缓存，请求耗时只包含 MVC 管道与序列化本身。
+ *
+ * @author example
+ */
+@SpringBootApplication
+@RestController
+public class LoadHarnessApplication {
+
+    private final Map<Integer, List<ApiMaskedUserDTO>> maskedUsers = new ConcurrentHashMap<>();
+    private final Map<Integer, List<ApiPlainUserDTO>> plainUsers = new ConcurrentHashMap<>();
+
+    @GetMapping("/users/masked")
+    public List<ApiMaskedUserDTO> maskedUsers(@RequestParam(name = "size", defaultValue = "10") int size) {
+        return maskedUsers.computeIfAbsent(size, LoadHarnessApplication::newMaskedUsers);
+    }
+
+    @GetMapping("/users/plain")
+    public List<ApiPlainUserDTO> plainUsers(@RequestParam(name = "size", defaultValue = "10") int size) {
+        return plainUsers.computeIfAbsent(size, LoadHarnessApplication::newPlainUsers);
+    }
+
+    private static List<ApiMaskedUserDTO> newMaskedUsers(int size) {
+        List<ApiMaskedUserDTO> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ApiMaskedUserDTO user = new ApiMaskedUserDTO();
+            user.setId((long) i);
+            user.setUsername("user" + i);
+            user.setPhone("13812345678");
+            user.setIdCard("110101199001011234");
+            user.setBankCard("6222021234567890123");
+            user.setEmail("test@example.com");
+            user.setRealName("张三丰");
+            user.setAddress("北京市朝阳区望京街道10号");
+            users.add(user);
+        }
+        return users;
+    }
+
+    private static List<ApiPlainUserDTO> newPlainUsers(int size) {
+        List<ApiPlainUserDTO> users = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ApiPlainUserDTO user = new ApiPlainUserDTO();
+            user.setId((long) i);
+            user.setUsername("user" + i);
+            user.setPhone("13812345678");
+            user.setIdCard("110101199001011234");
+            user.setBankCard("6222021234567890123");
+            user.setEmail("test@example.com");
+            user.setRealName("张三丰");
+            user.setAddress("北京市朝阳区望京街道10号");
+            users.add(user);
+        }
+        return users;
+    }
+}
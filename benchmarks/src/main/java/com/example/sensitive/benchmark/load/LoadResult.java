@@ -0,0 +1,32 @@
+package com.example.sensitive.benchmark.load;
+
+/**
+ * 单个压测场景的结果
+ *
+ * @param requests 完成的请求数
+ * @param rps      每秒请求数
+ * @param p50Nanos p50 延迟（纳秒）
+ * @param p99Nanos p99 延迟（纳秒）
+ * @param masked   是否为 forApi = true 接口
+ * @param size     列表大小
+ * @author example
+ */
+record LoadResult(long requests, double rps, long p50Nanos, long p99Nanos, boolean masked, int size) {
+
+    static final String HEADER = String.format("%-8s %6s %10s %12s %10s %10s",
+            "forApi", "size", "requests", "rps", "p50(ms)", "p99(ms)");
+
+    LoadResult(long requests, double rps, long p50Nanos, long p99Nanos) {
+        this(requests, rps, p50Nanos, p99Nanos, false, 0);
+    }
+
+    LoadResult describe(boolean masked, int size) {
+        return new LoadResult(requests, rps, p50Nanos, p99Nanos, masked, size);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%-8s %6d %10d %12.1f %10.3f %10.3f",
+                masked ? "on" : "off", size, requests, rps, p50Nanos / 1e6, p99Nanos / 1e6);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.sensitive.benchmark.model;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+
+/**
+ * Jackson 基准用 DTO（forApi = true，API 序列化时脱敏）
+ *
+ * @author example
+ */
+public class ApiMaskedUserDTO {
+
+    private Long id;
+    private String username;
+
+    @Sensitive(type = SensitiveType.PHONE, forApi = true)
+    private String phone;
+
+    @Sensitive(type = SensitiveType.ID_CARD, forApi = true)
+    private String idCard;
+
+    @Sensitive(type = SensitiveType.BANK_CARD, forApi = true)
+    private String bankCard;
+
+    @Sensitive(type = SensitiveType.EMAIL, forApi = true)
+    private String email;
+
+    @Sensitive(type = SensitiveType.NAME, forApi = true)
+    private String realName;
+
+    @Sensitive(type = SensitiveType.ADDRESS, forApi = true)
+    private String address;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+    public String getIdCard() { return idCard; }
+    public void setIdCard(String idCard) { this.idCard = idCard; }
+    public String getBankCard() { return bankCard; }
+    public void setBankCard(String bankCard) { this.bankCard = bankCard; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getRealName() { return realName; }
+    public void setRealName(String realName) { this.realName = realName; }
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+}
@@ -0,0 +1,73 @@
+package com.example.sensitive.benchmark.model;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.support.SensitiveEntity;
+
+import java.time.LocalDateTime;
+
+/**
+ * 日志脱敏基准用 DTO（继承 SensitiveEntity，覆盖全部内置脱敏类型）
+ *
+ * @author example
+ */
+public class LogUserDTO extends SensitiveEntity {
+
+    private Long id;
+    private String username;
+
+    @Sensitive(type = SensitiveType.PHONE)
+    private String phone;
+
+    @Sensitive(type = SensitiveType.ID_CARD)
+    private String idCard;
+
+    @Sensitive(type = SensitiveType.BANK_CARD)
+    private String bankCard;
+
+    @Sensitive(type = SensitiveType.EMAIL)
+    private String email;
+
+    @Sensitive(type = SensitiveType.NAME)
+    private String realName;
+
+    @Sensitive(type = SensitiveType.ADDRESS)
+    private String address;
+
+    @Sensitive(type = SensitiveType.IP_ADDRESS)
+    private String loginIp;
+
+    @Sensitive(type = SensitiveType.TEXT)
+    private String remark;
+
+    @Sensitive(type = SensitiveType.CUSTOM, prefixLength = 2, suffixLength = 3)
+    private String orderNo;
+
+    private LocalDateTime createTime;
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+    public String getUsername() { return username; }
+    public void setUsername(String username) { this.username = username; }
+    public String getPhone() { return phone; }
+    public void setPhone(String phone) { this.phone = phone; }
+    public String getIdCard() { return idCard; }
+    public void setIdCard(String idCard) { this.idCard = idCard; }
+    public String getBankCard() { return bankCard; }
+    public void setBankCard(String bankCard) { this.bankCard = bankCard; }
+    public String getEmail() { return email; }
+    public void setEmail(String email) { this.email = email; }
+    public String getRealName() { return realName; }
+    public void setRealName(String realName) { this.realName = realName; }
+    public String getAddress() { return address; }
+    public void setAddress(String address) { this.address = address; }
+    public String getLoginIp() { return loginIp; }
+    public void setLoginIp(String loginIp) { this.loginIp = loginIp; }
+    public String getRemark() { return remark; }
+    public void setRemark(String remark) { this.remark = remark; }
+    public String getOrderNo() { return orderNo; }
+    public void setOrderNo(String orderNo) { this.orderNo = orderNo; }
+    public LocalDateTime getCreateTime() { return createTime; }
+    public void setCreateTime(LocalDateTime createTime) { this.createTime = createTime; }
+}
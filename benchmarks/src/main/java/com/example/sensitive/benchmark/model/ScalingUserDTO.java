@@ -0,0 +1,31 @@
+package com.example.sensitive.benchmark.model;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.support.SensitiveEntity;
+
+/**
+ * 多线程扩展性基准用的模板 DTO
+ * <p>
+ * 基准会通过独立的 ClassLoader 重复定义此类，得到成百上千个互不相同的
+ * {@code Class} 对象，用于模拟大量不同 DTO 类型同时打日志的场景。
+ * 因此字段值直接在声明处初始化，只需无参构造即可得到完整实例。
+ *
+ * @author example
+ */
+public class ScalingUserDTO extends SensitiveEntity {
+
+    private Long id = 1L;
+
+    @Sensitive(type = SensitiveType.PHONE)
+    private String phone = "13812345678";
+
+    @Sensitive(type = SensitiveType.ID_CARD)
+    private String idCard = "110101199001011234";
+
+    @Sensitive(type = SensitiveType.NAME)
+    private String realName = "张三丰";
+
+    @Sensitive(type = SensitiveType.EMAIL)
+    private String email = "test@example.com";
+}
@@ -0,0 +1,118 @@
+package com.example.sensitive.benchmark.report;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JMH JSON 结果中的单条基准记录
+ *
+ * @param benchmark   基准全名（类名.方法名）
+ * @param params      {@code @Param} 取值，按声明顺序
+ * @param mode        JMH 模式缩写（thrpt / avgt / ss ...）
+ * @param threads     线程数
+ * @param score       主指标得分
+ * @param scoreError  主指标 99.9% 置信区间半宽，迭代不足时为 NaN
+ * @param unit        主指标单位
+ * @param samples     主指标所有 fork 的迭代原始值
+ * @param allocNorm   {@code gc.alloc.rate.norm}（字节/次），未挂载 gc profiler 时为 NaN
+ * @param jvm         运行时 JVM 描述
+ * @author example
+ */
+record BenchmarkResult(String benchmark, Map<String, String> params, String mode, int threads,
+                       double score, double scoreError, String unit, double[] samples,
+                       double allocNorm, String jvm) {
+
+    private static final String ALLOC_NORM = "gc.alloc.rate.norm";
+
+    /**
+     * 基准 + 参数 + 线程数，作为基线比对的 Key
+     */
+    String key() {
+        StringBuilder sb = new StringBuilder(benchmark);
+        params.forEach((name, value) -> sb.append(' ').append(name).append('=').append(value));
+        if (threads > 1) {
+            sb.append(" threads=").append(threads);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 去掉包名后的短名称，用于报告展示
+     */
+    String shortName() {
+        int method = benchmark.lastIndexOf('.');
+        int clazz = benchmark.lastIndexOf('.', method - 1);
+        return benchmark.substring(clazz + 1);
+    }
+
+    /**
+     * 得分是否越大越好（吞吐量模式）
+     */
+    boolean higherIsBetter() {
+        return "thrpt".equals(mode);
+    }
+
+    /**
+     * 读取 JMH {@code -rf json} 输出文件
+     *
+     * @param file 结果文件
+     * @return 结果列表，按文件中顺序
+     * @throws IOException 读取或解析失败
+     */
+    static List<BenchmarkResult> read(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return Collections.emptyList();
+        }
+        JsonNode root = new ObjectMapper().readTree(file.toFile());
+        List<BenchmarkResult> results = new ArrayList<>();
+        for (JsonNode node : root) {
+            results.add(parse(node));
+        }
+        return results;
+    }
+
+    private static BenchmarkResult parse(JsonNode node) {
+        Map<String, String> params = new LinkedHashMap<>();
+        JsonNode paramsNode = node.path("params");
+        Iterator<Map.Entry<String, JsonNode>> fields = paramsNode.fields();
+        while (fields.hasNext()) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+
+        JsonNode primary = node.path("primaryMetric");
+        JsonNode alloc = node.path("secondaryMetrics").path(ALLOC_NORM);
+
+        return new BenchmarkResult(
+                node.path("benchmark").asText(),
+                params,
+                node.path("mode").asText(),
+                node.path("threads").asInt(1),
+                primary.path("score").asDouble(Double.NaN),
+                primary.path("scoreError").asDouble(Double.NaN),
+                primary.path("scoreUnit").asText(),
+                flatten(primary.path("rawData")),
+                alloc.isMissingNode() ? Double.NaN : alloc.path("score").asDouble(Double.NaN),
+                node.path("vmName").asText() + " " + node.path("jdkVersion").asText());
+    }
+
+    private static double[] flatten(JsonNode rawData) {
+        List<Double> values = new ArrayList<>();
+        for (JsonNode fork : rawData) {
+            for (JsonNode iteration : fork) {
+                values.add(iteration.asDouble());
+            }
+        }
+        return values.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.sensitive.benchmark.report;
+
+/**
+ * 单条基准结果与基线的比对
+ *
+ * @param current   本次结果
+ * @param baseline  基线结果，无基线时为 null
+ * @param change    得分相对基线的变化比例（正数为得分变大）
+ * @param pValue    Welch t 检验 p 值，样本不足时为 NaN
+ * @param status    比对结论
+ * @param allocRegression 每次操作分配字节数是否显著增加
+ * @author example
+ */
+record Comparison(BenchmarkResult current, BenchmarkResult baseline, double change, double pValue,
+                  Status status, boolean allocRegression) {
+
+    /**
+     * 比对结论
+     */
+    enum Status {
+        /** 显著变慢 */
+        REGRESSION("⚠️ 退化"),
+        /** 显著变快 */
+        IMPROVEMENT("🚀 提升"),
+        /** 差异不显著或未超过阈值 */
+        UNCHANGED("✅ 持平"),
+        /** 样本不足以判断显著性 */
+        INCONCLUSIVE("❔ 样本不足"),
+        /** 基线中不存在 */
+        NEW("🆕 新增");
+
+        private final String label;
+
+        Status(String label) {
+            this.label = label;
+        }
+
+        String label() {
+            return label;
+        }
+    }
+
+    /**
+     * 与基线比对
+     *
+     * @param current   本次结果
+     * @param baseline  基线结果，可为 null
+     * @param alpha     显著性水平
+     * @param threshold 最小相对变化，低于该值即使显著也视为持平
+     * @return 比对结果
+     */
+    static Comparison of(BenchmarkResult current, BenchmarkResult baseline, double alpha, double threshold) {
+        if (baseline == null) {
+            return new Comparison(current, null, Double.NaN, Double.NaN, Status.NEW, false);
+        }
+
+        double change = (current.score() - baseline.score()) / baseline.score();
+        double pValue = Statistics.welchPValue(current.samples(), baseline.samples());
+        boolean significant = Double.isNaN(pValue)
+                ? confidenceIntervalsDisjoint(current, baseline)
+                : pValue < alpha;
+
+        Status status;
+        if (Double.isNaN(pValue) && (Double.isNaN(current.scoreError()) || Double.isNaN(baseline.scoreError()))) {
+            status = Status.INCONCLUSIVE;
+        } else if (!significant || Math.abs(change) < threshold) {
+            status = Status.UNCHANGED;
+        } else {
+            boolean better = current.higherIsBetter() ? change > 0 : change < 0;
+            status = better ? Status.IMPROVEMENT : Status.REGRESSION;
+        }
+
+        return new Comparison(current, baseline, change, pValue, status,
+                allocRegression(current.allocNorm(), baseline.allocNorm(), threshold));
+    }
+
+    private static boolean confidenceIntervalsDisjoint(BenchmarkResult a, BenchmarkResult b) {
+        return a.score() - a.scoreError() > b.score() + b.scoreError()
+                || b.score() - b.scoreError() > a.score() + a.scoreError();
+    }
+
+    /**
+     * 分配量几乎是确定值，超过阈值且绝对增加至少一个对象头（16 字节）即视为退化
+     */
+    private static boolean allocRegression(double current, double baseline, double threshold) {
+        if (Double.isNaN(current) || Double.isNaN(baseline)) {
+            return false;
+        }
+        return current - baseline >= 16 && current > baseline * (1 + threshold);
+    }
+
+    boolean isRegression() {
+        return status == Status.REGRESSION || allocRegression;
+    }
+}
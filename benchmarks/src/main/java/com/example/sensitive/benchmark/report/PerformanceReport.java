@@ -0,0 +1,252 @@
+package com.example.sensitive.benchmark.report;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 根据 JMH JSON 结果生成性能报告，并与基线比对
+ * <p>
+ * 每条结果按 "基准 + 参数 + 线程数" 与基线匹配，用 Welch t 检验（迭代原始值）判断差异是否显著；
+ * 显著且相对变化超过阈值时标记为退化或提升。每次操作分配字节数增加超过阈值同样视为退化。
+ * <p>
+ * 得分只在同一台机器、同一套 JMH 设置之间可比：基线与报告是本地产物（不入库），在目标硬件上按基准类声明的
+ * fork 与迭代次数运行后生成；不要用 {@code -f 1} 等缩短的运行覆盖基线。
+ *
+ * <p>参数（均可省略）:
+ * <ul>
+ *   <li>{@code --result <file>} JMH 结果，默认 {@code jmh-result.json}</li>
+ *   <li>{@code --baseline <file>} 基线，默认 {@code benchmarks/baseline/jmh-baseline.json}</li>
+ *   <li>{@code --output <file>} 报告，默认 {@code benchmarks/target/PERFORMANCE_REPORT.md}</li>
+ *   <li>{@code --alpha <p>} 显著性水平，默认 0.01</li>
+ *   <li>{@code --threshold <ratio>} 最小相对变化，默认 0.05</li>
+ *   <li>{@code --update-baseline} 生成报告后用本次结果覆盖基线</li>
+ *   <li>{@code --fail-on-regression} 存在退化时以退出码 2 结束，便于 CI 拦截</li>
+ * </ul>
+ *
+ * <p>运行方式:
+ * <pre>
+ * java -jar benchmarks/target/benchmarks.jar          # 生成 jmh-result.json
+ * java -cp benchmarks/target/benchmarks.jar \
+ *      com.example.sensitive.benchmark.report.PerformanceReport --fail-on-regression
+ * </pre>
+ *
+ * @author example
+ */
+public final class PerformanceReport {
+
+    private static final DateTimeFormatter TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    private PerformanceReport() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseArgs(args);
+        Path resultFile = Paths.get(options.getOrDefault("result", "jmh-result.json"));
+        Path baselineFile = Paths.get(options.getOrDefault("baseline", "benchmarks/baseline/jmh-baseline.json"));
+        Path outputFile = Paths.get(options.getOrDefault("output", "benchmarks/target/PERFORMANCE_REPORT.md"));
+        double alpha = Double.parseDouble(options.getOrDefault("alpha", "0.01"));
+        double threshold = Double.parseDouble(options.getOrDefault("threshold", "0.05"));
+
+        List<BenchmarkResult> current = BenchmarkResult.read(resultFile);
+        if (current.isEmpty()) {
+            System.err.println("No JMH results found in " + resultFile);
+            System.exit(1);
+            return;
+        }
+        Map<String, BenchmarkResult> baseline = new HashMap<>();
+        for (BenchmarkResult result : BenchmarkResult.read(baselineFile)) {
+            baseline.put(result.key(), result);
+        }
+
+        List<Comparison> comparisons = new ArrayList<>(current.size());
+        for (BenchmarkResult result : current) {
+            comparisons.add(Comparison.of(result, baseline.get(result.key()), alpha, threshold));
+        }
+
+        String report = render(comparisons, baselineFile, baseline.size(), alpha, threshold);
+        if (outputFile.getParent() != null) {
+            Files.createDirectories(outputFile.getParent());
+        }
+        Files.writeString(outputFile, report);
+        System.out.println("Report written to " + outputFile);
+
+        if (options.containsKey("update-baseline")) {
+            if (baselineFile.getParent() != null) {
+                Files.createDirectories(baselineFile.getParent());
+            }
+            Files.copy(resultFile, baselineFile, StandardCopyOption.REPLACE_EXISTING);
+            System.out.println("Baseline updated: " + baselineFile);
+        }
+
+        List<Comparison> regressions = comparisons.stream().filter(Comparison::isRegression).toList();
+        regressions.forEach(c -> System.out.println("REGRESSION " + c.current().key()));
+        if (!regressions.isEmpty() && options.containsKey("fail-on-regression")) {
+            System.exit(2);
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--")) {
+                throw new IllegalArgumentException("Unexpected argument: " + args[i]);
+            }
+            String name = args[i].substring(2);
+            boolean hasValue = i + 1 < args.length && !args[i + 1].startsWith("--");
+            options.put(name, hasValue ? args[++i] : "true");
+        }
+        return options;
+    }
+
+    // ==================== 报告渲染 ====================
+
+    static String render(List<Comparison> comparisons, Path baselineFile, int baselineSize,
+                         double alpha, double threshold) {
+        StringBuilder md = new StringBuilder(8192);
+        BenchmarkResult first = comparisons.get(0).current();
+
+        md.append("# 敏感日志脱敏组件 - 性能测试报告\n\n");
+        md.append("> 本文件由 `com.example.sensitive.benchmark.report.PerformanceReport` 根据 JMH JSON 结果自动生成，请勿手工编辑。\n\n");
+        md.append("**生成时间**: ").append(LocalDateTime.now().format(TIME_FORMAT))
+                .append(" | **JVM**: ").append(first.jvm())
+                .append(" | **基线**: `").append(baselineFile).append("` (").append(baselineSize).append(" 条)\n\n");
+        md.append("---\n\n");
+
+        renderSummary(md, comparisons, alpha, threshold);
+        renderDetails(md, comparisons);
+        renderHowTo(md);
+        return md.toString();
+    }
+
+    private static void renderSummary(StringBuilder md, List<Comparison> comparisons, double alpha, double threshold) {
+        md.append("## 结果摘要\n\n");
+        Map<Comparison.Status, Long> counts = comparisons.stream()
+                .collect(Collectors.groupingBy(Comparison::status, LinkedHashMap::new, Collectors.counting()));
+        long allocRegressions = comparisons.stream().filter(Comparison::allocRegression).count();
+
+        md.append("| 状态 | 数量 |\n|------|------|\n");
+        for (Comparison.Status status : Comparison.Status.values()) {
+            md.append("| ").append(status.label()).append(" | ").append(counts.getOrDefault(status, 0L)).append(" |\n");
+        }
+        md.append("| ⚠️ 分配增加 | ").append(allocRegressions).append(" |\n\n");
+        md.append(String.format(Locale.ROOT,
+                "判定规则: Welch t 检验 p < %.2f 且相对变化超过 %.0f%% 视为显著；分配量增加超过 %.0f%% 且不少于 16 B/op 视为退化。%n%n",
+                alpha, threshold * 100, threshold * 100));
+
+        List<Comparison> regressions = comparisons.stream().filter(Comparison::isRegression).toList();
+        if (!regressions.isEmpty()) {
+            md.append("### 退化项\n\n");
+            for (Comparison c : regressions) {
+                md.append("- `").append(c.current().shortName()).append(formatParams(c.current())).append("`: ");
+                if (c.status() == Comparison.Status.REGRESSION) {
+                    md.append("得分 ").append(formatChange(c.change())).append(' ');
+                }
+                if (c.allocRegression()) {
+                    md.append(String.format(Locale.ROOT, "分配 %.0f → %.0f B/op",
+                            c.baseline().allocNorm(), c.current().allocNorm()));
+                }
+                md.append('\n');
+            }
+            md.append('\n');
+        }
+        md.append("---\n\n");
+    }
+
+    private static void renderDetails(StringBuilder md, List<Comparison> comparisons) {
+        md.append("## 详细结果\n\n");
+        Map<String, List<Comparison>> byClass = comparisons.stream()
+                .collect(Collectors.groupingBy(c -> benchmarkClass(c.current()), LinkedHashMap::new, Collectors.toList()));
+
+        for (Map.Entry<String, List<Comparison>> group : byClass.entrySet()) {
+            md.append("### ").append(group.getKey()).append("\n\n");
+            md.append("| 基准 | 参数 | 模式 | 得分 | 单位 | 分配 (B/op) | 基线得分 | 变化 | p 值 | 状态 |\n");
+            md.append("|------|------|------|------|------|------|------|------|------|------|\n");
+            for (Comparison c : group.getValue()) {
+                BenchmarkResult r = c.current();
+                md.append("| ").append(r.shortName().substring(group.getKey().length() + 1))
+                        .append(" | ").append(r.params().isEmpty() && r.threads() <= 1 ? "-" : formatParams(r).trim())
+                        .append(" | ").append(r.mode())
+                        .append(" | ").append(formatScore(r.score(), r.scoreError()))
+                        .append(" | ").append(r.unit())
+                        .append(" | ").append(formatAlloc(c))
+                        .append(" | ").append(c.baseline() == null ? "-" : formatNumber(c.baseline().score()))
+                        .append(" | ").append(formatChange(c.change()))
+                        .append(" | ").append(Double.isNaN(c.pValue()) ? "-" : String.format(Locale.ROOT, "%.3g", c.pValue()))
+                        .append(" | ").append(c.status().label())
+                        .append(" |\n");
+            }
+            md.append('\n');
+        }
+        md.append("---\n\n");
+    }
+
+    private static void renderHowTo(StringBuilder md) {
+        md.append("## 复现与更新\n\n");
+        md.append("```bash\n");
+        md.append("mvn -B install -DskipTests\n");
+        md.append("mvn -B -f benchmarks/pom.xml package\n");
+        md.append("java -jar benchmarks/target/benchmarks.jar                      # 输出 jmh-result.json\n");
+        md.append("java -cp benchmarks/target/benchmarks.jar \\\n");
+        md.append("     com.example.sensitive.benchmark.report.PerformanceReport    # 生成本报告\n");
+        md.append("# 确认结果后追加 --update-baseline 覆盖基线\n");
+        md.append("```\n\n");
+        md.append("- 多线程扩展曲线: `com.example.sensitive.benchmark.ScalingRunner`\n");
+        md.append("- 端到端吞吐与延迟（容量规划以此为准）: `com.example.sensitive.benchmark.load.LoadHarness`\n");
+    }
+
+    private static String benchmarkClass(BenchmarkResult result) {
+        String name = result.shortName();
+        return name.substring(0, name.indexOf('.'));
+    }
+
+    private static String formatParams(BenchmarkResult result) {
+        StringBuilder sb = new StringBuilder();
+        result.params().forEach((name, value) -> sb.append(' ').append(name).append('=').append(value));
+        if (result.threads() > 1) {
+            sb.append(" threads=").append(result.threads());
+        }
+        return sb.toString();
+    }
+
+    private static String formatScore(double score, double error) {
+        if (Double.isNaN(error)) {
+            return formatNumber(score);
+        }
+        return formatNumber(score) + " ± " + formatNumber(error);
+    }
+
+    private static String formatAlloc(Comparison c) {
+        double alloc = c.current().allocNorm();
+        if (Double.isNaN(alloc)) {
+            return "-";
+        }
+        String text = String.format(Locale.ROOT, "%.0f", alloc);
+        return c.allocRegression() ? text + " ⚠️" : text;
+    }
+
+    private static String formatChange(double change) {
+        if (Double.isNaN(change)) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", change * 100);
+    }
+
+    private static String formatNumber(double value) {
+        if (Math.abs(value) >= 100) {
+            return String.format(Locale.ROOT, "%.1f", value);
+        }
+        return String.format(Locale.ROOT, "%.3f", value);
+    }
+}
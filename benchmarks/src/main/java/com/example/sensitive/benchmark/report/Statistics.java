@@ -0,0 +1,120 @@
+package com.example.sensitive.benchmark.report;
+
+/**
+ * 基准结果显著性检验
+ * <p>
+ * 对两组迭代原始值做 Welch t 检验（不假设方差相等），返回双侧 p 值。
+ * t 分布 CDF 通过正则化不完全 Beta 函数计算（连分式展开，Lentz 算法）。
+ *
+ * @author example
+ */
+final class Statistics {
+
+    private static final int MAX_ITERATIONS = 200;
+    private static final double EPSILON = 1e-12;
+    private static final double TINY = 1e-300;
+
+    private Statistics() {
+    }
+
+    static double mean(double[] values) {
+        double sum = 0;
+        for (double v : values) {
+            sum += v;
+        }
+        return sum / values.length;
+    }
+
+    static double variance(double[] values) {
+        double mean = mean(values);
+        double sum = 0;
+        for (double v : values) {
+            sum += (v - mean) * (v - mean);
+        }
+        return sum / (values.length - 1);
+    }
+
+    /**
+     * Welch t 检验双侧 p 值
+     *
+     * @return p 值；任一组样本少于 2 个时返回 NaN
+     */
+    static double welchPValue(double[] a, double[] b) {
+        if (a.length < 2 || b.length < 2) {
+            return Double.NaN;
+        }
+        double va = variance(a) / a.length;
+        double vb = variance(b) / b.length;
+        double se = va + vb;
+        if (se == 0) {
+            return mean(a) == mean(b) ? 1.0 : 0.0;
+        }
+        double t = (mean(a) - mean(b)) / Math.sqrt(se);
+        double df = se * se / (va * va / (a.length - 1) + vb * vb / (b.length - 1));
+        return regularizedIncompleteBeta(df / (df + t * t), df / 2, 0.5);
+    }
+
+    /**
+     * 正则化不完全 Beta 函数 I_x(a, b)
+     */
+    static double regularizedIncompleteBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0;
+        }
+        if (x >= 1) {
+            return 1;
+        }
+        double front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * continuedFraction(x, a, b) / a;
+        }
+        return 1 - front * continuedFraction(1 - x, b, a) / b;
+    }
+
+    private static double continuedFraction(double x, double a, double b) {
+        double c = 1;
+        double d = 1 - (a + b) * x / (a + 1);
+        d = 1 / (Math.abs(d) < TINY ? TINY : d);
+        double h = d;
+        for (int m = 1; m <= MAX_ITERATIONS; m++) {
+            int m2 = 2 * m;
+            double numerator = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + numerator * d);
+            c = nonZero(1 + numerator / c);
+            h *= d * c;
+
+            numerator = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + numerator * d);
+            c = nonZero(1 + numerator / c);
+            double delta = d * c;
+            h *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                break;
+            }
+        }
+        return h;
+    }
+
+    private static double nonZero(double value) {
+        return Math.abs(value) < TINY ? TINY : value;
+    }
+
+    /**
+     * Lanczos 近似的 ln Γ(x)
+     */
+    static double logGamma(double x) {
+        double[] coefficients = {
+                76.18009172947146, -86.50532032941677, 24.01409824083091,
+                -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+        };
+        double y = x;
+        double tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        double series = 1.000000000190015;
+        for (double coefficient : coefficients) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.sensitive.benchmark.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link Comparison} 测试
+ */
+class ComparisonTest {
+
+    private static final double ALPHA = 0.01;
+    private static final double THRESHOLD = 0.05;
+
+    @Test
+    @DisplayName("基线中不存在时为新增")
+    void testNew() {
+        Comparison comparison = Comparison.of(result("thrpt", 100, 1, Double.NaN, 100, 101, 99), null, ALPHA, THRESHOLD);
+
+        assertEquals(Comparison.Status.NEW, comparison.status());
+        assertFalse(comparison.isRegression());
+    }
+
+    @Test
+    @DisplayName("吞吐量显著下降为退化，耗时显著下降为提升")
+    void testDirection() {
+        BenchmarkResult baseline = result("thrpt", 100, 1, Double.NaN, 100, 101, 99, 100, 100.5);
+        BenchmarkResult slower = result("thrpt", 80, 1, Double.NaN, 80, 81, 79, 80, 80.5);
+        Comparison regression = Comparison.of(slower, baseline, ALPHA, THRESHOLD);
+        assertEquals(Comparison.Status.REGRESSION, regression.status());
+        assertEquals(-0.2, regression.change(), 1e-9);
+        assertTrue(regression.pValue() < ALPHA);
+        assertTrue(regression.isRegression());
+
+        BenchmarkResult before = result("avgt", 10, 1, Double.NaN, 10, 10.1, 9.9, 10, 10.05);
+        BenchmarkResult faster = result("avgt", 8, 1, Double.NaN, 8, 8.1, 7.9, 8, 8.05);
+        assertEquals(Comparison.Status.IMPROVEMENT, Comparison.of(faster, before, ALPHA, THRESHOLD).status());
+        assertEquals(Comparison.Status.REGRESSION, Comparison.of(before, faster, ALPHA, THRESHOLD).status());
+    }
+
+    @Test
+    @DisplayName("差异不显著或未超过阈值时为持平")
+    void testUnchanged() {
+        BenchmarkResult baseline = result("thrpt", 100, 1, Double.NaN, 100, 101, 99, 100, 100.5);
+        // 显著但只变化 2%
+        BenchmarkResult small = result("thrpt", 98, 1, Double.NaN, 98, 98.1, 97.9, 98, 98.05);
+        assertEquals(Comparison.Status.UNCHANGED, Comparison.of(small, baseline, ALPHA, THRESHOLD).status());
+
+        // 变化 20% 但噪声远大于差异
+        BenchmarkResult noisy = result("thrpt", 120, 1, Double.NaN, 20, 220, 40, 200, 120);
+        assertEquals(Comparison.Status.UNCHANGED, Comparison.of(noisy, baseline, ALPHA, THRESHOLD).status());
+    }
+
+    @Test
+    @DisplayName("单次迭代无法检验时按置信区间判断，缺少置信区间时为样本不足")
+    void testSingleIteration() {
+        BenchmarkResult baseline = result("thrpt", 100, 2, Double.NaN, 100);
+        assertEquals(Comparison.Status.REGRESSION,
+                Comparison.of(result("thrpt", 80, 2, Double.NaN, 80), baseline, ALPHA, THRESHOLD).status());
+        assertEquals(Comparison.Status.UNCHANGED,
+                Comparison.of(result("thrpt", 80, 30, Double.NaN, 80), baseline, ALPHA, THRESHOLD).status());
+        assertEquals(Comparison.Status.INCONCLUSIVE,
+                Comparison.of(result("thrpt", 80, Double.NaN, Double.NaN, 80), baseline, ALPHA, THRESHOLD).status());
+    }
+
+    @Test
+    @DisplayName("分配量增加超过阈值且不少于 16 字节为退化")
+    void testAllocRegression() {
+        BenchmarkResult baseline = result("thrpt", 100, 1, 96, 100, 101, 99);
+
+        Comparison more = Comparison.of(result("thrpt", 100, 1, 120, 100, 101, 99), baseline, ALPHA, THRESHOLD);
+        assertEquals(Comparison.Status.UNCHANGED, more.status());
+        assertTrue(more.allocRegression());
+        assertTrue(more.isRegression());
+
+        assertFalse(Comparison.of(result("thrpt", 100, 1, 104, 100, 101, 99), baseline, ALPHA, THRESHOLD)
+                .allocRegression());
+        assertFalse(Comparison.of(result("thrpt", 100, 1, Double.NaN, 100, 101, 99), baseline, ALPHA, THRESHOLD)
+                .allocRegression());
+    }
+
+    private static BenchmarkResult result(String mode, double score, double scoreError, double allocNorm,
+                                          double... samples) {
+        return new BenchmarkResult("com.example.Bench.run", Map.of(), mode, 1, score, scoreError,
+                "thrpt".equals(mode) ? "ops/ms" : "ms/op", samples, allocNorm, "OpenJDK 17");
+    }
+}
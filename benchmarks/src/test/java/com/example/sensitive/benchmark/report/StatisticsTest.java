@@ -0,0 +1,47 @@
+package com.example.sensitive.benchmark.report;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link Statistics} 测试
+ */
+class StatisticsTest {
+
+    @Test
+    @DisplayName("不完全 Beta 函数与 ln Γ 的解析值")
+    void testSpecialFunctions() {
+        assertEquals(Math.log(24), Statistics.logGamma(5), 1e-9);
+        assertEquals(0.5 * Math.log(Math.PI), Statistics.logGamma(0.5), 1e-9);
+        // I_x(a, 1) = x^a，I_0.5(a, a) = 0.5
+        assertEquals(Math.pow(0.3, 2.5), Statistics.regularizedIncompleteBeta(0.3, 2.5, 1), 1e-9);
+        assertEquals(0.5, Statistics.regularizedIncompleteBeta(0.5, 7, 7), 1e-9);
+        assertEquals(1.0, Statistics.regularizedIncompleteBeta(0.2, 3, 4.5)
+                + Statistics.regularizedIncompleteBeta(0.8, 4.5, 3), 1e-9);
+        assertEquals(0.0, Statistics.regularizedIncompleteBeta(0, 2, 2));
+        assertEquals(1.0, Statistics.regularizedIncompleteBeta(1, 2, 2));
+    }
+
+    @Test
+    @DisplayName("Welch t 检验与参考值一致（t = -2.46, df = 27.0, p = 0.021）")
+    void testWelchReference() {
+        double[] a = {27.5, 21.0, 19.0, 23.6, 17.0, 17.9, 16.9, 20.1, 21.9, 22.6, 23.1, 19.6, 19.0, 21.7, 21.4};
+        double[] b = {27.1, 22.0, 20.8, 23.4, 23.4, 23.5, 25.8, 22.0, 24.8, 20.2, 21.9, 22.1, 22.9, 20.5, 24.4};
+
+        double p = Statistics.welchPValue(a, b);
+        assertEquals(0.021, p, 0.001);
+        assertEquals(p, Statistics.welchPValue(b, a), 1e-12);
+    }
+
+    @Test
+    @DisplayName("样本不足返回 NaN，方差为零时按均值是否相等判定")
+    void testDegenerateSamples() {
+        assertTrue(Double.isNaN(Statistics.welchPValue(new double[]{1}, new double[]{1, 2})));
+        assertEquals(1.0, Statistics.welchPValue(new double[]{3, 3, 3}, new double[]{3, 3}));
+        assertEquals(0.0, Statistics.welchPValue(new double[]{3, 3, 3}, new double[]{4, 4}));
+        assertEquals(1.0, Statistics.welchPValue(new double[]{1, 2, 3}, new double[]{1, 2, 3}), 1e-9);
+        assertEquals(2.5, Statistics.variance(new double[]{1, 2, 3, 4, 5}), 1e-12);
+    }
+}
@@ -58,6 +58,15 @@ public @interface Sensitive {
      */
     SensitiveType type() default SensitiveType.TEXT;
 
+    /**
+     * 扩展策略 ID。
+     * <p>非空时忽略 {@link #type()}，使用以该 ID 注册的策略（{@code ServiceLoader} 或 Spring Bean），
+     * 例如 {@code @Sensitive(strategy = "passport")}；未注册时按通用文本脱敏。
+     *
+     * @return 策略 ID，默认为空
+     */
+    String strategy() default "";
+
     /**
      * 前置保留长度。
      * <p>仅当 {@code type = CUSTOM} 时生效，指定脱敏时保留前几位明文。
@@ -81,6 +90,16 @@ public @interface Sensitive {
      */
     char maskChar() default '*';
 
+    /**
+     * 是否定长输出。
+     * <p>掩码段长度固定，不随原值长度变化，避免从掩码推断原值位数，
+     * 例如银行卡总是输出 {@code 6222********0123}、姓名总是输出 {@code 张**}。
+     * 也可通过 {@code sensitive.fixed-length=true} 对所有字段全局开启。
+     *
+     * @return 是否定长输出，默认为 {@code false}
+     */
+    boolean fixedLength() default false;
+
     /**
      * 是否对 API 返回值进行脱敏。
      * <p>
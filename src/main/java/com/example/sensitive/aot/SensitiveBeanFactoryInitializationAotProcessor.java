@@ -0,0 +1,87 @@
+package com.example.sensitive.aot;
+
+import com.example.sensitive.config.SensitiveClassResolver;
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.ReflectionHints;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 为全部脱敏类生成 native image 反射提示
+ * <p>
+ * 在 Spring AOT 构建阶段（{@code spring-boot:process-aot}）解析脱敏类，与启动预热使用同一来源
+ * （编译期索引优先，否则扫描 {@code sensitive.warm-up.base-packages} / 自动配置包），并登记：
+ * <ul>
+ *   <li>类及其父类的声明字段与方法：{@code SensitiveToStringBuilder} 经方法句柄读取私有字段、
+ *       标注的 getter 与 record 组件访问器</li>
+ *   <li>Jackson 绑定提示：getter、构造器及嵌套属性类型，供 API 脱敏序列化</li>
+ * </ul>
+ * 生成的提示由 Spring AOT 写入 {@code META-INF/native-image/.../reflect-config.json}，无需手写配置。
+ * 通过 {@code META-INF/spring/aot.factories} 注册。
+ *
+ * @author example
+ */
+public class SensitiveBeanFactoryInitializationAotProcessor implements BeanFactoryInitializationAotProcessor {
+
+    private static final String BASE_PACKAGES_PROPERTY = "sensitive.warm-up.base-packages";
+
+    @Override
+    public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+        ClassLoader classLoader = beanFactory.getBeanClassLoader() != null
+                ? beanFactory.getBeanClassLoader() : ClassUtils.getDefaultClassLoader();
+        SensitiveClassResolver.Resolved resolved =
+                SensitiveClassResolver.resolve(classLoader, beanFactory, basePackages(beanFactory));
+
+        List<Class<?>> classes = new ArrayList<>(resolved.classNames().size());
+        for (String className : resolved.classNames()) {
+            try {
+                classes.add(ClassUtils.forName(className, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                // 索引中已删除的类
+            }
+        }
+        if (classes.isEmpty()) {
+            return null;
+        }
+        return (generationContext, beanFactoryInitializationCode) ->
+                registerHints(generationContext.getRuntimeHints(), classes);
+    }
+
+    /**
+     * 为给定的脱敏类登记反射提示
+     *
+     * @param hints   运行时提示
+     * @param classes 脱敏类
+     */
+    static void registerHints(RuntimeHints hints, List<Class<?>> classes) {
+        ReflectionHints reflection = hints.reflection();
+        BindingReflectionHintsRegistrar bindingRegistrar = new BindingReflectionHintsRegistrar();
+        for (Class<?> clazz : classes) {
+            for (Class<?> current = clazz; current != null && current != Object.class; current = current.getSuperclass()) {
+                reflection.registerType(current, MemberCategory.DECLARED_FIELDS, MemberCategory.INVOKE_DECLARED_METHODS);
+            }
+            bindingRegistrar.registerReflectionHints(reflection, clazz);
+        }
+    }
+
+    private static List<String> basePackages(ConfigurableListableBeanFactory beanFactory) {
+        Environment environment = beanFactory.getBeanProvider(Environment.class).getIfAvailable();
+        if (!(environment instanceof ConfigurableEnvironment)) {
+            return List.of();
+        }
+        return Binder.get(environment)
+                .bind(BASE_PACKAGES_PROPERTY, Bindable.listOf(String.class))
+                .orElse(List.of());
+    }
+}
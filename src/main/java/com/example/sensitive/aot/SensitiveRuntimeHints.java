@@ -0,0 +1,34 @@
+package com.example.sensitive.aot;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.index.SensitiveClassIndex;
+import com.example.sensitive.jackson.SensitiveJsonSerializer;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import com.example.sensitive.strategy.impl.AddressRegionMaskStrategy;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+/**
+ * 组件自身的 native image 运行时提示
+ * <p>
+ * Jackson 通过 {@code @JsonSerialize(using = ...)} 反射实例化 {@link SensitiveJsonSerializer}；
+ * 预热需要在运行时读取编译期索引，{@link AddressRegionMaskStrategy} 需要读取行政区划名称表，
+ * {@link MaskStrategyRegistry} 通过 {@code ServiceLoader} 读取扩展策略清单。业务类的提示由
+ * {@link SensitiveBeanFactoryInitializationAotProcessor} 在 AOT 构建时生成。
+ *
+ * @author example
+ */
+public class SensitiveRuntimeHints implements RuntimeHintsRegistrar {
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        hints.reflection().registerType(SensitiveJsonSerializer.class,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.reflection().registerType(Sensitive.class, MemberCategory.INVOKE_PUBLIC_METHODS);
+        hints.resources().registerPattern(SensitiveClassIndex.INDEX_LOCATION);
+        hints.resources().registerPattern(AddressRegionMaskStrategy.REGIONS_LOCATION);
+        hints.resources().registerPattern("META-INF/services/" + MaskStrategy.class.getName());
+    }
+}
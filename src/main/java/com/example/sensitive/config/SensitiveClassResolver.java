@@ -0,0 +1,111 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.index.SensitiveClassIndex;
+import com.example.sensitive.support.SensitiveEntity;
+import com.example.sensitive.support.SensitiveSupport;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 脱敏类解析
+ * <p>
+ * 启动预热与 AOT 构建共用：优先读取编译期 {@link SensitiveClassIndex}，
+ * 无索引时扫描指定包（未指定则使用 Spring Boot 自动配置包）。
+ *
+ * @author example
+ */
+public final class SensitiveClassResolver {
+
+    private SensitiveClassResolver() {
+    }
+
+    /**
+     * 解析结果
+     *
+     * @param classNames 类名集合
+     * @param fromIndex  是否来自编译期索引
+     */
+    public record Resolved(Set<String> classNames, boolean fromIndex) {
+    }
+
+    /**
+     * 解析全部脱敏类
+     *
+     * @param classLoader  类加载器
+     * @param beanFactory  用于读取自动配置包，可为 null
+     * @param basePackages 显式指定的扫描包，为空时使用自动配置包
+     * @return 解析结果
+     */
+    public static Resolved resolve(ClassLoader classLoader, BeanFactory beanFactory, List<String> basePackages) {
+        Set<String> classNames = SensitiveClassIndex.load(classLoader);
+        if (!classNames.isEmpty()) {
+            return new Resolved(classNames, true);
+        }
+        return new Resolved(scan(classLoader, resolveBasePackages(beanFactory, basePackages)), false);
+    }
+
+    private static List<String> resolveBasePackages(BeanFactory beanFactory, List<String> basePackages) {
+        if (basePackages != null && !basePackages.isEmpty()) {
+            return basePackages;
+        }
+        if (beanFactory != null && AutoConfigurationPackages.has(beanFactory)) {
+            return AutoConfigurationPackages.get(beanFactory);
+        }
+        return List.of();
+    }
+
+    /**
+     * 无索引时的回退：扫描包内所有顶层及静态嵌套类
+     */
+    private static Set<String> scan(ClassLoader classLoader, List<String> basePackages) {
+        ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+            @Override
+            protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+                return beanDefinition.getMetadata().isIndependent();
+            }
+        };
+        scanner.setResourceLoader(new DefaultResourceLoader(classLoader));
+        scanner.addIncludeFilter((reader, factory) ->
+                isSensitiveClass(reader.getClassMetadata().getClassName(), classLoader));
+
+        Set<String> classNames = new LinkedHashSet<>();
+        for (String basePackage : basePackages) {
+            scanner.findCandidateComponents(basePackage)
+                    .forEach(definition -> classNames.add(definition.getBeanClassName()));
+        }
+        return classNames;
+    }
+
+    private static boolean isSensitiveClass(String className, ClassLoader classLoader) {
+        try {
+            Class<?> clazz = ClassUtils.forName(className, classLoader);
+            if (SensitiveEntity.class.isAssignableFrom(clazz) || SensitiveSupport.class.isAssignableFrom(clazz)) {
+                return !clazz.isInterface();
+            }
+            for (Field field : clazz.getDeclaredFields()) {
+                if (field.isAnnotationPresent(Sensitive.class)) {
+                    return true;
+                }
+            }
+            for (Method method : clazz.getDeclaredMethods()) {
+                if (method.isAnnotationPresent(Sensitive.class)) {
+                    return true;
+                }
+            }
+            return false;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import com.example.sensitive.util.RenderBudget;
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitivePolicy;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * 应用上下文与脱敏引擎的绑定
+ * <p>
+ * 按配置设置容器中的引擎（自动配置创建的或应用自行提供的），并注册容器中的 MaskStrategy Bean。
+ * 只应用显式配置的项：未配置的规则、定长开关、渲染预算与缓存容量保持引擎原值，应用自行设置的引擎状态不会被默认值覆盖。
+ * 绑定的是静态 API 共享的默认引擎时，设置前保存默认引擎与默认注册表的状态，上下文关闭时整体恢复：
+ * 本上下文注册的策略（包括持有密钥的 HMAC、FPE 策略）与规则不会遗留给之后的上下文和静态 API。
+ * 多个上下文同时共享默认引擎时按后进先出恢复，交错关闭的场景应使用独立引擎（{@code sensitive.engine.isolated=true}）。
+ *
+ * @author example
+ */
+public class SensitiveEngineBinding implements DisposableBean {
+
+    private final SensitiveEngine engine;
+
+    /** 共享默认引擎时保存的原状态，其他引擎为 null */
+    private final Saved saved;
+
+    public SensitiveEngineBinding(SensitiveLogProperties properties, SensitiveEngine engine,
+                                  Stream<MaskStrategy> strategies) {
+        this.engine = engine;
+        this.saved = engine == SensitiveEngine.getDefault() ? Saved.of(engine) : null;
+
+        SensitiveLogProperties.Engine config = properties.getEngine();
+        if (config.getCacheSize() != SensitiveEngine.DEFAULT_MAX_CACHE_SIZE) {
+            engine.setMaxCacheSize(config.getCacheSize());
+        }
+        if (properties.isFixedLength()) {
+            engine.getStrategies().setFixedLength(true);
+        }
+        if (!properties.getRules().isEmpty()) {
+            engine.setRules(properties.getRules());
+        }
+        SensitiveLogProperties.Render render = properties.getRender();
+        if (render.isEnabled()) {
+            engine.setRenderBudget(new RenderBudget(render.getMaxLength(), render.getMaxTime(),
+                    render.getDegradeThreshold(), render.getSampleRate()));
+        }
+        strategies.forEach(engine.getStrategies()::register);
+    }
+
+    /**
+     * 本上下文使用的引擎
+     */
+    public SensitiveEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * 是否共享静态 API 的默认引擎
+     */
+    public boolean isShared() {
+        return saved != null;
+    }
+
+    @Override
+    public void destroy() {
+        if (saved != null) {
+            saved.restore(engine);
+        }
+    }
+
+    /**
+     * 默认引擎被本上下文修改之前的状态
+     */
+    private record Saved(Map<String, MaskStrategy> registrations, boolean fixedLength, SensitivePolicy policy,
+                         RenderBudget renderBudget, int maxCacheSize) {
+
+        static Saved of(SensitiveEngine engine) {
+            MaskStrategyRegistry registry = engine.getStrategies();
+            return new Saved(registry.getRegistrations(), registry.isFixedLength(), engine.getPolicy(),
+                    engine.getRenderBudget(), engine.getMaxCacheSize());
+        }
+
+        void restore(SensitiveEngine engine) {
+            MaskStrategyRegistry registry = engine.getStrategies();
+            registry.reset(registrations);
+            registry.setFixedLength(fixedLength);
+            engine.publish(policy);
+            engine.setRenderBudget(renderBudget);
+            engine.setMaxCacheSize(maxCacheSize);
+            engine.clearCache();
+        }
+    }
+}
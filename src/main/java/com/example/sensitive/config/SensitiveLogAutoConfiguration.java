@@ -0,0 +1,152 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.aot.SensitiveRuntimeHints;
+import com.example.sensitive.jackson.SensitiveJsonSerializer;
+import com.example.sensitive.reactive.SensitiveJsonEncoder;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import com.example.sensitive.strategy.impl.FpeMaskStrategy;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import com.example.sensitive.util.SensitiveEngine;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 脱敏组件自动配置
+ *
+ * @author example
+ */
+@AutoConfiguration
+@EnableConfigurationProperties(SensitiveLogProperties.class)
+@ImportRuntimeHints(SensitiveRuntimeHints.class)
+public class SensitiveLogAutoConfiguration {
+
+    /**
+     * 脱敏引擎：默认为静态 API 共享的默认引擎，{@code sensitive.engine.isolated=true} 时为本上下文新建一个
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SensitiveEngine sensitiveEngine(SensitiveLogProperties properties) {
+        SensitiveLogProperties.Engine config = properties.getEngine();
+        return config.isIsolated()
+                ? new SensitiveEngine(new MaskStrategyRegistry(), config.getCacheSize())
+                : SensitiveEngine.getDefault();
+    }
+
+    /**
+     * 引擎绑定：按配置设置容器中的引擎（包括应用自行提供的引擎），并注册容器中的 MaskStrategy Bean
+     * （包括下方的 HMAC、FPE 策略）；绑定的是默认引擎时，上下文关闭时恢复其原有的策略、规则与设置
+     */
+    @Bean
+    public SensitiveEngineBinding sensitiveEngineBinding(SensitiveLogProperties properties, SensitiveEngine engine,
+                                                         ObjectProvider<MaskStrategy> strategies) {
+        return new SensitiveEngineBinding(properties, engine, strategies.orderedStream());
+    }
+
+    /**
+     * 启动预热：在单例初始化完成、应用就绪之前解析全部脱敏类的字段元数据
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "sensitive.warm-up", name = "enabled", matchIfMissing = true)
+    public SensitiveMetadataWarmer sensitiveMetadataWarmer(SensitiveLogProperties properties,
+                                                           SensitiveEngineBinding binding) {
+        return new SensitiveMetadataWarmer(properties.getWarmUp(), binding.getEngine());
+    }
+
+    /**
+     * 策略热加载器：配置了策略文件时启动即加载，并按需监听文件变化；在引擎绑定之后创建，文件中的规则不会被覆盖
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    public SensitivePolicyReloader sensitivePolicyReloader(SensitiveLogProperties properties,
+                                                           SensitiveEngineBinding binding) {
+        return new SensitivePolicyReloader(properties, binding.getEngine());
+    }
+
+    /**
+     * 配置了密钥时注册 HMAC 假名化策略；未配置时 HMAC 类型退化为通用文本脱敏，不会输出明文
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "sensitive.hmac", name = "key")
+    public HmacMaskStrategy hmacMaskStrategy(SensitiveLogProperties properties) {
+        SensitiveLogProperties.Hmac hmac = properties.getHmac();
+        return new HmacMaskStrategy(hmac.keyBytes(), hmac.getAlgorithm(),
+                hmac.getTokenLength(), hmac.getCacheSize());
+    }
+
+    /**
+     * 配置了密钥时注册保留格式令牌化策略，并作为 Bean 暴露给需要还原令牌的授权服务
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "sensitive.fpe", name = "key")
+    public FpeMaskStrategy fpeMaskStrategy(SensitiveLogProperties properties) {
+        SensitiveLogProperties.Fpe fpe = properties.getFpe();
+        return new FpeMaskStrategy(fpe.keyBytes(), fpe.getTweak().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Actuator：查看与重新加载脱敏策略
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.boot.actuate.endpoint.annotation.Endpoint")
+    static class EndpointConfiguration {
+
+        @Bean
+        @ConditionalOnMissingBean
+        SensitivePolicyEndpoint sensitivePolicyEndpoint(SensitivePolicyReloader reloader) {
+            return new SensitivePolicyEndpoint(reloader);
+        }
+    }
+
+    /**
+     * Jackson：Spring Boot 构建的 ObjectMapper 按本上下文的引擎序列化脱敏字段
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = "org.springframework.http.converter.json.Jackson2ObjectMapperBuilder")
+    static class JacksonConfiguration {
+
+        @Bean
+        Jackson2ObjectMapperBuilderCustomizer sensitiveEngineObjectMapperCustomizer(SensitiveEngineBinding binding) {
+            SensitiveEngine engine = binding.getEngine();
+            return builder -> builder.postConfigurer(mapper -> SensitiveJsonSerializer.withEngine(mapper, engine));
+        }
+    }
+
+    /**
+     * WebFlux：以流式脱敏编码器替换默认 Jackson 编码器
+     * <p>
+     * 排在 Spring Boot 自带的 Jackson CodecCustomizer（order 0）之后，覆盖其注册的编码器
+     */
+    @Configuration(proxyBeanMethods = false)
+    @ConditionalOnClass(name = {
+            "org.springframework.http.codec.json.Jackson2JsonEncoder",
+            "reactor.core.publisher.Flux"
+    })
+    @ConditionalOnProperty(prefix = "sensitive.webflux", name = "enabled", matchIfMissing = true)
+    static class WebFluxConfiguration {
+
+        @Bean
+        @Order(10)
+        CodecCustomizer sensitiveJsonEncoderCodecCustomizer(ObjectProvider<ObjectMapper> objectMapper) {
+            return configurer -> configurer.defaultCodecs().jackson2JsonEncoder(new SensitiveJsonEncoder(
+                    objectMapper.getIfAvailable(() -> Jackson2ObjectMapperBuilder.json().build())));
+        }
+    }
+}
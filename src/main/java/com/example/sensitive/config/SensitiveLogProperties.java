@@ -0,0 +1,318 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import com.example.sensitive.util.SensitiveEngine;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 脱敏组件配置
+ *
+ * <p>配置示例:
+ * <pre>
+ * sensitive:
+ *   fixed-length: true
+ *   engine:
+ *     isolated: false
+ *     cache-size: 10000
+ *   rules:
+ *     "[com.vendor.Customer.mobile]": PHONE
+ *     "[com.vendor.Customer.cardNo]": CUSTOM(6,4)
+ *   policy:
+ *     location: /etc/app/sensitive-policy.properties
+ *     watch: true
+ *   render:
+ *     max-length: 4096
+ *     max-time: 1ms
+ *     degrade-threshold: 200us
+ *     sample-rate: 100
+ *   warm-up:
+ *     enabled: true
+ *     parallelism: 4
+ *     base-packages:
+ *       - com.example.order.dto
+ *   webflux:
+ *     enabled: true
+ *   hmac:
+ *     key: ${SENSITIVE_HMAC_KEY}
+ *   fpe:
+ *     key: base64:${SENSITIVE_FPE_KEY}
+ * </pre>
+ *
+ * @author example
+ */
+@ConfigurationProperties(prefix = "sensitive")
+public class SensitiveLogProperties {
+
+    /**
+     * 是否对所有字段定长脱敏（掩码段长度固定，不暴露原值长度）；关闭时仍可在字段上用 {@code @Sensitive(fixedLength = true)} 开启
+     */
+    private boolean fixedLength = false;
+
+    /**
+     * 脱敏规则：类全名.字段名 -> 规则，如 PHONE、CUSTOM(6,4);for-api=true、NONE；覆盖字段上的 {@code @Sensitive}，
+     * 也用于无法添加注解的第三方类；没有同名字段时可指向 getter 属性（{@code getX()}、boolean 的 {@code isX()}）
+     */
+    private Map<String, String> rules = new LinkedHashMap<>();
+
+    /**
+     * 脱敏引擎配置
+     */
+    private final Engine engine = new Engine();
+
+    /**
+     * 可热加载的策略文件配置
+     */
+    private final Policy policy = new Policy();
+
+    /**
+     * toString 渲染预算与过载降级配置
+     */
+    private final Render render = new Render();
+
+    /**
+     * 启动预热配置
+     */
+    private final WarmUp warmUp = new WarmUp();
+
+    /**
+     * WebFlux 流式编码配置
+     */
+    private final WebFlux webflux = new WebFlux();
+
+    /**
+     * HMAC 假名化配置
+     */
+    private final Hmac hmac = new Hmac();
+
+    /**
+     * 保留格式令牌化配置
+     */
+    private final Fpe fpe = new Fpe();
+
+    public boolean isFixedLength() { return fixedLength; }
+    public void setFixedLength(boolean fixedLength) { this.fixedLength = fixedLength; }
+    public Map<String, String> getRules() { return rules; }
+    public void setRules(Map<String, String> rules) { this.rules = rules; }
+    public Engine getEngine() { return engine; }
+    public Policy getPolicy() { return policy; }
+    public Render getRender() { return render; }
+    public WarmUp getWarmUp() { return warmUp; }
+    public WebFlux getWebflux() { return webflux; }
+    public Hmac getHmac() { return hmac; }
+    public Fpe getFpe() { return fpe; }
+
+    /**
+     * 解析密钥配置：以 "base64:" 开头时按 Base64 解码，否则按 UTF-8 取字节
+     */
+    static byte[] decodeKey(String key) {
+        if (key.startsWith("base64:")) {
+            return Base64.getDecoder().decode(key.substring("base64:".length()));
+        }
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 脱敏引擎配置
+     */
+    public static class Engine {
+
+        /**
+         * 是否为本应用上下文创建独立引擎（独立的策略注册表、规则与元数据缓存）；
+         * 关闭时使用默认引擎，与 SensitiveToStringBuilder 等静态 API 共享，上下文关闭时恢复默认引擎原有的策略与设置
+         */
+        private boolean isolated = false;
+
+        /**
+         * 字段元数据缓存的最大类数（直接渲染的类，共享的父类计划不计入），超出时清空这些类的计划
+         */
+        private int cacheSize = SensitiveEngine.DEFAULT_MAX_CACHE_SIZE;
+
+        public boolean isIsolated() { return isolated; }
+        public void setIsolated(boolean isolated) { this.isolated = isolated; }
+        public int getCacheSize() { return cacheSize; }
+        public void setCacheSize(int cacheSize) { this.cacheSize = cacheSize; }
+    }
+
+    /**
+     * 策略文件配置：properties 格式，每行一条 类全名.字段名=规则，与 {@code sensitive.rules} 合并且优先
+     */
+    public static class Policy {
+
+        /**
+         * 策略文件路径，未配置时只使用 sensitive.rules
+         */
+        private String location;
+
+        /**
+         * 是否监听策略文件变化并自动重新加载
+         */
+        private boolean watch = true;
+
+        public String getLocation() { return location; }
+        public void setLocation(String location) { this.location = location; }
+        public boolean isWatch() { return watch; }
+        public void setWatch(boolean watch) { this.watch = watch; }
+    }
+
+    /**
+     * toString 渲染预算与过载降级配置，均未配置时不计时、不限长度
+     */
+    public static class Render {
+
+        /**
+         * 单次渲染输出长度上限（字符数），0 表示不限
+         */
+        private int maxLength = 0;
+
+        /**
+         * 单次渲染耗时上限，超出后停止追加字段
+         */
+        private Duration maxTime;
+
+        /**
+         * 某个类的平均渲染耗时超过该值时，该类自动降级为采样渲染；按类统计，其他类不受影响
+         */
+        private Duration degradeThreshold;
+
+        /**
+         * 降级期间每几次调用完整渲染 1 次，其余输出 ClassName#id 摘要
+         */
+        private int sampleRate = 100;
+
+        /**
+         * 是否配置了任一预算
+         */
+        public boolean isEnabled() {
+            return maxLength > 0 || maxTime != null || degradeThreshold != null;
+        }
+
+        public int getMaxLength() { return maxLength; }
+        public void setMaxLength(int maxLength) { this.maxLength = maxLength; }
+        public Duration getMaxTime() { return maxTime; }
+        public void setMaxTime(Duration maxTime) { this.maxTime = maxTime; }
+        public Duration getDegradeThreshold() { return degradeThreshold; }
+        public void setDegradeThreshold(Duration degradeThreshold) { this.degradeThreshold = degradeThreshold; }
+        public int getSampleRate() { return sampleRate; }
+        public void setSampleRate(int sampleRate) { this.sampleRate = sampleRate; }
+    }
+
+    /**
+     * 启动预热配置
+     */
+    public static class WarmUp {
+
+        /**
+         * 是否在启动阶段预先解析所有脱敏类的字段元数据
+         */
+        private boolean enabled = true;
+
+        /**
+         * 并行预热线程数，默认为可用处理器数
+         */
+        private int parallelism = Runtime.getRuntime().availableProcessors();
+
+        /**
+         * 无编译期索引时扫描的包，为空则使用 Spring Boot 自动配置包（启动类所在包）
+         */
+        private List<String> basePackages = new ArrayList<>();
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+        public int getParallelism() { return parallelism; }
+        public void setParallelism(int parallelism) { this.parallelism = parallelism; }
+        public List<String> getBasePackages() { return basePackages; }
+        public void setBasePackages(List<String> basePackages) { this.basePackages = basePackages; }
+    }
+
+    /**
+     * WebFlux 流式编码配置
+     */
+    public static class WebFlux {
+
+        /**
+         * 是否以 SensitiveJsonEncoder 替换默认的 Jackson JSON 编码器
+         */
+        private boolean enabled = true;
+
+        public boolean isEnabled() { return enabled; }
+        public void setEnabled(boolean enabled) { this.enabled = enabled; }
+    }
+
+    /**
+     * HMAC 假名化配置，未配置密钥时 {@code SensitiveType.HMAC} 退化为通用文本脱敏
+     */
+    public static class Hmac {
+
+        /**
+         * 密钥，按 UTF-8 取字节；以 "base64:" 开头时按 Base64 解码
+         */
+        private String key;
+
+        /**
+         * Mac 算法
+         */
+        private String algorithm = HmacMaskStrategy.DEFAULT_ALGORITHM;
+
+        /**
+         * 令牌长度（十六进制字符数）
+         */
+        private int tokenLength = HmacMaskStrategy.DEFAULT_TOKEN_LENGTH;
+
+        /**
+         * 原值到令牌的缓存容量，0 表示不缓存
+         */
+        private int cacheSize = HmacMaskStrategy.DEFAULT_CACHE_SIZE;
+
+        /**
+         * 解析后的密钥字节
+         */
+        public byte[] keyBytes() {
+            return decodeKey(key);
+        }
+
+        public String getKey() { return key; }
+        public void setKey(String key) { this.key = key; }
+        public String getAlgorithm() { return algorithm; }
+        public void setAlgorithm(String algorithm) { this.algorithm = algorithm; }
+        public int getTokenLength() { return tokenLength; }
+        public void setTokenLength(int tokenLength) { this.tokenLength = tokenLength; }
+        public int getCacheSize() { return cacheSize; }
+        public void setCacheSize(int cacheSize) { this.cacheSize = cacheSize; }
+    }
+
+    /**
+     * 保留格式令牌化配置，未配置密钥时 {@code SensitiveType.FPE} 退化为通用文本脱敏
+     */
+    public static class Fpe {
+
+        /**
+         * AES 密钥，解码后须为 16/24/32 字节；以 "base64:" 开头时按 Base64 解码
+         */
+        private String key;
+
+        /**
+         * FF1 tweak（UTF-8），用于隔离不同业务的令牌空间
+         */
+        private String tweak = "";
+
+        /**
+         * 解析后的密钥字节
+         */
+        public byte[] keyBytes() {
+            return decodeKey(key);
+        }
+
+        public String getKey() { return key; }
+        public void setKey(String key) { this.key = key; }
+        public String getTweak() { return tweak; }
+        public void setTweak(String tweak) { this.tweak = tweak; }
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.util.SensitiveEngine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanClassLoaderAware;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.util.ClassUtils;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 脱敏元数据启动预热器
+ * <p>
+ * 在所有单例初始化完成后（应用就绪、开始接收流量之前）同步完成预热：
+ * 由 {@link SensitiveClassResolver} 取得脱敏类（编译期索引或包扫描），连同配置了外部规则的类，再按
+ * {@code parallelism} 并行调用 {@link SensitiveEngine#warmUp(Class)}。
+ * 单个类加载或解析失败只记录日志，不影响启动。
+ *
+ * @author example
+ */
+public class SensitiveMetadataWarmer implements SmartInitializingSingleton, BeanFactoryAware, BeanClassLoaderAware {
+
+    private static final Logger log = LoggerFactory.getLogger(SensitiveMetadataWarmer.class);
+
+    private final SensitiveLogProperties.WarmUp properties;
+
+    private final SensitiveEngine engine;
+
+    private BeanFactory beanFactory;
+
+    private ClassLoader classLoader = ClassUtils.getDefaultClassLoader();
+
+    private volatile int warmedClassCount;
+
+    public SensitiveMetadataWarmer(SensitiveLogProperties.WarmUp properties) {
+        this(properties, SensitiveEngine.getDefault());
+    }
+
+    public SensitiveMetadataWarmer(SensitiveLogProperties.WarmUp properties, SensitiveEngine engine) {
+        this.properties = properties;
+        this.engine = engine;
+    }
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        this.beanFactory = beanFactory;
+    }
+
+    @Override
+    public void setBeanClassLoader(ClassLoader classLoader) {
+        this.classLoader = classLoader;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        long start = System.nanoTime();
+        SensitiveClassResolver.Resolved resolved =
+                SensitiveClassResolver.resolve(classLoader, beanFactory, properties.getBasePackages());
+
+        // 触发策略工厂初始化，避免首个请求承担类加载
+        engine.getStrategies().getStrategy(SensitiveType.TEXT);
+        Set<String> classNames = new LinkedHashSet<>(resolved.classNames());
+        classNames.addAll(engine.getPolicy().getClassNames());
+        warmedClassCount = warmUp(classNames);
+
+        log.info("Sensitive metadata warmed up: {} classes from {} in {} ms, ~{} KB retained", warmedClassCount,
+                resolved.fromIndex() ? "index" : "package scan", (System.nanoTime() - start) / 1_000_000,
+                engine.getCacheRetainedBytes() / 1024);
+    }
+
+    /**
+     * 已预热的类数量
+     */
+    public int getWarmedClassCount() {
+        return warmedClassCount;
+    }
+
+    /**
+     * 并行预热，等待全部完成后返回成功数
+     */
+    private int warmUp(Set<String> classNames) {
+        if (classNames.isEmpty()) {
+            return 0;
+        }
+        int threads = Math.max(1, Math.min(properties.getParallelism(), classNames.size()));
+        ExecutorService executor = Executors.newFixedThreadPool(threads, new WarmUpThreadFactory());
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>(classNames.size());
+            for (String className : classNames) {
+                futures.add(executor.submit(() -> warmUp(className)));
+            }
+            int warmed = 0;
+            for (Future<Boolean> future : futures) {
+                if (future.get()) {
+                    warmed++;
+                }
+            }
+            return warmed;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return 0;
+        } catch (Exception e) {
+            log.warn("Sensitive metadata warm-up aborted", e);
+            return 0;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean warmUp(String className) {
+        try {
+            engine.warmUp(ClassUtils.forName(className, classLoader));
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            log.debug("Skip sensitive metadata warm-up for {}: {}", className, e.toString());
+            return false;
+        } catch (RuntimeException e) {
+            log.warn("Sensitive metadata warm-up failed for {}", className, e);
+            return false;
+        }
+    }
+
+    /**
+     * 预热线程工厂：守护线程，便于在线程转储中识别
+     */
+    private static final class WarmUpThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "sensitive-warm-up-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.util.SensitivePolicy;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 脱敏策略 Actuator 端点
+ * <p>
+ * {@code GET /actuator/sensitivepolicy} 查看当前策略版本与规则；
+ * {@code POST /actuator/sensitivepolicy} 重新读取配置与策略文件并发布。需要在
+ * {@code management.endpoints.web.exposure.include} 中显式暴露。
+ *
+ * @author example
+ */
+@Endpoint(id = "sensitivepolicy")
+public class SensitivePolicyEndpoint {
+
+    private final SensitivePolicyReloader reloader;
+
+    public SensitivePolicyEndpoint(SensitivePolicyReloader reloader) {
+        this.reloader = reloader;
+    }
+
+    @ReadOperation
+    public Map<String, Object> policy() {
+        return describe(reloader.getEngine().getPolicy());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        return describe(reloader.reload());
+    }
+
+    private Map<String, Object> describe(SensitivePolicy policy) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("version", policy.getVersion());
+        result.put("location", reloader.getLocation() == null ? null : reloader.getLocation().toString());
+        result.put("rules", policy.getDefinitions());
+        return result;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitivePolicy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 脱敏策略热加载器
+ * <p>
+ * 将 {@code sensitive.rules} 与策略文件（{@code sensitive.policy.location}，文件中的规则优先）合并，
+ * 在调用线程编译出新的 {@link SensitivePolicy} 后通过 {@link SensitiveEngine#publish} 一次性发布到所属引擎。
+ * 触发方式：
+ * <ul>
+ *   <li>启动时：配置了策略文件时加载一次，规则无效或文件不存在直接启动失败</li>
+ *   <li>文件监听：{@code sensitive.policy.watch=true}（默认）时由后台线程监听文件所在目录，
+ *       文件创建或修改后重新加载；规则无效时记录告警并保留当前策略</li>
+ *   <li>手动：{@link #reload()}，Actuator 端点 {@code sensitivepolicy} 的写操作即调用此方法</li>
+ * </ul>
+ * 建议以"写临时文件再重命名"的方式更新策略文件，避免读到写了一半的内容。
+ *
+ * @author example
+ */
+public class SensitivePolicyReloader implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(SensitivePolicyReloader.class);
+
+    /** 文件变化后等待后续事件平息的时间，一次保存常伴随截断与写入等多个事件 */
+    private static final long DEBOUNCE_MILLIS = 200;
+
+    private final SensitiveEngine engine;
+
+    private final Map<String, String> baseRules;
+
+    private final Path location;
+
+    private final boolean watch;
+
+    private volatile WatchService watchService;
+
+    public SensitivePolicyReloader(SensitiveLogProperties properties) {
+        this(properties, SensitiveEngine.getDefault());
+    }
+
+    public SensitivePolicyReloader(SensitiveLogProperties properties, SensitiveEngine engine) {
+        this.engine = engine;
+        this.baseRules = new LinkedHashMap<>(properties.getRules());
+        String path = properties.getPolicy().getLocation();
+        this.location = StringUtils.hasText(path) ? Paths.get(path).toAbsolutePath() : null;
+        this.watch = properties.getPolicy().isWatch();
+        if (location != null) {
+            reload();
+        }
+    }
+
+    /**
+     * 重新读取配置与策略文件，编译并发布
+     * <p>
+     * 同一时刻只有一个线程编译发布；读取方不受影响。编译失败时抛出异常，当前策略保持不变。
+     *
+     * @return 新发布的策略
+     * @throws IllegalArgumentException 规则无效
+     * @throws UncheckedIOException     读取策略文件失败
+     */
+    public synchronized SensitivePolicy reload() {
+        Map<String, String> definitions = new LinkedHashMap<>(baseRules);
+        if (location != null) {
+            definitions.putAll(readFile(location));
+        }
+        SensitivePolicy policy = SensitivePolicy.compile(definitions);
+        engine.publish(policy);
+        log.info("Sensitive policy v{} published with {} rules", policy.getVersion(), policy.getDefinitions().size());
+        return policy;
+    }
+
+    /**
+     * 发布策略的引擎
+     */
+    public SensitiveEngine getEngine() {
+        return engine;
+    }
+
+    /**
+     * 策略文件路径，未配置时为 null
+     */
+    public Path getLocation() {
+        return location;
+    }
+
+    @Override
+    public void start() {
+        if (location == null || !watch || watchService != null) {
+            return;
+        }
+        try {
+            WatchService service = location.getFileSystem().newWatchService();
+            location.getParent().register(service,
+                    StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            watchService = service;
+        } catch (IOException e) {
+            log.warn("Cannot watch sensitive policy file {}, hot reload disabled", location, e);
+            return;
+        }
+        Thread thread = new Thread(this::watchLoop, "sensitive-policy-watcher");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void stop() {
+        WatchService service = watchService;
+        watchService = null;
+        if (service != null) {
+            try {
+                service.close();
+            } catch (IOException e) {
+                log.debug("Failed to close sensitive policy watcher", e);
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return watchService != null;
+    }
+
+    /**
+     * 监听线程：策略文件有变化后，待 {@link #DEBOUNCE_MILLIS} 内不再有新事件时重新加载一次
+     */
+    private void watchLoop() {
+        try {
+            WatchService service;
+            while ((service = watchService) != null) {
+                boolean changed = drain(service.take());
+                WatchKey key;
+                while ((key = service.poll(DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS)) != null) {
+                    changed |= drain(key);
+                }
+                if (changed && Files.exists(location)) {
+                    reloadQuietly();
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // stop() 关闭监听，正常退出
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 取出一批事件，返回其中是否涉及策略文件
+     */
+    private boolean drain(WatchKey key) {
+        boolean changed = false;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW || location.getFileName().equals(event.context())) {
+                changed = true;
+            }
+        }
+        key.reset();
+        return changed;
+    }
+
+    private void reloadQuietly() {
+        try {
+            reload();
+        } catch (RuntimeException e) {
+            log.warn("Sensitive policy reload failed, keeping v{}: {}",
+                    engine.getPolicy().getVersion(), e.getMessage());
+        }
+    }
+
+    private static Map<String, String> readFile(Path file) {
+        Properties properties = new Properties();
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            properties.load(reader);
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取脱敏策略文件失败: " + file, e);
+        }
+        Map<String, String> rules = new LinkedHashMap<>();
+        properties.stringPropertyNames().forEach(name -> rules.put(name, properties.getProperty(name)));
+        return rules;
+    }
+}
@@ -35,5 +35,32 @@ public enum SensitiveType {
     TEXT,
 
     /** 自定义脱敏，需配合 pattern 参数使用 */
-    CUSTOM
+    CUSTOM,
+
+    /**
+     * 键控哈希假名化，输出确定性令牌，示例：3f9a1c0d2b7e4a61
+     * <p>
+     * 相同原值在日志与 API 中得到相同令牌，可用于关联分析；未配置密钥时退化为 {@link #TEXT}
+     */
+    HMAC,
+
+    /**
+     * 保留格式的可逆令牌化（FF1），长度与数字位置不变，示例：6222021234567890123 -> 4081736529014475862
+     * <p>
+     * 授权服务可用同一密钥还原；未配置密钥时退化为 {@link #TEXT}
+     */
+    FPE,
+
+    /** 自由文本中嵌入的手机号、身份证、银行卡、邮箱，只掩码识别出的片段，示例：请联系13812345678 -> 请联系138****5678 */
+    EMBEDDED,
+
+    /**
+     * 按值自动识别类型（邮箱、证件号、银行卡、手机号、IP、姓名、地址、嵌入式 PII），再按识别结果脱敏
+     * <p>
+     * 用于 {@code Map<String, String>} 扩展字段等静态类型未知的场景，无法识别时按 {@link #TEXT} 处理
+     */
+    AUTO,
+
+    /** 地址，恰好保留开头的省/市/区县，示例：北京市朝阳区望京街道10号 -> 北京市朝阳区*** */
+    ADDRESS_REGION
 }
@@ -0,0 +1,60 @@
+package com.example.sensitive.index;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 敏感类索引
+ * <p>
+ * 由 {@link SensitiveIndexProcessor} 在编译期生成，每行一个类的二进制名，
+ * 启动预热时据此直接加载，免去类路径扫描。类路径上的多个索引文件（多模块、多 jar）会合并读取。
+ *
+ * @author example
+ */
+public final class SensitiveClassIndex {
+
+    /** 索引文件位置 */
+    public static final String INDEX_LOCATION = "META-INF/sensitive/sensitive-classes.idx";
+
+    private SensitiveClassIndex() {
+    }
+
+    /**
+     * 读取类路径上全部索引文件
+     *
+     * @param classLoader 类加载器
+     * @return 类名集合（保持出现顺序），无索引时为空集合
+     */
+    public static Set<String> load(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(INDEX_LOCATION);
+            while (resources.hasMoreElements()) {
+                read(resources.nextElement(), classNames);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取敏感类索引失败: " + INDEX_LOCATION, e);
+        }
+        return classNames;
+    }
+
+    private static void read(URL url, Set<String> classNames) throws IOException {
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(url.openStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (!line.isEmpty() && line.charAt(0) != '#') {
+                    classNames.add(line);
+                }
+            }
+        }
+    }
+}
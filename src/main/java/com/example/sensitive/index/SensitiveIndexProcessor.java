@@ -0,0 +1,157 @@
+package com.example.sensitive.index;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.Filer;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+import java.io.BufferedReader;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 敏感类索引生成器（注解处理器）
+ * <p>
+ * 编译期收集以下类型并写入 {@link SensitiveClassIndex#INDEX_LOCATION}：
+ * <ul>
+ *   <li>声明了 {@code @Sensitive} 字段或方法的类</li>
+ *   <li>{@code SensitiveEntity} 的子类、{@code SensitiveSupport} 的实现类</li>
+ * </ul>
+ * 通过 {@code META-INF/services/javax.annotation.processing.Processor} 注册，
+ * 业务工程依赖本 starter 后编译即自动生成索引。增量编译时会与已有索引合并，
+ * 已删除的类由预热阶段按加载失败跳过。
+ *
+ * @author example
+ */
+public class SensitiveIndexProcessor extends AbstractProcessor {
+
+    private static final String SENSITIVE = "com.example.sensitive.annotation.Sensitive";
+    private static final String SENSITIVE_ENTITY = "com.example.sensitive.support.SensitiveEntity";
+    private static final String SENSITIVE_SUPPORT = "com.example.sensitive.support.SensitiveSupport";
+
+    private final Set<String> classNames = new TreeSet<>();
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        // 需要识别未标注任何注解的 SensitiveEntity 子类，因此处理全部根元素
+        return Set.of("*");
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        if (roundEnv.processingOver()) {
+            if (!classNames.isEmpty()) {
+                writeIndex();
+            }
+            return false;
+        }
+        for (Element element : roundEnv.getRootElements()) {
+            collect(element);
+        }
+        return false;
+    }
+
+    /**
+     * 递归收集类型（含嵌套类型）
+     */
+    private void collect(Element element) {
+        if (!element.getKind().isClass() && !element.getKind().isInterface()) {
+            return;
+        }
+        TypeElement type = (TypeElement) element;
+        if (type.getKind().isClass() && isSensitive(type)) {
+            classNames.add(processingEnv.getElementUtils().getBinaryName(type).toString());
+        }
+        for (Element enclosed : type.getEnclosedElements()) {
+            collect(enclosed);
+        }
+    }
+
+    private boolean isSensitive(TypeElement type) {
+        for (Element enclosed : type.getEnclosedElements()) {
+            ElementKind kind = enclosed.getKind();
+            if ((kind == ElementKind.FIELD || kind == ElementKind.METHOD) && hasSensitive(enclosed)) {
+                return true;
+            }
+        }
+        return isSubtypeOf(type, SENSITIVE_ENTITY) || isSubtypeOf(type, SENSITIVE_SUPPORT);
+    }
+
+    private static boolean hasSensitive(Element element) {
+        return element.getAnnotationMirrors().stream()
+                .anyMatch(mirror -> ((TypeElement) mirror.getAnnotationType().asElement())
+                        .getQualifiedName().contentEquals(SENSITIVE));
+    }
+
+    private boolean isSubtypeOf(TypeElement type, String superTypeName) {
+        Elements elements = processingEnv.getElementUtils();
+        Types types = processingEnv.getTypeUtils();
+        TypeElement superType = elements.getTypeElement(superTypeName);
+        if (superType == null || superType.equals(type)) {
+            return false;
+        }
+        TypeMirror erased = types.erasure(superType.asType());
+        return types.isSubtype(types.erasure(type.asType()), erased);
+    }
+
+    private void writeIndex() {
+        Filer filer = processingEnv.getFiler();
+        readExisting(filer);
+        try {
+            FileObject file = filer.createResource(StandardLocation.CLASS_OUTPUT, "", SensitiveClassIndex.INDEX_LOCATION);
+            try (Writer writer = file.openWriter()) {
+                writer.write("# Generated by " + getClass().getSimpleName() + "\n");
+                for (String className : classNames) {
+                    writer.write(className);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.WARNING,
+                    "无法写入敏感类索引 " + SensitiveClassIndex.INDEX_LOCATION + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * 增量编译时合并上一次生成的索引
+     */
+    private void readExisting(Filer filer) {
+        try {
+            FileObject existing = filer.getResource(StandardLocation.CLASS_OUTPUT, "", SensitiveClassIndex.INDEX_LOCATION);
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(existing.openInputStream(), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    line = line.trim();
+                    if (!line.isEmpty() && line.charAt(0) != '#') {
+                        classNames.add(line);
+                    }
+                }
+            }
+        } catch (FileNotFoundException | NoSuchFileException e) {
+            // 首次编译
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.NOTE,
+                    "忽略已有敏感类索引: " + e.getMessage());
+        }
+    }
+}
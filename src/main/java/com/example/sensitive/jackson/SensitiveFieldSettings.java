@@ -0,0 +1,82 @@
+package com.example.sensitive.jackson;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitivePolicy;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * 单个字段在当前脱敏策略下的序列化配置
+ * <p>
+ * Jackson 为每个属性只创建一次序列化器并长期复用，配置因此不能在 {@code createContextual} 时定死：
+ * 每次序列化先比较所用引擎的当前策略实例与策略注册表版本，未变化时直接复用已解析的配置与策略引用，
+ * 任一切换后首次序列化重新解析一次。引擎取自序列化属性 {@code SensitiveEngine.class}，未设置时为默认引擎。
+ *
+ * @author example
+ */
+final class SensitiveFieldSettings {
+
+    private final Sensitive annotation;
+
+    /** 按其查找规则的类，即声明字段（无同名字段时为声明 getter）的类；为 null 时不查找策略 */
+    private final Class<?> declaringClass;
+
+    private final String name;
+
+    private volatile Resolved resolved;
+
+    SensitiveFieldSettings(Sensitive annotation, Class<?> declaringClass, String name) {
+        this.annotation = annotation;
+        this.declaringClass = declaringClass;
+        this.name = name;
+    }
+
+    /**
+     * 当前策略下的配置
+     */
+    Resolved current(SerializerProvider provider) {
+        SensitiveEngine engine = provider.getAttribute(SensitiveEngine.class) instanceof SensitiveEngine e
+                ? e : SensitiveEngine.getDefault();
+        SensitivePolicy policy = engine.getPolicy();
+        MaskStrategyRegistry strategies = engine.getStrategies();
+        long strategyVersion = strategies.getVersion();
+        Resolved r = resolved;
+        if (r == null || r.policy != policy || r.strategies != strategies || r.strategyVersion != strategyVersion) {
+            r = resolve(policy, strategies, strategyVersion);
+            resolved = r;
+        }
+        return r;
+    }
+
+    private Resolved resolve(SensitivePolicy policy, MaskStrategyRegistry strategies, long strategyVersion) {
+        SensitivePolicy.Rule rule = declaringClass == null ? null : policy.find(declaringClass, name);
+        if (rule == null) {
+            return new Resolved(policy, strategies, strategyVersion, annotation.forApi(),
+                    strategies.resolve(annotation.type(), annotation.strategy(),
+                            annotation.prefixLength(), annotation.suffixLength()),
+                    annotation.maskChar(), annotation.fixedLength());
+        }
+        if (rule.isDisabled()) {
+            return new Resolved(policy, strategies, strategyVersion, false, null, '*', false);
+        }
+        return new Resolved(policy, strategies, strategyVersion, rule.forApiOr(annotation.forApi()),
+                strategies.resolve(rule.type(), null, rule.prefixLength(), rule.suffixLength()),
+                rule.maskCharOr(annotation.maskChar()), rule.fixedLengthOr(annotation.fixedLength()));
+    }
+
+    /**
+     * 解析结果，与解析时的策略实例、注册表及其版本绑定
+     */
+    record Resolved(SensitivePolicy policy, MaskStrategyRegistry strategies, long strategyVersion, boolean forApi,
+                    MaskStrategy strategy, char maskChar, boolean fixedLength) {
+
+        /**
+         * 按已解析的策略脱敏
+         */
+        String mask(String value) {
+            return strategies.mask(value, strategy, maskChar, fixedLength);
+        }
+    }
+}
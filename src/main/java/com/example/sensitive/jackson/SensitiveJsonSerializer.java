@@ -1,28 +1,37 @@
 package com.example.sensitive.jackson;
 
 import com.example.sensitive.annotation.Sensitive;
-import com.example.sensitive.enums.SensitiveType;
-import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.util.PropertyAccessors;
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitiveRules;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.introspect.AnnotatedField;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMember;
+import com.fasterxml.jackson.databind.introspect.AnnotatedMethod;
 import com.fasterxml.jackson.databind.ser.ContextualSerializer;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 
 import java.io.IOException;
+import java.lang.reflect.Field;
 
 /**
  * 敏感数据 JSON 序列化器
  * <p>
- * 根据 {@link Sensitive} 注解的 {@code forApi} 属性决定是否对 API 返回值进行脱敏:
+ * 根据 {@link Sensitive} 注解的 {@code forApi} 属性决定是否对 API 返回值进行脱敏
+ * （{@link SensitiveRules} 中该字段的规则覆盖注解，运行时切换策略后立即生效）:
  * <ul>
  *   <li>{@code forApi = true}: 脱敏输出</li>
  *   <li>{@code forApi = false}: 输出完整数据</li>
  * </ul>
  * <p>
  * 通过 {@link Sensitive} 注解的元注解 {@code @JsonSerialize} 自动应用,
- * 无需手动配置 Jackson Module。
+ * 无需手动配置 Jackson Module。规则与策略取自 {@code ObjectMapper} 上以 {@code SensitiveEngine.class}
+ * 为键的属性（{@link #withEngine}），未设置时使用默认引擎。
  * <p>
  * 工作原理:
  * <ol>
@@ -39,9 +48,9 @@ import java.io.IOException;
 public class SensitiveJsonSerializer extends StdSerializer<String> implements ContextualSerializer {
 
     /**
-     * 缓存的注解实例(在 createContextual 中设置)
+     * 字段配置(在 createContextual 中设置)
      */
-    private Sensitive annotation;
+    private SensitiveFieldSettings settings;
 
     /**
      * 无参构造器(用于 Jackson 实例化)
@@ -51,13 +60,25 @@ public class SensitiveJsonSerializer extends StdSerializer<String> implements Co
     }
 
     /**
-     * 带注解的构造器(用于 createContextual 返回带上下文的实例)
+     * 带字段配置的构造器(用于 createContextual 返回带上下文的实例)
      *
-     * @param annotation 字段上的 {@link Sensitive} 注解
+     * @param settings 字段上的 {@link Sensitive} 注解与当前策略合并后的配置
      */
-    private SensitiveJsonSerializer(Sensitive annotation) {
+    private SensitiveJsonSerializer(SensitiveFieldSettings settings) {
         super(String.class);
-        this.annotation = annotation;
+        this.settings = settings;
+    }
+
+    /**
+     * 让 mapper 序列化时使用指定引擎的规则与策略
+     *
+     * @param mapper ObjectMapper
+     * @param engine 脱敏引擎
+     * @return mapper
+     */
+    public static ObjectMapper withEngine(ObjectMapper mapper, SensitiveEngine engine) {
+        mapper.setConfig(mapper.getSerializationConfig().withAttribute(SensitiveEngine.class, engine));
+        return mapper;
     }
 
     /**
@@ -71,17 +92,55 @@ public class SensitiveJsonSerializer extends StdSerializer<String> implements Co
      * @return 带注解上下文的序列化器实例
      */
     @Override
-    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property) {
+    public JsonSerializer<?> createContextual(SerializerProvider prov, BeanProperty property)
+            throws JsonMappingException {
         Sensitive ann = property.getAnnotation(Sensitive.class);
-        return ann != null ? new SensitiveJsonSerializer(ann) : this;
+        if (ann == null) {
+            return this;
+        }
+        SensitiveFieldSettings fieldSettings = fieldSettings(ann, property.getMember());
+        // Map 字段：forApi 时逐个值脱敏，否则交给 Jackson 默认的 Map 序列化器
+        if (property.getType().isMapLikeType()) {
+            return new SensitiveMapJsonSerializer(fieldSettings,
+                    prov.findValueSerializer(property.getType(), property));
+        }
+        return new SensitiveJsonSerializer(fieldSettings);
+    }
+
+    /**
+     * 按属性在策略中的位置创建配置：有对应字段时为声明字段的类与字段名，
+     * 注解标在 getter 上时按属性名查找字段，没有同名字段的 getter 属性取声明 getter 的类
+     */
+    private static SensitiveFieldSettings fieldSettings(Sensitive ann, AnnotatedMember member) {
+        if (member == null) {
+            return new SensitiveFieldSettings(ann, null, null);
+        }
+        if (member instanceof AnnotatedField annotatedField) {
+            Field field = annotatedField.getAnnotated();
+            return new SensitiveFieldSettings(ann, field.getDeclaringClass(), field.getName());
+        }
+        // getter 按 JavaBeans 规则推导属性名；record 组件访问器等非 getter 方法与字段同名
+        String name = member instanceof AnnotatedMethod method ? PropertyAccessors.propertyName(method.getAnnotated()) : null;
+        if (name == null) {
+            name = member.getName();
+        }
+        for (Class<?> c = member.getDeclaringClass(); c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                c.getDeclaredField(name);
+                return new SensitiveFieldSettings(ann, c, name);
+            } catch (NoSuchFieldException ignored) {
+                // 继续查找父类
+            }
+        }
+        return new SensitiveFieldSettings(ann, member.getDeclaringClass(), name);
     }
 
     /**
      * 序列化字符串值
      * <p>
-     * 根据注解的 {@code forApi} 属性决定是否脱敏:
+     * 根据当前策略下字段的 {@code forApi} 配置决定是否脱敏:
      * <ul>
-     *   <li>{@code forApi = true}: 调用 {@link MaskStrategyFactory#mask(String, SensitiveType, char)} 进行脱敏</li>
+     *   <li>{@code forApi = true}: 按字段的脱敏类型与掩码字符脱敏</li>
      *   <li>{@code forApi = false}: 返回原始值</li>
      * </ul>
      *
@@ -98,40 +157,11 @@ public class SensitiveJsonSerializer extends StdSerializer<String> implements Co
             return;
         }
 
-        if (shouldMask()) {
-            gen.writeString(maskValue(value));
+        SensitiveFieldSettings.Resolved resolved = settings == null ? null : settings.current(provider);
+        if (resolved != null && resolved.forApi()) {
+            gen.writeString(resolved.mask(value));
         } else {
             gen.writeString(value);
         }
     }
-
-    /**
-     * 判断是否需要脱敏
-     *
-     * @return true 如果需要脱敏
-     */
-    private boolean shouldMask() {
-        return annotation != null && annotation.forApi();
-    }
-
-    /**
-     * 对值进行脱敏处理
-     *
-     * @param value 原始值
-     * @return 脱敏后的值
-     */
-    private String maskValue(String value) {
-        SensitiveType type = annotation.type();
-        char maskChar = annotation.maskChar();
-
-        if (type == SensitiveType.CUSTOM) {
-            return MaskStrategyFactory.maskCustom(
-                    value,
-                    annotation.prefixLength(),
-                    annotation.suffixLength(),
-                    maskChar
-            );
-        }
-        return MaskStrategyFactory.mask(value, type, maskChar);
-    }
 }
@@ -0,0 +1,56 @@
+package com.example.sensitive.jackson;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Map 字段的脱敏序列化器
+ * <p>
+ * 由 {@link SensitiveJsonSerializer#createContextual} 在 {@code @Sensitive} 标注的 Map 字段上返回。
+ * 当前策略下 {@code forApi = true} 时：键原样输出；字符串与数字值按字段配置脱敏后以字符串输出，
+ * 配合 {@code SensitiveType.AUTO} 可逐个识别扩展字段中混杂的 PII；其他类型的值走 Jackson 默认序列化。
+ * 否则整体交给 Jackson 默认的 Map 序列化器。
+ *
+ * @author example
+ */
+@SuppressWarnings("rawtypes")
+class SensitiveMapJsonSerializer extends StdSerializer<Map> {
+
+    private final SensitiveFieldSettings settings;
+
+    private final JsonSerializer<Object> delegate;
+
+    SensitiveMapJsonSerializer(SensitiveFieldSettings settings, JsonSerializer<Object> delegate) {
+        super(Map.class);
+        this.settings = settings;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void serialize(Map value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        SensitiveFieldSettings.Resolved resolved = settings.current(provider);
+        if (!resolved.forApi()) {
+            delegate.serialize(value, gen, provider);
+            return;
+        }
+        gen.writeStartObject(value);
+        for (Object e : value.entrySet()) {
+            Map.Entry<?, ?> entry = (Map.Entry<?, ?>) e;
+            gen.writeFieldName(String.valueOf(entry.getKey()));
+            Object v = entry.getValue();
+            if (v == null) {
+                gen.writeNull();
+            } else if (v instanceof CharSequence || v instanceof Number) {
+                gen.writeString(resolved.mask(v.toString()));
+            } else {
+                provider.defaultSerializeValue(v, gen);
+            }
+        }
+        gen.writeEndObject();
+    }
+}
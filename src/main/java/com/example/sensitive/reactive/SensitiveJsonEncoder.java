@@ -0,0 +1,221 @@
+package com.example.sensitive.reactive;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import org.reactivestreams.Publisher;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.codec.CodecException;
+import org.springframework.core.codec.EncodingException;
+import org.springframework.core.codec.Hints;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.codec.json.Jackson2CodecSupport;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.lang.Nullable;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Map;
+
+/**
+ * 流式脱敏 JSON 编码器
+ * <p>
+ * 在 {@link Jackson2JsonEncoder} 基础上优化流式输出（NDJSON、SSE）：
+ * <ul>
+ *   <li>每个流复用一个 {@link JsonGenerator}，刷新时直接写入当前元素的 {@link DataBuffer}，
+ *       服务端使用 Netty 时即为池化缓冲区，不再经过中间 {@code byte[]} 拷贝</li>
+ *   <li>缓冲区初始容量按上一个元素的实际大小估算，避免反复扩容</li>
+ *   <li>一个元素对应一个缓冲区，{@code map} 不预取，下游背压原样传递到数据源，内存占用与总行数无关</li>
+ *   <li>每个流只解析一次 {@link ObjectWriter}，字段上的 {@code SensitiveJsonSerializer}
+ *       由 Jackson 按属性缓存，逐元素序列化时不再重复解析注解</li>
+ * </ul>
+ * 非流式媒体类型（JSON 数组）、JSON View 与 {@link MappingJacksonValue} 沿用父类实现，语义完全一致。
+ *
+ * @author example
+ */
+public class SensitiveJsonEncoder extends Jackson2JsonEncoder {
+
+    /** 缓冲区最小初始容量 */
+    private static final int MIN_BUFFER_SIZE = 256;
+
+    public SensitiveJsonEncoder() {
+        super();
+    }
+
+    public SensitiveJsonEncoder(ObjectMapper mapper, MimeType... mimeTypes) {
+        super(mapper, mimeTypes);
+    }
+
+    @Override
+    public Flux<DataBuffer> encode(Publisher<?> inputStream, DataBufferFactory bufferFactory,
+                                   ResolvableType elementType, @Nullable MimeType mimeType,
+                                   @Nullable Map<String, Object> hints) {
+        byte[] separator = getStreamingMediaTypeSeparator(mimeType);
+        if (inputStream instanceof Mono || separator == null || hasJsonView(hints)) {
+            return super.encode(inputStream, bufferFactory, elementType, mimeType, hints);
+        }
+
+        return Flux.defer(() -> {
+            ObjectMapper mapper = selectObjectMapper(elementType, mimeType);
+            if (mapper == null) {
+                return Flux.error(new IllegalStateException("No ObjectMapper for " + elementType));
+            }
+            // 整个流复用一个生成器与 SequenceWriter，每个元素只切换输出目标缓冲区
+            ObjectWriter writer = createWriter(mapper, elementType, mimeType, hints)
+                    .withRootValueSeparator("");
+            BufferOutputStream output = new BufferOutputStream();
+            SequenceWriter sequenceWriter;
+            try {
+                sequenceWriter = writer.writeValues(writer.createGenerator(output, getJsonEncoding(mimeType)));
+            } catch (IOException ex) {
+                return Flux.error(ex);
+            }
+            SizeHint sizeHint = new SizeHint();
+
+            return Flux.from(inputStream)
+                    .map(value -> writeElement(value, sequenceWriter, output, bufferFactory, separator, sizeHint, hints))
+                    .doOnDiscard(DataBuffer.class, DataBufferUtils::release)
+                    .doFinally(signal -> close(sequenceWriter));
+        });
+    }
+
+    @Override
+    public DataBuffer encodeValue(Object value, DataBufferFactory bufferFactory, ResolvableType valueType,
+                                  @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        ObjectMapper mapper = selectObjectMapper(valueType, mimeType);
+        if (value instanceof MappingJacksonValue || hasJsonView(hints) || mapper == null) {
+            return super.encodeValue(value, bufferFactory, valueType, mimeType, hints);
+        }
+        ObjectWriter writer = createWriter(mapper, valueType, mimeType, hints);
+        return write(value, writer, getJsonEncoding(mimeType), bufferFactory, hints);
+    }
+
+    /**
+     * 流式元素：通过共享的 SequenceWriter 序列化，刷新时直接落入本元素的缓冲区
+     */
+    private DataBuffer writeElement(Object value, SequenceWriter sequenceWriter, BufferOutputStream output,
+                                    DataBufferFactory bufferFactory, byte[] separator, SizeHint sizeHint,
+                                    @Nullable Map<String, Object> hints) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(sizeHint.size);
+        output.target = buffer;
+        boolean release = true;
+        try {
+            sequenceWriter.write(value);
+            sequenceWriter.flush();
+            buffer.write(separator);
+            sizeHint.record(buffer.readableByteCount());
+            Hints.touchDataBuffer(buffer, hints, logger);
+            release = false;
+            return buffer;
+        } catch (InvalidDefinitionException ex) {
+            throw new CodecException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
+        } finally {
+            output.target = null;
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    /**
+     * 单个值（Mono、SSE 事件）：生成器直接写入缓冲区
+     */
+    private DataBuffer write(Object value, ObjectWriter writer, JsonEncoding encoding,
+                             DataBufferFactory bufferFactory, @Nullable Map<String, Object> hints) {
+        DataBuffer buffer = bufferFactory.allocateBuffer(MIN_BUFFER_SIZE);
+        boolean release = true;
+        try {
+            try (JsonGenerator generator = writer.createGenerator(buffer.asOutputStream(), encoding)) {
+                writer.writeValue(generator, value);
+            }
+            Hints.touchDataBuffer(buffer, hints, logger);
+            release = false;
+            return buffer;
+        } catch (InvalidDefinitionException ex) {
+            throw new CodecException("Type definition error: " + ex.getType(), ex);
+        } catch (JsonProcessingException ex) {
+            throw new EncodingException("JSON encoding error: " + ex.getOriginalMessage(), ex);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Unexpected I/O error while writing to data buffer", ex);
+        } finally {
+            if (release) {
+                DataBufferUtils.release(buffer);
+            }
+        }
+    }
+
+    private void close(SequenceWriter sequenceWriter) {
+        try {
+            sequenceWriter.close();
+        } catch (IOException ex) {
+            logger.error("Could not close Encoder resources", ex);
+        }
+    }
+
+    /**
+     * 与父类一致：仅容器类型固定根类型，其余按运行时类型选择序列化器（支持多态）
+     */
+    private ObjectWriter createWriter(ObjectMapper mapper, ResolvableType valueType,
+                                      @Nullable MimeType mimeType, @Nullable Map<String, Object> hints) {
+        JavaType javaType = getJavaType(valueType.getType(), null);
+        ObjectWriter writer = mapper.writer();
+        if (javaType.isContainerType()) {
+            writer = writer.forType(javaType);
+        }
+        return customizeWriter(writer, mimeType, valueType, hints);
+    }
+
+    private static boolean hasJsonView(@Nullable Map<String, Object> hints) {
+        return hints != null && hints.get(Jackson2CodecSupport.JSON_VIEW_HINT) != null;
+    }
+
+    /**
+     * 输出目标可切换的流：生成器刷新时写入当前元素的缓冲区
+     */
+    private static final class BufferOutputStream extends OutputStream {
+
+        private DataBuffer target;
+
+        @Override
+        public void write(int b) {
+            if (target != null) {
+                target.write((byte) b);
+            }
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) {
+            if (target != null) {
+                target.write(bytes, offset, length);
+            }
+        }
+    }
+
+    /**
+     * 单个流内的缓冲区容量估算，流内元素按顺序编码，无需同步
+     */
+    private static final class SizeHint {
+
+        private int size = MIN_BUFFER_SIZE;
+
+        void record(int written) {
+            // 留 1/8 余量，使大小略有波动的后续元素不必扩容
+            size = Math.max(MIN_BUFFER_SIZE, written + (written >> 3));
+        }
+    }
+}
@@ -11,8 +11,22 @@ public interface MaskStrategy {
     
     /**
      * 获取支持的脱敏类型
+     * <p>
+     * 内置类型的策略返回对应类型；只以字符串 ID 注册的扩展策略可不覆盖，返回 null
      */
-    SensitiveType getType();
+    default SensitiveType getType() {
+        return null;
+    }
+
+    /**
+     * 策略 ID，{@code @Sensitive(strategy = ...)} 以此引用
+     * <p>
+     * 默认为 {@link #getType()} 的名称，与内置类型同 ID 时替换内置策略；扩展策略覆盖此方法返回自己的 ID
+     */
+    default String getId() {
+        SensitiveType type = getType();
+        return type == null ? null : type.name();
+    }
     
     /**
      * 执行脱敏
@@ -23,6 +37,20 @@ public interface MaskStrategy {
      */
     String mask(String value, char maskChar);
     
+    /**
+     * 定长脱敏：掩码段长度固定，输出不暴露原值长度，示例：6222********0123、张**
+     * <p>
+     * 默认与 {@link #mask(String, char)} 相同；输出本身与原值长度无关的策略（地址、IP、HMAC）无需覆盖，
+     * 保留格式令牌化（FPE）与嵌入式 PII 按定义保留原长度
+     *
+     * @param value    原始值
+     * @param maskChar 脱敏字符
+     * @return 脱敏后的值
+     */
+    default String maskFixed(String value, char maskChar) {
+        return mask(value, maskChar);
+    }
+    
     /**
      * 使用默认脱敏字符执行脱敏
      */
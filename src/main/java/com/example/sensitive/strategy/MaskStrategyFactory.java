@@ -1,15 +1,16 @@
 package com.example.sensitive.strategy;
 
 import com.example.sensitive.enums.SensitiveType;
-import com.example.sensitive.strategy.impl.*;
 
-import java.util.EnumMap;
-import java.util.Map;
+import java.util.Set;
 
 /**
  * 脱敏策略工厂
  * <p>
- * 使用 EnumMap 实现 O(1) 策略查找，支持自定义策略扩展
+ * 默认 {@link MaskStrategyRegistry} 的静态门面：注册来源依次为内置策略、
+ * {@code META-INF/services/com.example.sensitive.strategy.MaskStrategy}（{@link java.util.ServiceLoader}）
+ * 与 Spring 容器中的 {@link MaskStrategy} Bean，后注册的覆盖先注册的同 ID 策略。
+ * 默认注册表由默认的 {@code SensitiveEngine} 持有，需要隔离的场景另建引擎与注册表。
  * </p>
  *
  * @author example
@@ -19,23 +20,8 @@ public final class MaskStrategyFactory {
     /** 默认脱敏字符 */
     private static final char DEFAULT_MASK_CHAR = '*';
 
-    /** 默认策略（通用文本脱敏） */
-    private static final SensitiveType DEFAULT_TYPE = SensitiveType.TEXT;
-
-    /** 策略映射表 */
-    private static final Map<SensitiveType, MaskStrategy> STRATEGIES = new EnumMap<>(SensitiveType.class);
-
-    static {
-        // 注册所有内置策略
-        register(new PhoneMaskStrategy());
-        register(new IdCardMaskStrategy());
-        register(new BankCardMaskStrategy());
-        register(new EmailMaskStrategy());
-        register(new NameMaskStrategy());
-        register(new AddressMaskStrategy());
-        register(new IpMaskStrategy());
-        register(new TextMaskStrategy());
-    }
+    /** 默认注册表 */
+    private static final MaskStrategyRegistry REGISTRY = new MaskStrategyRegistry();
 
     /**
      * 私有构造函数，工具类禁止实例化
@@ -44,15 +30,19 @@ public final class MaskStrategyFactory {
     }
 
     /**
-     * 注册策略（支持扩展）
+     * 默认注册表
+     */
+    public static MaskStrategyRegistry getRegistry() {
+        return REGISTRY;
+    }
+
+    /**
+     * 注册策略（支持扩展），以 {@link MaskStrategy#getId()} 为键覆盖同 ID 的已有策略
      *
-     * @param strategy 脱敏策略，若为 null 或类型为 null 则忽略
+     * @param strategy 脱敏策略，若为 null 或 ID 为空则忽略
      */
     public static void register(MaskStrategy strategy) {
-        if (strategy == null || strategy.getType() == null) {
-            return;
-        }
-        STRATEGIES.put(strategy.getType(), strategy);
+        REGISTRY.register(strategy);
     }
 
     /**
@@ -65,7 +55,44 @@ public final class MaskStrategyFactory {
      * @return 对应的脱敏策略
      */
     public static MaskStrategy getStrategy(SensitiveType type) {
-        return STRATEGIES.getOrDefault(type, STRATEGIES.get(DEFAULT_TYPE));
+        return REGISTRY.getStrategy(type);
+    }
+
+    /**
+     * 获取指定 ID 的脱敏策略
+     *
+     * @param id 策略 ID
+     * @return 对应的脱敏策略，未注册时返回 null
+     */
+    public static MaskStrategy getStrategy(String id) {
+        return REGISTRY.getStrategy(id);
+    }
+
+    /**
+     * 已注册的策略 ID
+     */
+    public static Set<String> getStrategyIds() {
+        return REGISTRY.getStrategyIds();
+    }
+
+    /**
+     * 注册表版本，每次注册递增
+     */
+    public static long getVersion() {
+        return REGISTRY.getVersion();
+    }
+
+    /**
+     * 将字段配置一次解析为策略引用，见 {@link MaskStrategyRegistry#resolve}
+     *
+     * @param type         脱敏类型
+     * @param strategyId   扩展策略 ID，可为 null 或空
+     * @param prefixLength CUSTOM 前缀保留长度
+     * @param suffixLength CUSTOM 后缀保留长度
+     * @return 策略引用
+     */
+    public static MaskStrategy resolve(SensitiveType type, String strategyId, int prefixLength, int suffixLength) {
+        return REGISTRY.resolve(type, strategyId, prefixLength, suffixLength);
     }
 
     /**
@@ -76,7 +103,7 @@ public final class MaskStrategyFactory {
      * @return 脱敏后的值，若输入为空则返回原值
      */
     public static String mask(String value, SensitiveType type) {
-        return mask(value, type, DEFAULT_MASK_CHAR);
+        return REGISTRY.mask(value, type, DEFAULT_MASK_CHAR);
     }
 
     /**
@@ -88,10 +115,33 @@ public final class MaskStrategyFactory {
      * @return 脱敏后的值，若输入为空则返回原值
      */
     public static String mask(String value, SensitiveType type, char maskChar) {
-        if (isBlank(value)) {
-            return value;
-        }
-        return getStrategy(type).mask(value, maskChar);
+        return REGISTRY.mask(value, type, maskChar, false);
+    }
+
+    /**
+     * 使用指定掩码字符执行脱敏，可要求定长输出
+     *
+     * @param value       原始值
+     * @param type        脱敏类型
+     * @param maskChar    掩码字符
+     * @param fixedLength 是否定长输出（见 {@link MaskStrategy#maskFixed}），全局开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public static String mask(String value, SensitiveType type, char maskChar, boolean fixedLength) {
+        return REGISTRY.mask(value, type, maskChar, fixedLength);
+    }
+
+    /**
+     * 使用已解析的策略执行脱敏（见 {@link #resolve}）
+     *
+     * @param value       原始值
+     * @param strategy    脱敏策略
+     * @param maskChar    掩码字符
+     * @param fixedLength 是否定长输出，全局开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public static String mask(String value, MaskStrategy strategy, char maskChar, boolean fixedLength) {
+        return REGISTRY.mask(value, strategy, maskChar, fixedLength);
     }
 
     /**
@@ -104,19 +154,39 @@ public final class MaskStrategyFactory {
      * @return 脱敏后的值，若输入为空则返回原值
      */
     public static String maskCustom(String value, int prefixLength, int suffixLength, char maskChar) {
-        if (isBlank(value)) {
-            return value;
-        }
-        return new CustomMaskStrategy(prefixLength, suffixLength).mask(value, maskChar);
+        return REGISTRY.maskCustom(value, prefixLength, suffixLength, maskChar, false);
+    }
+
+    /**
+     * 自定义脱敏（指定前后保留长度），可要求定长输出
+     *
+     * @param value        原始值
+     * @param prefixLength 前缀保留长度
+     * @param suffixLength 后缀保留长度
+     * @param maskChar     掩码字符
+     * @param fixedLength  是否定长输出，全局开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public static String maskCustom(String value, int prefixLength, int suffixLength, char maskChar,
+                                    boolean fixedLength) {
+        return REGISTRY.maskCustom(value, prefixLength, suffixLength, maskChar, fixedLength);
     }
 
     /**
-     * 判断字符串是否为空或空白
+     * 设置全局定长脱敏开关
+     * <p>
+     * 打开后所有字段按 {@link MaskStrategy#maskFixed} 输出，与字段上的 {@code @Sensitive(fixedLength)} 取或
      *
-     * @param value 待检查字符串
-     * @return 若字符串为 null 或空则为 true
+     * @param fixedLength 是否定长输出
+     */
+    public static void setFixedLength(boolean fixedLength) {
+        REGISTRY.setFixedLength(fixedLength);
+    }
+
+    /**
+     * 全局定长脱敏开关是否打开
      */
-    private static boolean isBlank(String value) {
-        return value == null || value.isEmpty();
+    public static boolean isFixedLength() {
+        return REGISTRY.isFixedLength();
     }
 }
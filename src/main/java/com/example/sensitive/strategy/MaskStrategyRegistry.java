@@ -0,0 +1,322 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.Set;
+
+/**
+ * 脱敏策略注册表
+ * <p>
+ * 策略按字符串 ID 注册：内置策略的 ID 为 {@link SensitiveType} 的名称，扩展策略可使用任意 ID，
+ * 通过 {@code @Sensitive(strategy = "passport")} 引用。新建的注册表已包含全部内置策略与
+ * {@code META-INF/services/com.example.sensitive.strategy.MaskStrategy}（{@link ServiceLoader}）声明的策略，
+ * 后注册的覆盖先注册的同 ID 策略。
+ * <p>
+ * 注册表内容是不可变快照，注册时写时复制并以一次 volatile 写发布，读取无锁；按类型查找为数组下标 O(1)。
+ * 字段元数据构建时通过 {@link #resolve} 一次解析为策略引用，热路径不再查表；
+ * 注册表变化时 {@link #getVersion()} 递增，据此缓存的解析结果随之失效。
+ * <p>
+ * 每个 {@code SensitiveEngine} 持有一个注册表，内置的组合策略（AUTO、EMBEDDED、ADDRESS_REGION）
+ * 转发到所属注册表中的策略，替换某个类型的策略只影响该注册表。{@link MaskStrategyFactory} 是默认注册表的静态门面。
+ *
+ * @author example
+ */
+public final class MaskStrategyRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(MaskStrategyRegistry.class);
+
+    /** 默认脱敏字符 */
+    private static final char DEFAULT_MASK_CHAR = '*';
+
+    /** 默认策略（通用文本脱敏） */
+    private static final SensitiveType DEFAULT_TYPE = SensitiveType.TEXT;
+
+    /** 定长脱敏开关，由 {@code sensitive.fixed-length} 配置 */
+    private volatile boolean fixedLength;
+
+    /** 当前快照 */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * 创建包含内置策略与 {@link ServiceLoader} 扩展策略的注册表
+     */
+    public MaskStrategyRegistry() {
+        register(new PhoneMaskStrategy());
+        register(new IdCardMaskStrategy());
+        register(new BankCardMaskStrategy());
+        register(new EmailMaskStrategy());
+        register(new NameMaskStrategy());
+        register(new AddressMaskStrategy());
+        register(new IpMaskStrategy());
+        register(new TextMaskStrategy());
+        register(new EmbeddedPiiMaskStrategy(this));
+        register(new AutoMaskStrategy(this));
+        register(new AddressRegionMaskStrategy(this));
+        loadServices();
+    }
+
+    /**
+     * 注册策略（支持扩展），以 {@link MaskStrategy#getId()} 为键覆盖同 ID 的已有策略
+     *
+     * @param strategy 脱敏策略，若为 null 或 ID 为空则忽略
+     */
+    public synchronized void register(MaskStrategy strategy) {
+        if (strategy == null) {
+            return;
+        }
+        String id = strategy.getId();
+        if (id == null || id.isEmpty()) {
+            return;
+        }
+        snapshot = snapshot.with(id, strategy);
+    }
+
+    /**
+     * 获取指定类型的脱敏策略
+     * <p>
+     * 若指定类型不存在，则返回默认的文本脱敏策略
+     * </p>
+     *
+     * @param type 脱敏类型
+     * @return 对应的脱敏策略
+     */
+    public MaskStrategy getStrategy(SensitiveType type) {
+        MaskStrategy[] byType = snapshot.byType;
+        MaskStrategy strategy = type == null ? null : byType[type.ordinal()];
+        return strategy != null ? strategy : byType[DEFAULT_TYPE.ordinal()];
+    }
+
+    /**
+     * 获取指定 ID 的脱敏策略
+     *
+     * @param id 策略 ID
+     * @return 对应的脱敏策略，未注册时返回 null
+     */
+    public MaskStrategy getStrategy(String id) {
+        return id == null ? null : snapshot.byId.get(id);
+    }
+
+    /**
+     * 已注册的策略 ID
+     */
+    public Set<String> getStrategyIds() {
+        return snapshot.byId.keySet();
+    }
+
+    /**
+     * 当前注册的全部策略（ID 到策略），不可变，可交给 {@link #reset} 恢复
+     */
+    public Map<String, MaskStrategy> getRegistrations() {
+        return snapshot.byId;
+    }
+
+    /**
+     * 以给定的注册内容整体替换当前策略，用于恢复 {@link #getRegistrations()} 保存的状态；版本照常递增
+     *
+     * @param registrations ID 到策略
+     */
+    public synchronized void reset(Map<String, MaskStrategy> registrations) {
+        Snapshot next = Snapshot.EMPTY;
+        for (Map.Entry<String, MaskStrategy> entry : registrations.entrySet()) {
+            next = next.with(entry.getKey(), entry.getValue());
+        }
+        snapshot = next.withVersion(snapshot.version + 1);
+    }
+
+    /**
+     * 注册表版本，每次注册或重置递增
+     */
+    public long getVersion() {
+        return snapshot.version;
+    }
+
+    /**
+     * 将字段配置一次解析为策略引用，供元数据构建时调用
+     * <p>
+     * {@code strategyId} 非空时按 ID 查找，未注册时退化为通用文本脱敏（不输出明文）；
+     * CUSTOM 类型返回按前后保留长度构造的策略实例
+     *
+     * @param type         脱敏类型
+     * @param strategyId   扩展策略 ID，可为 null 或空
+     * @param prefixLength CUSTOM 前缀保留长度
+     * @param suffixLength CUSTOM 后缀保留长度
+     * @return 策略引用
+     */
+    public MaskStrategy resolve(SensitiveType type, String strategyId, int prefixLength, int suffixLength) {
+        if (strategyId != null && !strategyId.isEmpty()) {
+            MaskStrategy strategy = getStrategy(strategyId);
+            return strategy != null ? strategy : getStrategy(DEFAULT_TYPE);
+        }
+        if (type == SensitiveType.CUSTOM) {
+            return new CustomMaskStrategy(prefixLength, suffixLength);
+        }
+        return getStrategy(type);
+    }
+
+    /**
+     * 使用默认掩码字符执行脱敏
+     *
+     * @param value 原始值
+     * @param type  脱敏类型
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public String mask(String value, SensitiveType type) {
+        return mask(value, type, DEFAULT_MASK_CHAR);
+    }
+
+    /**
+     * 使用指定掩码字符执行脱敏
+     *
+     * @param value    原始值
+     * @param type     脱敏类型
+     * @param maskChar 掩码字符
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public String mask(String value, SensitiveType type, char maskChar) {
+        return mask(value, type, maskChar, false);
+    }
+
+    /**
+     * 使用指定掩码字符执行脱敏，可要求定长输出
+     *
+     * @param value       原始值
+     * @param type        脱敏类型
+     * @param maskChar    掩码字符
+     * @param fixedLength 是否定长输出（见 {@link MaskStrategy#maskFixed}），定长开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public String mask(String value, SensitiveType type, char maskChar, boolean fixedLength) {
+        if (isBlank(value)) {
+            return value;
+        }
+        return mask(value, getStrategy(type), maskChar, fixedLength);
+    }
+
+    /**
+     * 使用已解析的策略执行脱敏（见 {@link #resolve}）
+     *
+     * @param value       原始值
+     * @param strategy    脱敏策略
+     * @param maskChar    掩码字符
+     * @param fixedLength 是否定长输出，定长开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public String mask(String value, MaskStrategy strategy, char maskChar, boolean fixedLength) {
+        if (isBlank(value)) {
+            return value;
+        }
+        return fixedLength || this.fixedLength
+                ? strategy.maskFixed(value, maskChar)
+                : strategy.mask(value, maskChar);
+    }
+
+    /**
+     * 自定义脱敏（指定前后保留长度），可要求定长输出
+     *
+     * @param value        原始值
+     * @param prefixLength 前缀保留长度
+     * @param suffixLength 后缀保留长度
+     * @param maskChar     掩码字符
+     * @param fixedLength  是否定长输出，定长开关打开时总是定长
+     * @return 脱敏后的值，若输入为空则返回原值
+     */
+    public String maskCustom(String value, int prefixLength, int suffixLength, char maskChar, boolean fixedLength) {
+        if (isBlank(value)) {
+            return value;
+        }
+        return mask(value, new CustomMaskStrategy(prefixLength, suffixLength), maskChar, fixedLength);
+    }
+
+    /**
+     * 设置定长脱敏开关
+     * <p>
+     * 打开后经本注册表脱敏的字段均按 {@link MaskStrategy#maskFixed} 输出，与字段上的 {@code @Sensitive(fixedLength)} 取或
+     *
+     * @param fixedLength 是否定长输出
+     */
+    public void setFixedLength(boolean fixedLength) {
+        this.fixedLength = fixedLength;
+    }
+
+    /**
+     * 定长脱敏开关是否打开
+     */
+    public boolean isFixedLength() {
+        return fixedLength;
+    }
+
+    /**
+     * 注册 {@link ServiceLoader} 发现的策略，单个提供者加载失败只记录日志
+     */
+    private void loadServices() {
+        try {
+            ServiceLoader.load(MaskStrategy.class, MaskStrategyRegistry.class.getClassLoader()).stream()
+                    .forEach(provider -> {
+                        try {
+                            register(provider.get());
+                        } catch (ServiceConfigurationError | RuntimeException e) {
+                            log.warn("Skip mask strategy provider {}", provider.type().getName(), e);
+                        }
+                    });
+        } catch (ServiceConfigurationError e) {
+            log.warn("Failed to load mask strategy providers", e);
+        }
+    }
+
+    /**
+     * 判断字符串是否为空或空白
+     *
+     * @param value 待检查字符串
+     * @return 若字符串为 null 或空则为 true
+     */
+    private static boolean isBlank(String value) {
+        return value == null || value.isEmpty();
+    }
+
+    /**
+     * 不可变的注册表快照
+     */
+    private static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, Map.of(), new MaskStrategy[SensitiveType.values().length]);
+
+        final long version;
+
+        final Map<String, MaskStrategy> byId;
+
+        /** 按 {@link SensitiveType#ordinal()} 下标的内置类型策略 */
+        final MaskStrategy[] byType;
+
+        private Snapshot(long version, Map<String, MaskStrategy> byId, MaskStrategy[] byType) {
+            this.version = version;
+            this.byId = byId;
+            this.byType = byType;
+        }
+
+        /**
+         * 复制并加入一个策略
+         */
+        Snapshot with(String id, MaskStrategy strategy) {
+            Map<String, MaskStrategy> ids = new HashMap<>(byId);
+            ids.put(id, strategy);
+            MaskStrategy[] types = byType.clone();
+            for (SensitiveType type : SensitiveType.values()) {
+                if (type.name().equals(id)) {
+                    types[type.ordinal()] = strategy;
+                }
+            }
+            return new Snapshot(version + 1, Map.copyOf(ids), types);
+        }
+
+        Snapshot withVersion(long version) {
+            return new Snapshot(version, byId, byType);
+        }
+    }
+}
@@ -24,14 +24,14 @@ public class AddressMaskStrategy implements MaskStrategy {
             return value;
         }
         
-        int len = value.length();
+        int coder = CodePoints.coder(value);
         
-        if (len <= DEFAULT_PREFIX_LENGTH) {
+        if (CodePoints.length(value, coder) <= DEFAULT_PREFIX_LENGTH) {
             return value;
         }
         
-        // 保留前6个字符，后面用***代替
-        return value.substring(0, DEFAULT_PREFIX_LENGTH) + 
+        // 保留前6个字符（按码点），后面用***代替
+        return value.substring(0, CodePoints.offset(value, coder, DEFAULT_PREFIX_LENGTH)) + 
                String.valueOf(maskChar).repeat(3);
     }
 }
@@ -0,0 +1,76 @@
+package com.example.sensitive.strategy.impl;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+
+/**
+ * 按行政区划保留前缀的地址脱敏策略
+ * 广东省深圳市南山区科技园南区高新南七道 -> 广东省深圳市南山区***
+ * <p>
+ * 从地址开头依次最长匹配省、市、区县三级名称（级别须逐级递增，可跳级，如直辖市后直接接区），
+ * 恰好保留识别出的区划前缀，其后统一替换为三个掩码字符。名称表见 {@link #REGIONS_LOCATION}；
+ * 开头不是已收录区划的地址按 {@link SensitiveType#ADDRESS} 处理。
+ *
+ * @author example
+ */
+public class AddressRegionMaskStrategy implements MaskStrategy {
+
+    /** 未识别出区划时转发的注册表 */
+    private final MaskStrategyRegistry strategies;
+
+    /**
+     * 转发到默认注册表
+     */
+    public AddressRegionMaskStrategy() {
+        this(MaskStrategyFactory.getRegistry());
+    }
+
+    /**
+     * @param strategies 未识别出区划时转发的注册表
+     */
+    public AddressRegionMaskStrategy(MaskStrategyRegistry strategies) {
+        this.strategies = strategies;
+    }
+
+    /** 行政区划名称表位置 */
+    public static final String REGIONS_LOCATION = "META-INF/sensitive/regions.txt";
+
+    /** 县级 */
+    private static final int MAX_LEVEL = 3;
+
+    @Override
+    public SensitiveType getType() {
+        return SensitiveType.ADDRESS_REGION;
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+
+        int end = 0;
+        int level = 0;
+        while (level < MAX_LEVEL) {
+            int match = RegionTrie.match(value, end);
+            if (match < 0 || (match & 3) <= level) {
+                break;
+            }
+            end = match >>> 2;
+            level = match & 3;
+        }
+
+        if (end == 0) {
+            return strategies.mask(value, SensitiveType.ADDRESS, maskChar);
+        }
+        if (end == value.length()) {
+            return value;
+        }
+        char[] chars = new char[end + 3];
+        value.getChars(0, end, chars, 0);
+        chars[end] = chars[end + 1] = chars[end + 2] = maskChar;
+        return new String(chars);
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.sensitive.strategy.impl;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+
+/**
+ * 按值自动识别类型的脱敏策略
+ * <p>
+ * 用于 {@code Map<String, String>} 扩展字段、属性包等静态类型未知的场景。每次脱敏先对值做一次
+ * 线性特征扫描（长度、数字/字母/汉字个数、{@code @} 与 {@code .} 的位置、分隔符），再走一棵
+ * 固定的判定树，只在需要区分身份证、银行卡时计算校验位，最后交给对应类型的策略：
+ * <pre>
+ * 单个 @，其后有点                    -> EMAIL
+ * 17 位数字 + X                      -> ID_CARD（校验码正确）
+ * 纯数字（可带 + 与空格、横线分组）:
+ *   三个点、四段不超过 255           -> IP_ADDRESS
+ *   11 位 1[3-9] 开头                -> PHONE
+ *   18 位且校验码正确                -> ID_CARD
+ *   15 位且地区码首位、出生月日合法   -> ID_CARD
+ *   16~19 位且通过 Luhn              -> BANK_CARD
+ *   7~15 位且按手机号规则至少掩码 4 位 -> PHONE
+ * 含两个以上冒号的十六进制串          -> IP_ADDRESS
+ * 含汉字:
+ *   2~4 个汉字（可含间隔号）         -> NAME
+ *   含两个以上省/市/区/县/路/街/号   -> ADDRESS
+ *   含 7 位以上数字或 @              -> EMBEDDED
+ * 其余                               -> TEXT
+ * </pre>
+ * 判定不使用正则、不分配对象；无法确定时退回 {@link SensitiveType#TEXT}，不会输出明文。
+ * 较短的号码（如 7 位座机号、{@code 123-4567}）按手机号规则几乎不掩码，同样退回 TEXT。
+ *
+ * @author example
+ */
+public class AutoMaskStrategy implements MaskStrategy {
+
+    /** 按手机号脱敏时至少应掩码的数字个数，不足时改按 TEXT 脱敏 */
+    private static final int MIN_PHONE_MASKED_DIGITS = 4;
+
+    /** 识别出类型后转发的注册表 */
+    private final MaskStrategyRegistry strategies;
+
+    /**
+     * 转发到默认注册表
+     */
+    public AutoMaskStrategy() {
+        this(MaskStrategyFactory.getRegistry());
+    }
+
+    /**
+     * @param strategies 识别出类型后转发的注册表
+     */
+    public AutoMaskStrategy(MaskStrategyRegistry strategies) {
+        this.strategies = strategies;
+    }
+
+    @Override
+    public SensitiveType getType() {
+        return SensitiveType.AUTO;
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return strategies.mask(value, classify(value), maskChar);
+    }
+
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        return strategies.getStrategy(classify(value)).maskFixed(value, maskChar);
+    }
+
+    /**
+     * 识别值的脱敏类型
+     *
+     * @param value 原值，非空
+     * @return 识别出的类型，不会返回 {@link SensitiveType#AUTO}
+     */
+    public static SensitiveType classify(String value) {
+        int len = value.length();
+        int digits = 0;
+        int letters = 0;
+        int hexLetters = 0;
+        int dots = 0;
+        int colons = 0;
+        int ats = 0;
+        int atIndex = -1;
+        int lastDot = -1;
+        int separators = 0;
+        int spaces = 0;
+        int cjk = 0;
+        int addressMarks = 0;
+        int interpuncts = 0;
+        int others = 0;
+
+        for (int i = 0; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            } else if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')) {
+                letters++;
+                if ((c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F')) {
+                    hexLetters++;
+                }
+            } else if (c >= '\u4E00' && c <= '\u9FFF') {
+                cjk++;
+                if (isAddressMark(c)) {
+                    addressMarks++;
+                }
+            } else {
+                switch (c) {
+                    case '.':
+                        dots++;
+                        lastDot = i;
+                        break;
+                    case ':':
+                        colons++;
+                        break;
+                    case '@':
+                        ats++;
+                        atIndex = i;
+                        break;
+                    case ' ':
+                        spaces++;
+                        separators++;
+                        break;
+                    case '-':
+                        separators++;
+                        break;
+                    case '+':
+                        if (i != 0) {
+                            others++;
+                        }
+                        break;
+                    case '·':
+                        interpuncts++;
+                        break;
+                    default:
+                        others++;
+                        break;
+                }
+            }
+        }
+
+        if (ats == 1 && atIndex > 0 && lastDot > atIndex + 1 && lastDot < len - 1 && spaces == 0) {
+            return SensitiveType.EMAIL;
+        }
+
+        if (cjk == 0 && others == 0 && interpuncts == 0) {
+            // 17 位数字 + X
+            if (letters == 1 && digits == 17 && len == 18
+                    && (value.charAt(17) == 'X' || value.charAt(17) == 'x') && Checksums.isValidIdCard(value, 0)) {
+                return SensitiveType.ID_CARD;
+            }
+            if (letters == 0 && colons == 0) {
+                if (dots == 3 && separators == 0 && digits == len - 3) {
+                    return isIpv4(value) ? SensitiveType.IP_ADDRESS : SensitiveType.TEXT;
+                }
+                if (dots == 0 && digits > 0) {
+                    return classifyNumber(value, digits, digits == len);
+                }
+            }
+            if (colons >= 2 && letters == hexLetters && separators == 0) {
+                return SensitiveType.IP_ADDRESS;
+            }
+        }
+
+        if (cjk > 0) {
+            if (cjk + interpuncts == len && (interpuncts > 0 || cjk >= 2 && cjk <= 4)) {
+                return SensitiveType.NAME;
+            }
+            if (addressMarks >= 2 && len >= 6) {
+                return SensitiveType.ADDRESS;
+            }
+            if (digits >= 7 || ats > 0) {
+                return SensitiveType.EMBEDDED;
+            }
+            return SensitiveType.TEXT;
+        }
+
+        if (len > 20 && (digits >= 7 || ats > 0)) {
+            return SensitiveType.EMBEDDED;
+        }
+        return SensitiveType.TEXT;
+    }
+
+    /**
+     * 纯数字（可带 + 前缀与分组分隔符）
+     */
+    private static SensitiveType classifyNumber(String value, int digits, boolean plain) {
+        if (plain) {
+            if (digits == 11 && value.charAt(0) == '1' && value.charAt(1) >= '3') {
+                return SensitiveType.PHONE;
+            }
+            if (digits == 18 && Checksums.isValidIdCard(value, 0) || digits == 15 && isLegacyIdCard(value)) {
+                return SensitiveType.ID_CARD;
+            }
+        }
+        if (digits >= 16 && digits <= 19 && value.charAt(0) != '+' && Checksums.isLuhnValid(value, 0, value.length())) {
+            return SensitiveType.BANK_CARD;
+        }
+        if (digits >= 7 && digits <= 15 && PhoneMaskStrategy.maskedDigits(value) >= MIN_PHONE_MASKED_DIGITS) {
+            return SensitiveType.PHONE;
+        }
+        return SensitiveType.TEXT;
+    }
+
+    /**
+     * 15 位一代身份证：地区码首位 1~8，第 9~12 位为合法的出生月日（调用方已保证全为数字）
+     */
+    private static boolean isLegacyIdCard(String value) {
+        char region = value.charAt(0);
+        int month = (value.charAt(8) - '0') * 10 + (value.charAt(9) - '0');
+        int day = (value.charAt(10) - '0') * 10 + (value.charAt(11) - '0');
+        return region >= '1' && region <= '8' && month >= 1 && month <= 12 && day >= 1 && day <= 31;
+    }
+
+    private static boolean isAddressMark(char c) {
+        switch (c) {
+            case '省':
+            case '市':
+            case '区':
+            case '县':
+            case '路':
+            case '街':
+            case '号':
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 四段、每段 1~3 位且不超过 255（调用方已保证只含数字与三个点）
+     */
+    private static boolean isIpv4(String value) {
+        int octet = 0;
+        int width = 0;
+        for (int i = 0, len = value.length(); i <= len; i++) {
+            char c = i < len ? value.charAt(i) : '.';
+            if (c == '.') {
+                if (width == 0 || width > 3 || octet > 255) {
+                    return false;
+                }
+                octet = 0;
+                width = 0;
+            } else {
+                octet = octet * 10 + (c - '0');
+                width++;
+            }
+        }
+        return true;
+    }
+}
@@ -33,4 +33,13 @@ public class BankCardMaskStrategy implements MaskStrategy {
         sb.append(value, len - 4, len);
         return sb.toString();
     }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        // 定长：6222********0123，16~19 位卡号输出相同长度
+        return FixedMasks.mask(value, 4, 8, 4, maskChar);
+    }
 }
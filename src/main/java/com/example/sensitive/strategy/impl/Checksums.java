@@ -0,0 +1,58 @@
+package com.example.sensitive.strategy.impl;
+
+/**
+ * 号码校验位计算，供按值识别类型的策略区分身份证、银行卡与普通数字串
+ *
+ * @author example
+ */
+final class Checksums {
+
+    private static final int[] ID_WEIGHTS = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+
+    private static final String ID_CHECK_DIGITS = "10X98765432";
+
+    private Checksums() {
+    }
+
+    /**
+     * 18 位身份证校验码（GB 11643，ISO 7064 MOD 11-2），末位 X 不区分大小写
+     *
+     * @param value 文本
+     * @param start 号码起始位置，须保证其后至少有 18 个字符
+     */
+    static boolean isValidIdCard(String value, int start) {
+        int sum = 0;
+        for (int k = 0; k < 17; k++) {
+            char c = value.charAt(start + k);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+            sum += (c - '0') * ID_WEIGHTS[k];
+        }
+        return Character.toUpperCase(value.charAt(start + 17)) == ID_CHECK_DIGITS.charAt(sum % 11);
+    }
+
+    /**
+     * Luhn 校验，区间内的非数字字符（分组空格、横线）跳过
+     */
+    static boolean isLuhnValid(String value, int start, int end) {
+        int sum = 0;
+        boolean doubleIt = false;
+        for (int k = end - 1; k >= start; k--) {
+            char c = value.charAt(k);
+            if (c < '0' || c > '9') {
+                continue;
+            }
+            int d = c - '0';
+            if (doubleIt) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+            doubleIt = !doubleIt;
+        }
+        return sum % 10 == 0;
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.sensitive.strategy.impl;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 按码点处理的掩码工具
+ * <p>
+ * 按 {@code char} 下标截取会把 emoji、生僻汉字（增补平面字符）的代理对拆开，输出乱码。
+ * 这里先对输入做一次扫描得到字符集类别，再按类别选择实现：
+ * <ul>
+ *   <li>{@link #LATIN1}: 直接填充 {@code byte[]}，以 ISO-8859-1 构造结果，与 JDK 紧凑字符串的存储一致</li>
+ *   <li>{@link #BMP}: 不含代理字符，码点与 {@code char} 一一对应，直接填充 {@code char[]}</li>
+ *   <li>{@link #SUPPLEMENTARY}: 含代理对，按码点定位保留区间，每个被掩码的码点输出一个掩码字符</li>
+ * </ul>
+ * 前两类覆盖了绝大多数输入，不为正确性付出额外的逐码点开销。
+ *
+ * @author example
+ */
+final class CodePoints {
+
+    /** 全部字符 &lt;= 0xFF */
+    static final int LATIN1 = 0;
+
+    /** 基本多文种平面，不含代理字符 */
+    static final int BMP = 1;
+
+    /** 含增补平面字符（代理对） */
+    static final int SUPPLEMENTARY = 2;
+
+    private CodePoints() {
+    }
+
+    /**
+     * 一次扫描确定字符集类别
+     */
+    static int coder(String value) {
+        int coder = LATIN1;
+        for (int i = 0, len = value.length(); i < len; i++) {
+            char c = value.charAt(i);
+            if (c > 0xFF) {
+                if (Character.isSurrogate(c)) {
+                    return SUPPLEMENTARY;
+                }
+                coder = BMP;
+            }
+        }
+        return coder;
+    }
+
+    /**
+     * 码点数
+     */
+    static int length(String value, int coder) {
+        return coder == SUPPLEMENTARY ? value.codePointCount(0, value.length()) : value.length();
+    }
+
+    /**
+     * 前 n 个码点对应的 char 数
+     */
+    static int offset(String value, int coder, int codePoints) {
+        return coder == SUPPLEMENTARY ? value.offsetByCodePoints(0, codePoints) : codePoints;
+    }
+
+    /**
+     * 保留前 {@code prefix}、后 {@code suffix} 个码点，其余每个码点替换为一个掩码字符
+     *
+     * @param value    原值
+     * @param coder    {@link #coder(String)} 的结果
+     * @param count    {@link #length(String, int)} 的结果
+     * @param prefix   保留的前缀码点数
+     * @param suffix   保留的后缀码点数，{@code prefix + suffix <= count}
+     * @param maskChar 掩码字符
+     */
+    static String maskMiddle(String value, int coder, int count, int prefix, int suffix, char maskChar) {
+        int len = value.length();
+        if (coder == SUPPLEMENTARY) {
+            int start = value.offsetByCodePoints(0, prefix);
+            int end = value.offsetByCodePoints(len, -suffix);
+            int masked = count - prefix - suffix;
+            StringBuilder sb = new StringBuilder(start + masked + len - end);
+            sb.append(value, 0, start);
+            for (int i = 0; i < masked; i++) {
+                sb.append(maskChar);
+            }
+            sb.append(value, end, len);
+            return sb.toString();
+        }
+
+        int end = len - suffix;
+        if (coder == LATIN1 && maskChar <= 0xFF) {
+            byte[] out = new byte[len];
+            for (int i = 0; i < prefix; i++) {
+                out[i] = (byte) value.charAt(i);
+            }
+            Arrays.fill(out, prefix, end, (byte) maskChar);
+            for (int i = end; i < len; i++) {
+                out[i] = (byte) value.charAt(i);
+            }
+            return new String(out, StandardCharsets.ISO_8859_1);
+        }
+
+        char[] out = new char[len];
+        value.getChars(0, prefix, out, 0);
+        Arrays.fill(out, prefix, end, maskChar);
+        value.getChars(end, len, out, end);
+        return new String(out);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.sensitive.strategy.impl;
+
+import java.util.Arrays;
+
+/**
+ * E.164 国家码前缀树
+ * <p>
+ * 国家码是前缀码（1~3 位，互不为前缀），按数字逐位下行即可确定其长度。树在类加载时由下方规则表一次构建，
+ * 以数组存储：{@code NEXT[node * 10 + digit]} 为子节点编号（0 表示无），{@code RULE[node]} 为终止节点
+ * 对应的规则下标（-1 表示非终止）。查找最多下行 3 层，不分配对象。
+ * <p>
+ * 全部 1、2 位国家码都在树中，因此前两位未命中的号码按 3 位国家码处理，使用通用规则。
+ * 规则表按国家码给出本国号码（NSN）的合法长度区间与首尾保留位数，长度不在区间内时同样退回通用规则。
+ *
+ * @author example
+ */
+final class CountryCodeTrie {
+
+    /** 通用规则下标 */
+    static final int GENERIC = 0;
+
+    /**
+     * 规则表：国家码、NSN 最短、最长、保留前几位、保留后几位
+     * <p>
+     * 保留前缀一般是运营商号段或区号，保留后缀用于人工核对，中间至少掩码 4 位
+     */
+    private static final int[][] RULES = {
+            {0, 0, 0, 0, 0},
+            {1, 10, 10, 0, 4},      // 北美：***-***-2671
+            {7, 10, 10, 3, 2},      // 俄罗斯、哈萨克斯坦：912 ***-**-67
+            {27, 9, 9, 2, 3},
+            {31, 9, 9, 1, 3},
+            {33, 9, 9, 1, 2},       // 法国：6 ** ** ** 78
+            {34, 9, 9, 3, 2},
+            {39, 9, 10, 3, 2},
+            {44, 10, 10, 3, 3},     // 英国：791* ***456
+            {49, 10, 11, 3, 3},
+            {52, 10, 10, 2, 4},
+            {55, 10, 11, 2, 4},
+            {60, 9, 10, 2, 3},
+            {61, 9, 9, 2, 3},       // 澳大利亚：41* *** 678
+            {62, 9, 12, 2, 3},
+            {63, 10, 10, 3, 3},
+            {65, 8, 8, 1, 3},       // 新加坡：8*** *567
+            {66, 9, 9, 2, 3},
+            {81, 10, 10, 2, 4},     // 日本：90-****-5678
+            {82, 10, 10, 2, 4},
+            {84, 9, 10, 2, 3},
+            {86, 11, 11, 3, 4},     // 中国大陆手机：138****5678
+            {91, 10, 10, 2, 4},
+            {852, 8, 8, 2, 2},      // 香港：61** **67
+            {853, 8, 8, 2, 2},
+            {886, 9, 9, 3, 2},      // 台湾：912 *** *78
+            {971, 9, 9, 2, 3},
+    };
+
+    /** 其余 1、2 位国家码，使用通用规则 */
+    private static final int[] SHORT_CODES = {
+            20, 30, 32, 36, 40, 41, 43, 45, 46, 47, 48, 51, 53, 54, 56, 57, 58, 64, 90, 92, 93, 94, 95, 98
+    };
+
+    private static final byte[] MIN_NSN = new byte[RULES.length];
+
+    private static final byte[] MAX_NSN = new byte[RULES.length];
+
+    private static final byte[] HEAD = new byte[RULES.length];
+
+    private static final byte[] TAIL = new byte[RULES.length];
+
+    private static final short[] NEXT;
+
+    private static final byte[] RULE;
+
+    static {
+        short[] next = new short[10 * 128];
+        byte[] rule = new byte[128];
+        Arrays.fill(rule, (byte) -1);
+        int[] size = {1};
+        for (int r = 1; r < RULES.length; r++) {
+            MIN_NSN[r] = (byte) RULES[r][1];
+            MAX_NSN[r] = (byte) RULES[r][2];
+            HEAD[r] = (byte) RULES[r][3];
+            TAIL[r] = (byte) RULES[r][4];
+            insert(next, rule, size, RULES[r][0], r);
+        }
+        for (int code : SHORT_CODES) {
+            insert(next, rule, size, code, GENERIC);
+        }
+        NEXT = Arrays.copyOf(next, size[0] * 10);
+        RULE = Arrays.copyOf(rule, size[0]);
+    }
+
+    private CountryCodeTrie() {
+    }
+
+    private static void insert(short[] next, byte[] rule, int[] size, int code, int ruleIndex) {
+        String digits = Integer.toString(code);
+        int node = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            int slot = node * 10 + (digits.charAt(i) - '0');
+            if (next[slot] == 0) {
+                next[slot] = (short) size[0]++;
+            }
+            node = next[slot];
+        }
+        rule[node] = (byte) ruleIndex;
+    }
+
+    /**
+     * 匹配国家码
+     *
+     * @param value 号码
+     * @param start 国家码第一位数字的位置
+     * @return {@code 国家码位数 << 8 | 规则下标}；以 0 开头或国家码不完整时返回 -1
+     */
+    static int match(String value, int start) {
+        int len = value.length();
+        int node = 0;
+        for (int depth = 0; depth < 3; depth++) {
+            int i = start + depth;
+            int d = i < len ? value.charAt(i) - '0' : -1;
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            if (node >= 0) {
+                node = NEXT[node * 10 + d];
+                if (node == 0) {
+                    // 1、2 位国家码已全部收录，前两位未命中即为 3 位国家码
+                    if (depth == 0) {
+                        return -1;
+                    }
+                    node = -1;
+                } else if (RULE[node] >= 0) {
+                    return (depth + 1) << 8 | RULE[node];
+                }
+            }
+        }
+        return 3 << 8 | GENERIC;
+    }
+
+    /**
+     * 本国号码保留前几位；长度不在规则区间内时按通用规则
+     */
+    static int head(int rule, int nsn) {
+        if (rule != GENERIC && nsn >= MIN_NSN[rule] && nsn <= MAX_NSN[rule]) {
+            return HEAD[rule];
+        }
+        return nsn >= 9 ? 2 : nsn >= 6 ? 1 : 0;
+    }
+
+    /**
+     * 本国号码保留后几位；长度不在规则区间内时按通用规则
+     */
+    static int tail(int rule, int nsn) {
+        if (rule != GENERIC && nsn >= MIN_NSN[rule] && nsn <= MAX_NSN[rule]) {
+            return TAIL[rule];
+        }
+        return nsn >= 8 ? 3 : nsn >= 6 ? 2 : 1;
+    }
+}
@@ -11,6 +11,9 @@ import com.example.sensitive.strategy.MaskStrategy;
  */
 public class CustomMaskStrategy implements MaskStrategy {
     
+    /** 定长模式的掩码段长度 */
+    private static final int FIXED_BODY_LENGTH = 4;
+    
     private final int prefixLength;
     private final int suffixLength;
     
@@ -30,30 +33,22 @@ public class CustomMaskStrategy implements MaskStrategy {
             return value;
         }
         
-        int len = value.length();
+        int coder = CodePoints.coder(value);
+        int count = CodePoints.length(value, coder);
         
-        // 如果保留长度超过总长度，返回原值
-        if (prefixLength + suffixLength >= len) {
+        // 如果保留长度超过总长度（按码点计），返回原值
+        if (prefixLength + suffixLength >= count) {
             return value;
         }
         
-        StringBuilder sb = new StringBuilder(len);
-        
-        // 前缀
-        if (prefixLength > 0) {
-            sb.append(value, 0, prefixLength);
-        }
-        
-        // 中间掩码
-        for (int i = prefixLength; i < len - suffixLength; i++) {
-            sb.append(maskChar);
-        }
-        
-        // 后缀
-        if (suffixLength > 0) {
-            sb.append(value, len - suffixLength, len);
+        return CodePoints.maskMiddle(value, coder, count, prefixLength, suffixLength, maskChar);
+    }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
         }
-        
-        return sb.toString();
+        return FixedMasks.mask(value, prefixLength, FIXED_BODY_LENGTH, suffixLength, maskChar);
     }
 }
@@ -27,16 +27,31 @@ public class EmailMaskStrategy implements MaskStrategy {
             return value;
         }
         
-        // 保留首字符 + *** + @后部分
+        // 保留首字符（完整码点）+ *** + @后部分
+        int first = Character.charCount(value.codePointAt(0));
         StringBuilder sb = new StringBuilder();
-        sb.append(value.charAt(0));
+        sb.append(value, 0, first);
         
         // 如果@前超过1个字符，添加掩码
-        if (atIndex > 1) {
+        if (atIndex > first) {
             sb.append(maskChar).append(maskChar).append(maskChar);
         }
         
         sb.append(value.substring(atIndex));
         return sb.toString();
     }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        int atIndex = value.indexOf('@');
+        if (atIndex <= 0) {
+            return mask(value, maskChar);
+        }
+        // 定长：本地部分只有一个字符时也输出 a***@example.com
+        int first = Character.charCount(value.codePointAt(0));
+        return FixedMasks.join(value, Math.min(first, atIndex), 3, atIndex, maskChar);
+    }
 }
@@ -0,0 +1,220 @@
+package com.example.sensitive.strategy.impl;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+
+/**
+ * 自由文本嵌入式 PII 脱敏策略
+ * 请尽快联系13812345678处理 -> 请尽快联系138****5678处理
+ * <p>
+ * 备注、留言类字段大多是无害文本，只在其中夹带手机号、证件号等。本策略单次线性扫描全文，
+ * 只把识别出的片段交给对应类型的策略脱敏，其余文本原样保留；不使用正则，不回溯，
+ * 耗时与文本长度成正比。
+ * <ul>
+ *   <li>手机号: 11 位 {@code 1[3-9]} 开头的连续数字，可带 {@code +86} 前缀</li>
+ *   <li>身份证: 18 位且校验码、出生月日正确（末位可为 X）；15 位旧证没有校验码，
+ *       与物流单号等无法区分，不做识别</li>
+ *   <li>银行卡: 16~19 位且通过 Luhn 校验</li>
+ *   <li>邮箱: ASCII 本地部分 + {@code @} + 至少含一个点、顶级域不少于两个字母的 ASCII 域名</li>
+ * </ul>
+ * 数字串必须独立成词（前后不紧邻 ASCII 字母或数字），以免误伤订单号等编码；
+ * 以空格、横线分组的号码不识别。未识别到任何片段时返回原字符串，不产生分配。
+ * <p>
+ * 输出与原文等长：片段按各自策略的普通形式掩码，注册表的定长开关与 {@code @Sensitive(fixedLength = true)} 均不生效。
+ *
+ * @author example
+ */
+public class EmbeddedPiiMaskStrategy implements MaskStrategy {
+
+    /** 识别出的片段转发的注册表 */
+    private final MaskStrategyRegistry strategies;
+
+    /**
+     * 转发到默认注册表
+     */
+    public EmbeddedPiiMaskStrategy() {
+        this(MaskStrategyFactory.getRegistry());
+    }
+
+    /**
+     * @param strategies 识别出的片段转发的注册表
+     */
+    public EmbeddedPiiMaskStrategy(MaskStrategyRegistry strategies) {
+        this.strategies = strategies;
+    }
+
+    @Override
+    public SensitiveType getType() {
+        return SensitiveType.EMBEDDED;
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+
+        int len = value.length();
+        StringBuilder sb = null;
+        // 已输出到 sb 的位置，也是下一个片段允许的最小起点
+        int copied = 0;
+        int i = 0;
+        while (i < len) {
+            char c = value.charAt(i);
+
+            if (isDigit(c)) {
+                int start = i;
+                int end = i + 1;
+                while (end < len && isDigit(value.charAt(end))) {
+                    end++;
+                }
+                // 18 位身份证末位 X
+                if (end - start == 17 && end < len && (value.charAt(end) == 'X' || value.charAt(end) == 'x')) {
+                    end++;
+                }
+                i = end;
+
+                if (start > 0 && isWordChar(value.charAt(start - 1))
+                        || end < len && (isWordChar(value.charAt(end)) || value.charAt(end) == '@')) {
+                    continue;
+                }
+                SensitiveType type = classify(value, start, end);
+                if (type == null) {
+                    continue;
+                }
+                if (type == SensitiveType.PHONE && end - start == 13) {
+                    // +86 前缀原样保留
+                    start += 2;
+                }
+                sb = replace(sb, value, copied, start, end, type, maskChar);
+                copied = end;
+                continue;
+            }
+
+            if (c == '@') {
+                int localStart = i;
+                while (localStart > copied && isLocalChar(value.charAt(localStart - 1))) {
+                    localStart--;
+                }
+                while (localStart < i && value.charAt(localStart) == '.') {
+                    localStart++;
+                }
+                int domainEnd = domainEnd(value, i + 1);
+                if (localStart < i && domainEnd > 0) {
+                    sb = replace(sb, value, copied, localStart, domainEnd, SensitiveType.EMAIL, maskChar);
+                    copied = domainEnd;
+                    i = domainEnd;
+                    continue;
+                }
+            }
+            i++;
+        }
+
+        if (sb == null) {
+            return value;
+        }
+        sb.append(value, copied, len);
+        return sb.toString();
+    }
+
+    private StringBuilder replace(StringBuilder sb, String value, int copied, int start, int end,
+                                         SensitiveType type, char maskChar) {
+        if (sb == null) {
+            sb = new StringBuilder(value.length());
+        }
+        sb.append(value, copied, start);
+        // 直接调用片段策略的 mask：嵌入式 PII 按定义保留原长度，不受注册表定长开关影响
+        sb.append(strategies.getStrategy(type).mask(value.substring(start, end), maskChar));
+        return sb;
+    }
+
+    /**
+     * 按长度与校验规则判断数字串类型，无法识别时返回 null
+     */
+    private static SensitiveType classify(String value, int start, int end) {
+        switch (end - start) {
+            case 11:
+                return isMobile(value, start) ? SensitiveType.PHONE : null;
+            case 13:
+                return start > 0 && value.charAt(start - 1) == '+'
+                        && value.charAt(start) == '8' && value.charAt(start + 1) == '6'
+                        && isMobile(value, start + 2) ? SensitiveType.PHONE : null;
+            case 18:
+                if (Checksums.isValidIdCard(value, start) && isValidDate(value, start + 10, start + 12)) {
+                    return SensitiveType.ID_CARD;
+                }
+                return isDigit(value.charAt(end - 1)) && Checksums.isLuhnValid(value, start, end) ? SensitiveType.BANK_CARD : null;
+            case 16:
+            case 17:
+            case 19:
+                return isDigit(value.charAt(end - 1)) && Checksums.isLuhnValid(value, start, end) ? SensitiveType.BANK_CARD : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isMobile(String value, int start) {
+        char second = value.charAt(start + 1);
+        return value.charAt(start) == '1' && second >= '3' && second <= '9';
+    }
+
+    private static boolean isValidDate(String value, int month, int day) {
+        int m = (value.charAt(month) - '0') * 10 + (value.charAt(month + 1) - '0');
+        int d = (value.charAt(day) - '0') * 10 + (value.charAt(day + 1) - '0');
+        return m >= 1 && m <= 12 && d >= 1 && d <= 31;
+    }
+
+    /**
+     * 从 {@code @} 之后扫描域名，合法时返回域名结束位置，否则返回 -1
+     */
+    private static int domainEnd(String value, int from) {
+        int len = value.length();
+        int end = from;
+        while (end < len && isDomainChar(value.charAt(end))) {
+            end++;
+        }
+        if (end < len && value.charAt(end) == '@') {
+            return -1;
+        }
+        // 去掉句末的点、横线
+        while (end > from && (value.charAt(end - 1) == '.' || value.charAt(end - 1) == '-')) {
+            end--;
+        }
+        // 只在域名范围内回找，不越过 from，保证整体线性
+        int lastDot = end - 1;
+        while (lastDot > from && value.charAt(lastDot) != '.') {
+            lastDot--;
+        }
+        if (lastDot <= from || end - lastDot - 1 < 2) {
+            return -1;
+        }
+        for (int k = lastDot + 1; k < end; k++) {
+            if (!isAsciiLetter(value.charAt(k))) {
+                return -1;
+            }
+        }
+        return end;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isAsciiLetter(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
+
+    private static boolean isWordChar(char c) {
+        return isDigit(c) || isAsciiLetter(c);
+    }
+
+    private static boolean isLocalChar(char c) {
+        return isWordChar(c) || c == '.' || c == '_' || c == '%' || c == '+' || c == '-';
+    }
+
+    private static boolean isDomainChar(char c) {
+        return isWordChar(c) || c == '.' || c == '-';
+    }
+}
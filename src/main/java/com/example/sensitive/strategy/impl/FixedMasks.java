@@ -0,0 +1,76 @@
+package com.example.sensitive.strategy.impl;
+
+import java.util.Arrays;
+
+/**
+ * 定长掩码工具
+ * <p>
+ * 定长模式下掩码段长度固定，与原值长度无关：16 位与 19 位银行卡都输出前 4 + 8 个掩码 + 后 4，
+ * 掩码不再暴露原值位数。默认掩码字符的掩码段直接取自预先构造的常量，
+ * 结果只需一次拼装；原值过短、不足以保留首尾时整体输出同样长度的常量掩码。
+ *
+ * @author example
+ */
+final class FixedMasks {
+
+    /** 预先构造的默认掩码最大长度 */
+    private static final int MAX_CONSTANT = 32;
+
+    private static final char[] STAR_CHARS = new char[MAX_CONSTANT];
+
+    private static final String[] STARS = new String[MAX_CONSTANT + 1];
+
+    static {
+        Arrays.fill(STAR_CHARS, '*');
+        for (int n = 0; n <= MAX_CONSTANT; n++) {
+            STARS[n] = new String(STAR_CHARS, 0, n).intern();
+        }
+    }
+
+    private FixedMasks() {
+    }
+
+    /**
+     * n 个掩码字符，默认掩码字符返回常量
+     */
+    static String constant(int n, char maskChar) {
+        if (maskChar == '*' && n <= MAX_CONSTANT) {
+            return STARS[n];
+        }
+        return String.valueOf(maskChar).repeat(n);
+    }
+
+    /**
+     * 保留前 {@code head}、后 {@code tail} 个码点，中间替换为 {@code body} 个掩码字符
+     * <p>
+     * 原值码点数不超过 {@code head + tail} 时返回 {@code head + body + tail} 个掩码字符
+     */
+    static String mask(String value, int head, int body, int tail, char maskChar) {
+        int coder = CodePoints.coder(value);
+        int count = CodePoints.length(value, coder);
+        if (count <= head + tail) {
+            return constant(head + body + tail, maskChar);
+        }
+        int headEnd = CodePoints.offset(value, coder, head);
+        int tailStart = coder == CodePoints.SUPPLEMENTARY
+                ? value.offsetByCodePoints(value.length(), -tail)
+                : value.length() - tail;
+        return join(value, headEnd, body, tailStart, maskChar);
+    }
+
+    /**
+     * {@code value[0, headEnd) + body 个掩码字符 + value[tailStart, length)}，下标按 char 计
+     */
+    static String join(String value, int headEnd, int body, int tailStart, char maskChar) {
+        int len = value.length();
+        char[] chars = new char[headEnd + body + len - tailStart];
+        value.getChars(0, headEnd, chars, 0);
+        if (maskChar == '*' && body <= MAX_CONSTANT) {
+            System.arraycopy(STAR_CHARS, 0, chars, headEnd, body);
+        } else {
+            Arrays.fill(chars, headEnd, headEnd + body, maskChar);
+        }
+        value.getChars(tailStart, len, chars, headEnd + body);
+        return new String(chars);
+    }
+}
@@ -0,0 +1,344 @@
+package com.example.sensitive.strategy.impl;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.SecretKeySpec;
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 保留格式的可逆令牌化策略（NIST SP 800-38G FF1，AES，十进制）
+ * <p>
+ * 只加密原值中的数字，非数字字符（身份证末位 X、分隔符等）原位保留，令牌与原值长度、
+ * 字符类别完全一致；持有同一密钥的服务可通过 {@link #detokenize(String)} 还原。
+ * <ul>
+ *   <li>每种数字位数对应的 PRF 前缀（P 块与 tweak 填充块的 CBC 链值）在构造时预先计算，
+ *       每轮 Feistel 只剩一次 AES 分组运算，数值运算全部在 long 上完成</li>
+ *   <li>已完成密钥扩展的 {@link Cipher} 连同分组缓冲区放入无锁池复用，
+ *       与 {@link HmacMaskStrategy} 一样不使用 ThreadLocal</li>
+ *   <li>数字位数不在 [{@value #MIN_DIGITS}, {@value #MAX_DIGITS}] 内的值无法安全令牌化，
+ *       数字全部替换为掩码字符（不可逆）</li>
+ * </ul>
+ *
+ * <p>使用示例:
+ * <pre>
+ * FpeMaskStrategy fpe = new FpeMaskStrategy(aesKey);
+ * MaskStrategyFactory.register(fpe);
+ *
+ * &#64;Sensitive(type = SensitiveType.FPE)
+ * private String bankCard;   // 6222021234567890123 -> 4081736529014475862
+ *
+ * fpe.detokenize("4081736529014475862");   // -> 6222021234567890123
+ * </pre>
+ *
+ * @author example
+ */
+public class FpeMaskStrategy implements MaskStrategy {
+
+    /** 最少数字位数：10^6 满足 FF1 对定义域大小不小于一百万的要求 */
+    public static final int MIN_DIGITS = 6;
+
+    /** 最多数字位数：保证每半部分不超过 16 位，可用 long 运算 */
+    public static final int MAX_DIGITS = 32;
+
+    private static final int RADIX = 10;
+
+    private static final int ROUNDS = 10;
+
+    private static final int BLOCK = 16;
+
+    /** 池中最多保留的工作单元数 */
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private static final long[] POW10 = new long[MAX_DIGITS / 2 + 1];
+
+    static {
+        POW10[0] = 1;
+        for (int i = 1; i < POW10.length; i++) {
+            POW10[i] = POW10[i - 1] * RADIX;
+        }
+    }
+
+    private final SecretKeySpec key;
+
+    /** 按数字位数索引的预计算参数 */
+    private final Layout[] layouts = new Layout[MAX_DIGITS + 1];
+
+    private final Queue<Worker> pool = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    public FpeMaskStrategy(byte[] key) {
+        this(key, new byte[0]);
+    }
+
+    /**
+     * @param key   AES 密钥，16/24/32 字节
+     * @param tweak FF1 tweak，可为空；不同 tweak 得到互不相关的令牌空间
+     */
+    public FpeMaskStrategy(byte[] key, byte[] tweak) {
+        if (key == null || (key.length != 16 && key.length != 24 && key.length != 32)) {
+            throw new IllegalArgumentException("FPE key must be 16, 24 or 32 bytes");
+        }
+        this.key = new SecretKeySpec(key, "AES");
+        byte[] t = tweak == null ? new byte[0] : tweak;
+
+        Worker worker = newWorker();
+        for (int n = MIN_DIGITS; n <= MAX_DIGITS; n++) {
+            layouts[n] = new Layout(n, t, worker);
+        }
+        release(worker);
+    }
+
+    @Override
+    public SensitiveType getType() {
+        return SensitiveType.FPE;
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        return transform(value, maskChar, true);
+    }
+
+    /**
+     * 还原令牌
+     * <p>
+     * 只能还原由同一密钥、同一 tweak 生成的令牌；数字位数越界时已被不可逆掩码，原样返回
+     *
+     * @param token 令牌
+     * @return 原值
+     */
+    public String detokenize(String token) {
+        return transform(token, '*', false);
+    }
+
+    private String transform(String value, char maskChar, boolean encrypt) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        int length = value.length();
+        int n = 0;
+        for (int i = 0; i < length; i++) {
+            if (isDigit(value.charAt(i))) {
+                n++;
+            }
+        }
+        if (n < MIN_DIGITS || n > MAX_DIGITS) {
+            return encrypt && n > 0 ? maskDigits(value, maskChar) : value;
+        }
+
+        Layout layout = layouts[n];
+        Worker worker = acquire();
+        try {
+            char[] chars = worker.chars(length);
+            value.getChars(0, length, chars, 0);
+
+            // 前 u 位为 A，其余 v 位为 B
+            long a = 0;
+            long b = 0;
+            int seen = 0;
+            for (int i = 0; i < length; i++) {
+                char c = chars[i];
+                if (isDigit(c)) {
+                    if (seen++ < layout.u) {
+                        a = a * RADIX + (c - '0');
+                    } else {
+                        b = b * RADIX + (c - '0');
+                    }
+                }
+            }
+
+            if (encrypt) {
+                for (int i = 0; i < ROUNDS; i++) {
+                    int m = (i & 1) == 0 ? layout.u : layout.v;
+                    long c = Math.floorMod(a + round(worker, layout, i, b, m), POW10[m]);
+                    a = b;
+                    b = c;
+                }
+            } else {
+                for (int i = ROUNDS - 1; i >= 0; i--) {
+                    int m = (i & 1) == 0 ? layout.u : layout.v;
+                    long c = Math.floorMod(b - round(worker, layout, i, a, m), POW10[m]);
+                    b = a;
+                    a = c;
+                }
+            }
+
+            // 由低位向高位回填：先 B 的 v 位，再 A 的 u 位
+            int remaining = n;
+            for (int i = length - 1; i >= 0; i--) {
+                if (isDigit(chars[i])) {
+                    if (remaining-- > layout.u) {
+                        chars[i] = (char) ('0' + b % RADIX);
+                        b /= RADIX;
+                    } else {
+                        chars[i] = (char) ('0' + a % RADIX);
+                        a /= RADIX;
+                    }
+                }
+            }
+            return new String(chars, 0, length);
+        } finally {
+            release(worker);
+        }
+    }
+
+    /**
+     * 一轮 Feistel 的轮函数：y = NUM(PRF(P || Q)[0..d)) mod 10^m
+     * <p>
+     * Q 最后一个分组为 [tweak 填充尾部 | i | NUM(half) 的 b 字节大端表示]，
+     * 与预计算的 CBC 链值异或后加密一次即得 R
+     */
+    private long round(Worker worker, Layout layout, int i, long half, int m) {
+        byte[] block = worker.block;
+        byte[] chain = layout.chain;
+        byte[] prefix = layout.lastPrefix;
+        int prefixLength = prefix.length;
+        for (int j = 0; j < prefixLength; j++) {
+            block[j] = (byte) (chain[j] ^ prefix[j]);
+        }
+        block[prefixLength] = (byte) (chain[prefixLength] ^ i);
+        for (int j = BLOCK - 1; j > prefixLength; j--) {
+            block[j] = (byte) (chain[j] ^ half);
+            half >>>= 8;
+        }
+        worker.encrypt(block, worker.out);
+
+        long modulus = POW10[m];
+        long y = 0;
+        byte[] r = worker.out;
+        for (int j = 0; j < layout.d; j++) {
+            y = (y * 256 + (r[j] & 0xFF)) % modulus;
+        }
+        return y;
+    }
+
+    private static String maskDigits(String value, char maskChar) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (isDigit(chars[i])) {
+                chars[i] = maskChar;
+            }
+        }
+        return new String(chars);
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private Worker acquire() {
+        Worker worker = pool.poll();
+        if (worker != null) {
+            pooled.decrementAndGet();
+            return worker;
+        }
+        return newWorker();
+    }
+
+    private void release(Worker worker) {
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            pool.offer(worker);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    private Worker newWorker() {
+        try {
+            Cipher cipher = Cipher.getInstance("AES/ECB/NoPadding");
+            cipher.init(Cipher.ENCRYPT_MODE, key);
+            return new Worker(cipher);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("AES is not available", e);
+        }
+    }
+
+    /**
+     * 工作单元：已完成密钥扩展的 Cipher 与复用的缓冲区，同一时刻只被一个线程持有
+     */
+    private static final class Worker {
+
+        private final Cipher cipher;
+
+        private final byte[] block = new byte[BLOCK];
+
+        private final byte[] out = new byte[BLOCK];
+
+        private char[] chars = new char[32];
+
+        private Worker(Cipher cipher) {
+            this.cipher = cipher;
+        }
+
+        private char[] chars(int length) {
+            if (chars.length < length) {
+                chars = new char[Math.max(length, chars.length * 2)];
+            }
+            return chars;
+        }
+
+        private void encrypt(byte[] in, byte[] target) {
+            try {
+                cipher.update(in, 0, BLOCK, target, 0);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("AES block encryption failed", e);
+            }
+        }
+    }
+
+    /**
+     * 固定数字位数 n 下的 FF1 参数与 PRF 前缀
+     */
+    private static final class Layout {
+
+        private final int u;
+
+        private final int v;
+
+        /** S 的字节数 */
+        private final int d;
+
+        /** P 以及 Q 中除最后一个分组外的全部分组经 CBC-MAC 后的链值 */
+        private final byte[] chain;
+
+        /** Q 最后一个分组中位于轮次字节之前的固定部分 */
+        private final byte[] lastPrefix;
+
+        private Layout(int n, byte[] tweak, Worker worker) {
+            this.u = n / 2;
+            this.v = n - u;
+            int b = (BigInteger.TEN.pow(v).bitLength() + 7) / 8;
+            this.d = 4 * ((b + 3) / 4) + 4;
+
+            int t = tweak.length;
+            byte[] p = {
+                    1, 2, 1, 0, 0, (byte) RADIX, 10, (byte) u,
+                    (byte) (n >>> 24), (byte) (n >>> 16), (byte) (n >>> 8), (byte) n,
+                    (byte) (t >>> 24), (byte) (t >>> 16), (byte) (t >>> 8), (byte) t
+            };
+            int pad = Math.floorMod(-t - b - 1, BLOCK);
+            // Q = tweak || 0^pad || i || NUM(B)，长度为分组整数倍
+            byte[] q = Arrays.copyOf(tweak, t + pad + 1 + b);
+
+            byte[] state = new byte[BLOCK];
+            worker.encrypt(p, state);
+            int fullBlocks = q.length / BLOCK - 1;
+            byte[] block = new byte[BLOCK];
+            for (int k = 0; k < fullBlocks; k++) {
+                for (int j = 0; j < BLOCK; j++) {
+                    block[j] = (byte) (state[j] ^ q[k * BLOCK + j]);
+                }
+                worker.encrypt(block, state);
+            }
+            this.chain = state;
+            this.lastPrefix = Arrays.copyOfRange(q, fullBlocks * BLOCK, fullBlocks * BLOCK + BLOCK - b - 1);
+        }
+    }
+}
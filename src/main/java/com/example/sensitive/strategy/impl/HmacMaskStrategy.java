@@ -0,0 +1,164 @@
+package com.example.sensitive.strategy.impl;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.HexFormat;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 键控哈希假名化策略
+ * <p>
+ * 将原值替换为 {@code HMAC(key, value)} 的十六进制前缀，相同原值始终得到相同令牌，
+ * 分析人员可据此跨日志、跨接口关联，而看不到明文。掩码字符对本策略无意义，会被忽略。
+ * <ul>
+ *   <li>{@link Mac} 实例从原型克隆后放入无锁池复用，借出/归还不加锁、不使用 ThreadLocal，
+ *       虚拟线程下既不会固定载体线程，也不会按线程数膨胀</li>
+ *   <li>最近的 原值 → 令牌 结果存放在固定容量的直接映射缓存中，命中时零计算；
+ *       槽位冲突直接覆盖，内存占用恒定</li>
+ * </ul>
+ *
+ * <p>使用示例:
+ * <pre>
+ * MaskStrategyFactory.register(new HmacMaskStrategy(secretKey));
+ *
+ * &#64;Sensitive(type = SensitiveType.HMAC)
+ * private String phone;   // 13812345678 -> 3f9a1c0d2b7e4a61
+ * </pre>
+ *
+ * @author example
+ */
+public class HmacMaskStrategy implements MaskStrategy {
+
+    /** 默认算法 */
+    public static final String DEFAULT_ALGORITHM = "HmacSHA256";
+
+    /** 默认令牌长度（十六进制字符数，即 64 位） */
+    public static final int DEFAULT_TOKEN_LENGTH = 16;
+
+    /** 默认缓存容量 */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    /** 池中最多保留的 Mac 实例数 */
+    private static final int MAX_POOLED = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+
+    private final Mac prototype;
+
+    private final Queue<Mac> pool = new ConcurrentLinkedQueue<>();
+
+    private final AtomicInteger pooled = new AtomicInteger();
+
+    private final int tokenBytes;
+
+    private final AtomicReferenceArray<Entry> cache;
+
+    private final int cacheMask;
+
+    public HmacMaskStrategy(byte[] key) {
+        this(key, DEFAULT_ALGORITHM, DEFAULT_TOKEN_LENGTH, DEFAULT_CACHE_SIZE);
+    }
+
+    /**
+     * @param key         密钥，建议不少于 32 字节
+     * @param algorithm   Mac 算法，如 HmacSHA256
+     * @param tokenLength 令牌长度（十六进制字符数，偶数，不超过摘要长度的两倍）
+     * @param cacheSize   缓存容量，向上取整为 2 的幂；0 表示不缓存
+     */
+    public HmacMaskStrategy(byte[] key, String algorithm, int tokenLength, int cacheSize) {
+        if (key == null || key.length == 0) {
+            throw new IllegalArgumentException("HMAC key must not be empty");
+        }
+        try {
+            this.prototype = Mac.getInstance(algorithm);
+            this.prototype.init(new SecretKeySpec(key, algorithm));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalArgumentException("Invalid HMAC algorithm or key: " + algorithm, e);
+        }
+        if (tokenLength <= 0 || tokenLength % 2 != 0 || tokenLength / 2 > prototype.getMacLength()) {
+            throw new IllegalArgumentException("Invalid token length: " + tokenLength);
+        }
+        this.tokenBytes = tokenLength / 2;
+
+        if (cacheSize > 0) {
+            int capacity = Integer.highestOneBit(Math.max(1, cacheSize - 1)) << 1;
+            this.cache = new AtomicReferenceArray<>(capacity);
+            this.cacheMask = capacity - 1;
+        } else {
+            this.cache = null;
+            this.cacheMask = 0;
+        }
+    }
+
+    @Override
+    public SensitiveType getType() {
+        return SensitiveType.HMAC;
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        if (cache == null) {
+            return hash(value);
+        }
+
+        int slot = spread(value.hashCode()) & cacheMask;
+        Entry entry = cache.get(slot);
+        if (entry != null && entry.value.equals(value)) {
+            return entry.token;
+        }
+        String token = hash(value);
+        cache.set(slot, new Entry(value, token));
+        return token;
+    }
+
+    private String hash(String value) {
+        Mac mac = acquire();
+        try {
+            byte[] digest = mac.doFinal(value.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, tokenBytes);
+        } finally {
+            release(mac);
+        }
+    }
+
+    private Mac acquire() {
+        Mac mac = pool.poll();
+        if (mac != null) {
+            pooled.decrementAndGet();
+            return mac;
+        }
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Mac provider does not support clone: " + prototype.getProvider(), e);
+        }
+    }
+
+    private void release(Mac mac) {
+        // doFinal 已重置 Mac 状态；超出上限的实例直接丢弃
+        if (pooled.incrementAndGet() <= MAX_POOLED) {
+            pool.offer(mac);
+        } else {
+            pooled.decrementAndGet();
+        }
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * 缓存条目（不可变，整体替换）
+     */
+    private record Entry(String value, String token) {
+    }
+}
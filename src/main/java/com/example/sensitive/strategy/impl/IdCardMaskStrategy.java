@@ -39,4 +39,13 @@ public class IdCardMaskStrategy implements MaskStrategy {
         }
         return new String(chars);
     }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        // 定长：110101********1234，15 位旧证同样输出 18 位
+        return FixedMasks.mask(value, 6, 8, 4, maskChar);
+    }
 }
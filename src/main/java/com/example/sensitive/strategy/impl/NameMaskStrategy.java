@@ -11,6 +11,13 @@ import com.example.sensitive.strategy.MaskStrategy;
  */
 public class NameMaskStrategy implements MaskStrategy {
     
+    /**
+     * 定长结果按首字缓存（直接映射，槽位冲突时覆盖）：张** 只与姓氏有关，常见姓氏命中后不再分配
+     * <p>
+     * 结果是不可变字符串，并发下读到旧值或 null 只会多构造一次，无需同步
+     */
+    private static final String[] FIXED_CACHE = new String[1024];
+    
     @Override
     public SensitiveType getType() {
         return SensitiveType.NAME;
@@ -22,24 +29,33 @@ public class NameMaskStrategy implements MaskStrategy {
             return value;
         }
         
-        int len = value.length();
+        int coder = CodePoints.coder(value);
+        int count = CodePoints.length(value, coder);
         
-        if (len == 1) {
+        if (count == 1) {
             return String.valueOf(maskChar);
         }
         
-        if (len == 2) {
-            // 两个字：张*
-            return value.charAt(0) + String.valueOf(maskChar);
+        // 两个字：张*；三个字及以上：张*三（按码点，不拆分代理对）
+        return CodePoints.maskMiddle(value, coder, count, 1, count == 2 ? 0 : 1, maskChar);
+    }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
         }
-        
-        // 三个字及以上：张*三
-        StringBuilder sb = new StringBuilder(len);
-        sb.append(value.charAt(0));
-        for (int i = 1; i < len - 1; i++) {
-            sb.append(maskChar);
+        char first = value.charAt(0);
+        if (maskChar != '*' || value.length() < 2 || Character.isSurrogate(first)) {
+            return FixedMasks.mask(value, 1, 2, 0, maskChar);
+        }
+        // 定长：张**
+        int slot = first & (FIXED_CACHE.length - 1);
+        String cached = FIXED_CACHE[slot];
+        if (cached == null || cached.charAt(0) != first) {
+            cached = FixedMasks.join(value, 1, 2, value.length(), maskChar);
+            FIXED_CACHE[slot] = cached;
         }
-        sb.append(value.charAt(len - 1));
-        return sb.toString();
+        return cached;
     }
 }
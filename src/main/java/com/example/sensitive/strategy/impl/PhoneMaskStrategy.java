@@ -6,6 +6,10 @@ import com.example.sensitive.strategy.MaskStrategy;
 /**
  * 手机号脱敏策略
  * 138****1234
+ * <p>
+ * 以 {@code +} 或 {@code 00} 开头的国际号码先经 {@link CountryCodeTrie} 确定国家码，
+ * 再按该国号码长度与首尾保留位数掩码本国号码部分，国家码与分隔符原样保留：
+ * +44 7911 123456 -> +44 791* ***456，+852 6123 4567 -> +852 61** **67
  * 
  * @author example
  */
@@ -22,6 +26,15 @@ public class PhoneMaskStrategy implements MaskStrategy {
             return value;
         }
         
+        // 国际格式：+44 ... / 0044 ...
+        char first = value.charAt(0);
+        if (first == '+' || (first == '0' && value.charAt(1) == '0')) {
+            String masked = maskInternational(value, first == '+' ? 1 : 2, maskChar);
+            if (masked != null) {
+                return masked;
+            }
+        }
+        
         // 手机号标准长度 11 位
         if (value.length() == 11) {
             char[] chars = value.toCharArray();
@@ -43,4 +56,95 @@ public class PhoneMaskStrategy implements MaskStrategy {
         sb.append(value, len - 4, len);
         return sb.toString();
     }
+    
+    /**
+     * 按国家码规则掩码数字，非数字字符原样保留
+     *
+     * @param start 国家码第一位的位置
+     * @return 无法识别国家码、本国号码过短或超出 E.164 的 15 位上限时返回 null，由调用方按普通号码处理
+     */
+    private static String maskInternational(String value, int start, char maskChar) {
+        long range = internationalRange(value, start);
+        if (range < 0) {
+            return null;
+        }
+        int from = (int) (range >>> 32);
+        int to = (int) range;
+        
+        char[] chars = value.toCharArray();
+        for (int i = start, k = 0, len = chars.length; i < len; i++) {
+            char c = chars[i];
+            if (c >= '0' && c <= '9') {
+                if (k >= from && k < to) {
+                    chars[i] = maskChar;
+                }
+                k++;
+            }
+        }
+        return new String(chars);
+    }
+    
+    /**
+     * 国际号码中需掩码的数字区间（按数字序号，自国家码第一位起计），高 32 位为起点、低 32 位为终点（不含）
+     *
+     * @return 无法按国际号码处理时返回 -1
+     */
+    private static long internationalRange(String value, int start) {
+        int match = CountryCodeTrie.match(value, start);
+        if (match < 0) {
+            return -1;
+        }
+        int len = value.length();
+        int digits = 0;
+        for (int i = start; i < len; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digits++;
+            }
+        }
+        int codeLength = match >>> 8;
+        int nsn = digits - codeLength;
+        if (nsn < 4 || digits > 15) {
+            return -1;
+        }
+        int rule = match & 0xFF;
+        long from = codeLength + CountryCodeTrie.head(rule, nsn);
+        long to = digits - CountryCodeTrie.tail(rule, nsn);
+        return from << 32 | to;
+    }
+    
+    /**
+     * {@link #mask} 会掩盖的数字个数，供自动识别判断按手机号脱敏能否隐藏原值
+     */
+    static int maskedDigits(String value) {
+        int len = value.length();
+        if (len <= 7) {
+            return 0;
+        }
+        char first = value.charAt(0);
+        if (first == '+' || (first == '0' && value.charAt(1) == '0')) {
+            long range = internationalRange(value, first == '+' ? 1 : 2);
+            if (range >= 0) {
+                return Math.max(0, (int) range - (int) (range >>> 32));
+            }
+        }
+        int end = len == 11 ? 7 : len - 4;
+        int masked = 0;
+        for (int i = 3; i < end; i++) {
+            char c = value.charAt(i);
+            if (c >= '0' && c <= '9') {
+                masked++;
+            }
+        }
+        return masked;
+    }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
+        }
+        // 定长：138****5678，国际号码同样保留前 3 后 4
+        return FixedMasks.mask(value, 3, 4, 4, maskChar);
+    }
 }
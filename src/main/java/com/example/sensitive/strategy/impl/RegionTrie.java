@@ -0,0 +1,174 @@
+package com.example.sensitive.strategy.impl;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * 行政区划名称字典树
+ * <p>
+ * 首次使用时从 {@link AddressRegionMaskStrategy#REGIONS_LOCATION} 一次构建。节点只是编号，边存放在一张
+ * 开放寻址哈希表里：键为 {@code 父节点 << 16 | 字符}，值为子节点编号；{@code LEVEL[node]} 为终止节点的
+ * 行政级别（0 表示非终止）。每下行一个字符只做一次哈希探测，最长匹配的耗时与匹配长度成正比，不分配对象。
+ *
+ * @author example
+ */
+final class RegionTrie {
+
+    /** 节点编号上限，保证 {@code 节点 << 16 | 字符} 不溢出 int */
+    private static final int MAX_NODES = 1 << 15;
+
+    private static final int[] KEYS;
+
+    private static final short[] CHILDREN;
+
+    private static final byte[] LEVEL;
+
+    private static final int MASK;
+
+    static {
+        Builder builder = new Builder();
+        load(builder);
+        KEYS = builder.keys;
+        CHILDREN = builder.children;
+        LEVEL = Arrays.copyOf(builder.level, builder.size);
+        MASK = builder.keys.length - 1;
+    }
+
+    private RegionTrie() {
+    }
+
+    /**
+     * 从 {@code start} 起最长匹配一个行政区划名称
+     *
+     * @param value 地址
+     * @param start 起始位置
+     * @return {@code 结束位置 << 2 | 级别}；未匹配时返回 -1
+     */
+    static int match(String value, int start) {
+        int node = 0;
+        int result = -1;
+        for (int i = start, len = value.length(); i < len; i++) {
+            node = child(node, value.charAt(i));
+            if (node == 0) {
+                break;
+            }
+            if (LEVEL[node] != 0) {
+                result = (i + 1) << 2 | LEVEL[node];
+            }
+        }
+        return result;
+    }
+
+    private static int child(int node, char c) {
+        int key = node << 16 | c;
+        for (int slot = hash(key) & MASK; ; slot = (slot + 1) & MASK) {
+            int k = KEYS[slot];
+            if (k == key) {
+                return CHILDREN[slot];
+            }
+            if (k == 0) {
+                return 0;
+            }
+        }
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static void load(Builder builder) {
+        InputStream in = RegionTrie.class.getClassLoader().getResourceAsStream(AddressRegionMaskStrategy.REGIONS_LOCATION);
+        if (in == null) {
+            throw new IllegalStateException("行政区划资源缺失: " + AddressRegionMaskStrategy.REGIONS_LOCATION);
+        }
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.charAt(0) == '#') {
+                    continue;
+                }
+                String[] tokens = line.split("\\s+");
+                int level = Integer.parseInt(tokens[0]);
+                for (int t = 1; t < tokens.length; t++) {
+                    builder.insert(tokens[t], level);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("读取行政区划资源失败: " + AddressRegionMaskStrategy.REGIONS_LOCATION, e);
+        }
+    }
+
+    /**
+     * 构建期使用的可扩容表，构建完成后只读
+     */
+    private static final class Builder {
+
+        int[] keys = new int[4096];
+
+        short[] children = new short[4096];
+
+        byte[] level = new byte[1024];
+
+        int size = 1;
+
+        int edges;
+
+        void insert(String name, int nameLevel) {
+            int node = 0;
+            for (int i = 0; i < name.length(); i++) {
+                int key = node << 16 | name.charAt(i);
+                int slot = find(key);
+                if (keys[slot] == 0) {
+                    if (size == MAX_NODES) {
+                        throw new IllegalStateException("行政区划名称过多: " + AddressRegionMaskStrategy.REGIONS_LOCATION);
+                    }
+                    keys[slot] = key;
+                    children[slot] = (short) size;
+                    if (size == level.length) {
+                        level = Arrays.copyOf(level, size * 2);
+                    }
+                    size++;
+                    if (++edges * 2 > keys.length) {
+                        rehash();
+                        slot = find(key);
+                    }
+                }
+                node = children[slot];
+            }
+            // 同名出现在多个级别时取较低一级（数值较大），其后不再接受更细的区划，保留得更少
+            if (nameLevel > level[node]) {
+                level[node] = (byte) nameLevel;
+            }
+        }
+
+        private int find(int key) {
+            int mask = keys.length - 1;
+            int slot = hash(key) & mask;
+            while (keys[slot] != 0 && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        private void rehash() {
+            int[] oldKeys = keys;
+            short[] oldChildren = children;
+            keys = new int[oldKeys.length * 2];
+            children = new short[oldKeys.length * 2];
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldKeys[i] != 0) {
+                    int slot = find(oldKeys[i]);
+                    keys[slot] = oldKeys[i];
+                    children[slot] = oldChildren[i];
+                }
+            }
+        }
+    }
+}
@@ -22,23 +22,23 @@ public class TextMaskStrategy implements MaskStrategy {
             return value;
         }
         
-        int len = value.length();
+        int coder = CodePoints.coder(value);
+        int count = CodePoints.length(value, coder);
         
-        if (len == 1) {
+        if (count == 1) {
             return String.valueOf(maskChar);
         }
         
-        if (len == 2) {
-            return String.valueOf(value.charAt(0)) + maskChar;
-        }
-        
-        // 保留首尾
-        StringBuilder sb = new StringBuilder(len);
-        sb.append(value.charAt(0));
-        for (int i = 1; i < len - 1; i++) {
-            sb.append(maskChar);
+        // 保留首尾，两个字符时只保留首字符（按码点，不拆分代理对）
+        return CodePoints.maskMiddle(value, coder, count, 1, count == 2 ? 0 : 1, maskChar);
+    }
+    
+    @Override
+    public String maskFixed(String value, char maskChar) {
+        if (value == null || value.isEmpty()) {
+            return value;
         }
-        sb.append(value.charAt(len - 1));
-        return sb.toString();
+        // 定长：V****理
+        return FixedMasks.mask(value, 1, 4, 1, maskChar);
     }
 }
@@ -0,0 +1,148 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.strategy.MaskStrategy;
+
+import java.lang.invoke.MethodHandle;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 一个类的字段计划，按结构数组存放
+ * <p>
+ * 只保存本类声明的属性，父类部分按引用共享父类的计划：继承同一基类的上千个子类只持有一份基类元数据，
+ * 每个子类只增加自己声明的属性。属性按"本类在前、父类在后"编号，与逐层解析的输出顺序一致；
+ * 遍历时沿 {@link #parent} 链依次访问各层的数组。
+ * <p>
+ * 每个属性在并列数组中各占一个槽位，没有逐属性的对象头；本层没有敏感属性时策略、掩码字符与定长数组均为 null。
+ * 计划构建后不再修改，可在线程间共享。
+ *
+ * @author example
+ */
+final class FieldPlan {
+
+    /** 对象头（压缩类指针） */
+    private static final int OBJECT_HEADER = 12;
+
+    /** 数组头 */
+    private static final int ARRAY_HEADER = 16;
+
+    /** 引用（压缩指针） */
+    private static final int REFERENCE = 4;
+
+    /**
+     * 单个字段读取句柄的估算大小：适配后的 BoundMethodHandle 与其持有的 DirectMethodHandle；
+     * LambdaForm 按方法类型共享，不计入
+     */
+    static final int ACCESSOR_ESTIMATE = 64;
+
+    /** 父类计划，没有需要渲染的父类时为 null */
+    final FieldPlan parent;
+
+    /** 含父类在内的属性总数 */
+    final int size;
+
+    final String[] names;
+
+    /** 读取句柄，元素为 null 表示无权读取 */
+    final MethodHandle[] accessors;
+
+    /** 脱敏策略，元素为 null 表示非敏感属性；本层全部非敏感时数组为 null */
+    final MaskStrategy[] strategies;
+
+    final char[] maskChars;
+
+    final boolean[] fixedLengths;
+
+    private FieldPlan(FieldPlan parent, String[] names, MethodHandle[] accessors, MaskStrategy[] strategies,
+                      char[] maskChars, boolean[] fixedLengths) {
+        this.parent = parent;
+        this.size = names.length + (parent == null ? 0 : parent.size);
+        this.names = names;
+        this.accessors = accessors;
+        this.strategies = strategies;
+        this.maskChars = maskChars;
+        this.fixedLengths = fixedLengths;
+    }
+
+    /**
+     * 本层第 i 个属性的策略，非敏感时为 null
+     */
+    MaskStrategy strategy(int i) {
+        return strategies == null ? null : strategies[i];
+    }
+
+    /**
+     * 估算本层（不含父类）占用的堆内存，字节
+     * <p>
+     * 属性名来自反射，是常量池中的驻留字符串，策略多为共享实例，均不计入
+     */
+    long shallowBytes() {
+        int n = names.length;
+        long bytes = align(OBJECT_HEADER + 4 + 6L * REFERENCE);
+        bytes += align(ARRAY_HEADER + (long) n * REFERENCE);
+        bytes += align(ARRAY_HEADER + (long) n * REFERENCE);
+        for (MethodHandle accessor : accessors) {
+            if (accessor != null) {
+                bytes += ACCESSOR_ESTIMATE;
+            }
+        }
+        if (strategies != null) {
+            bytes += align(ARRAY_HEADER + (long) n * REFERENCE);
+            bytes += align(ARRAY_HEADER + 2L * n);
+            bytes += align(ARRAY_HEADER + (long) n);
+        }
+        return bytes;
+    }
+
+    private static long align(long bytes) {
+        return (bytes + 7) & ~7L;
+    }
+
+    /**
+     * 逐个追加本层属性，最后一次性生成数组
+     */
+    static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+
+        private final List<MethodHandle> accessors = new ArrayList<>();
+
+        private final List<MaskStrategy> strategies = new ArrayList<>();
+
+        private final StringBuilder maskChars = new StringBuilder();
+
+        private final List<Boolean> fixedLengths = new ArrayList<>();
+
+        private boolean sensitive;
+
+        /**
+         * @param strategy 脱敏策略，null 表示非敏感属性
+         */
+        Builder add(String name, MethodHandle accessor, MaskStrategy strategy, char maskChar, boolean fixedLength) {
+            names.add(name);
+            accessors.add(accessor);
+            strategies.add(strategy);
+            maskChars.append(maskChar);
+            fixedLengths.add(fixedLength);
+            sensitive |= strategy != null;
+            return this;
+        }
+
+        FieldPlan build(FieldPlan parent) {
+            int n = names.size();
+            MaskStrategy[] strategyArray = null;
+            char[] maskCharArray = null;
+            boolean[] fixedLengthArray = null;
+            if (sensitive) {
+                strategyArray = strategies.toArray(new MaskStrategy[0]);
+                maskCharArray = maskChars.toString().toCharArray();
+                fixedLengthArray = new boolean[n];
+                for (int i = 0; i < n; i++) {
+                    fixedLengthArray[i] = fixedLengths.get(i);
+                }
+            }
+            return new FieldPlan(parent, names.toArray(new String[0]), accessors.toArray(new MethodHandle[0]),
+                    strategyArray, maskCharArray, fixedLengthArray);
+        }
+    }
+}
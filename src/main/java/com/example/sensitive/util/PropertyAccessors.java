@@ -0,0 +1,103 @@
+package com.example.sensitive.util;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+/**
+ * 属性读取句柄
+ * <p>
+ * 字段、getter 与 record 组件访问器统一适配为 {@code (Object)Object} 的 {@link MethodHandle}，
+ * 字段元数据构建时创建一次，渲染时直接 {@code invokeExact}，不再逐次做反射访问检查。
+ * 句柄通过 {@link MethodHandles#privateLookupIn} 获得，不调用 {@code setAccessible}；
+ * 类所在模块未向本组件开放时退回 public 方法（字段退回同名 public getter），仍不可读时返回 null。
+ * 属性名推导 {@link #propertyName} 同时供 Jackson 序列化器按 getter 查找字段使用。
+ *
+ * @author example
+ */
+public final class PropertyAccessors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private PropertyAccessors() {
+    }
+
+    /**
+     * 字段的读取句柄，不可读时返回 null
+     */
+    static MethodHandle forField(Field field) {
+        try {
+            return adapt(MethodHandles.privateLookupIn(field.getDeclaringClass(), LOOKUP).unreflectGetter(field));
+        } catch (IllegalAccessException e) {
+            Method getter = findGetter(field.getDeclaringClass(), field.getName());
+            return getter == null ? null : forMethod(getter);
+        }
+    }
+
+    /**
+     * 无参方法（getter、record 组件访问器）的调用句柄，不可调用时返回 null
+     */
+    static MethodHandle forMethod(Method method) {
+        try {
+            return adapt(MethodHandles.privateLookupIn(method.getDeclaringClass(), LOOKUP).unreflect(method));
+        } catch (IllegalAccessException e) {
+            try {
+                return adapt(MethodHandles.publicLookup().unreflect(method));
+            } catch (IllegalAccessException ex) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * getter 对应的属性名：{@code getPhone -> phone}、{@code isVip -> vip}；不是 getter 时返回 null
+     */
+    public static String propertyName(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.isSynthetic() || method.isBridge()
+                || method.getParameterCount() != 0 || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return decapitalize(name.substring(3));
+        }
+        if (name.startsWith("is") && name.length() > 2
+                && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return decapitalize(name.substring(2));
+        }
+        return null;
+    }
+
+    /**
+     * 按 JavaBeans 规则将首字母转为小写：前两个字符都是大写时保持原样（{@code URL -> URL}、{@code Phone -> phone}）；
+     * 与 {@code java.beans.Introspector#decapitalize} 相同，但不依赖 java.desktop 模块
+     */
+    private static String decapitalize(String name) {
+        if (name.isEmpty() || !Character.isUpperCase(name.charAt(0))
+                || name.length() > 1 && Character.isUpperCase(name.charAt(1))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    /**
+     * 类中声明的、与字段同名的 getter，找不到时返回 null
+     */
+    private static Method findGetter(Class<?> clazz, String fieldName) {
+        for (Method method : clazz.getDeclaredMethods()) {
+            if (fieldName.equals(propertyName(method))) {
+                return method;
+            }
+        }
+        return null;
+    }
+
+    private static MethodHandle adapt(MethodHandle handle) {
+        return handle.asType(ACCESSOR_TYPE);
+    }
+}
@@ -0,0 +1,191 @@
+package com.example.sensitive.util;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link SensitiveToStringBuilder} 的渲染预算
+ * <p>
+ * 日志链路饱和时（例如故障期间的流量尖峰），完整渲染每个脱敏 DTO 会进一步放大 CPU 消耗。预算提供三层保护：
+ * <ul>
+ *   <li>长度预算：输出超过 {@code maxLength} 个字符前停止追加字段，以 {@code ...} 结尾</li>
+ *   <li>时间预算：单次渲染耗时超过 {@code maxRenderTime} 后停止追加字段，以 {@code ...} 结尾</li>
+ *   <li>自动降级：按类统计渲染耗时的指数加权移动平均（EWMA，权重 1/8），超过 {@code degradeThreshold} 的类进入降级状态，
+ *       每 {@code sampleRate} 次调用只完整渲染 1 次，其余输出 {@code ClassName#id} 摘要；
+ *       该类的平均耗时回落到阈值一半以下时恢复。一个大对象变慢只降级它自己，不影响其他类的完整输出</li>
+ * </ul>
+ * 采样用线程本地随机数，不在线程间共享计数器；移动平均的更新不加锁，并发下偶尔丢失一次样本不影响趋势。
+ * 被采样的完整渲染仍参与计时，降级期间平均值可以回落。按类的状态存放在 {@link ClassValue} 中，不阻止类卸载。
+ *
+ * @author example
+ */
+public final class RenderBudget {
+
+    /** 不设预算：完整渲染，不计时 */
+    public static final RenderBudget UNLIMITED = new RenderBudget(0, null, null, 1);
+
+    /** EWMA 权重 1/8 对应的移位数 */
+    private static final int EWMA_SHIFT = 3;
+
+    private final int maxLength;
+
+    private final long maxRenderNanos;
+
+    private final long degradeThresholdNanos;
+
+    private final int sampleRate;
+
+    /** 各类的渲染耗时统计 */
+    private final ClassValue<Load> loads = new ClassValue<>() {
+        @Override
+        protected Load computeValue(Class<?> type) {
+            return new Load();
+        }
+    };
+
+    /** 处于降级状态的类数 */
+    private final AtomicInteger degradedClasses = new AtomicInteger();
+
+    private final LongAdder summarized = new LongAdder();
+
+    private final LongAdder truncated = new LongAdder();
+
+    /**
+     * @param maxLength        输出长度上限（字符数），0 表示不限
+     * @param maxRenderTime    单次渲染耗时上限，null 表示不限
+     * @param degradeThreshold 触发降级的平均渲染耗时，null 表示不自动降级
+     * @param sampleRate       降级期间每几次调用完整渲染 1 次，须为正数
+     */
+    public RenderBudget(int maxLength, Duration maxRenderTime, Duration degradeThreshold, int sampleRate) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("maxLength must not be negative: " + maxLength);
+        }
+        if (sampleRate < 1) {
+            throw new IllegalArgumentException("sampleRate must be positive: " + sampleRate);
+        }
+        this.maxLength = maxLength;
+        this.maxRenderNanos = maxRenderTime == null ? 0 : maxRenderTime.toNanos();
+        this.degradeThresholdNanos = degradeThreshold == null ? 0 : degradeThreshold.toNanos();
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * 是否需要计时（时间预算或自动降级）
+     */
+    boolean isTimed() {
+        return maxRenderNanos > 0 || degradeThresholdNanos > 0;
+    }
+
+    /**
+     * 本次调用是否完整渲染；类处于降级状态时按采样率决定，未选中的计入摘要数
+     */
+    boolean shouldRender(Class<?> clazz) {
+        if (degradedClasses.get() == 0 || !loads.get(clazz).degraded.get()
+                || sampleRate == 1 || ThreadLocalRandom.current().nextInt(sampleRate) == 0) {
+            return true;
+        }
+        summarized.increment();
+        return false;
+    }
+
+    /**
+     * 已追加 {@code length} 个字符后，再追加 {@code next} 个字符是否超出长度预算
+     */
+    boolean exceedsLength(int length, int next) {
+        return maxLength > 0 && length + next > maxLength;
+    }
+
+    /**
+     * 自 {@code startNanos} 起是否超出时间预算
+     */
+    boolean exceedsTime(long startNanos) {
+        return maxRenderNanos > 0 && System.nanoTime() - startNanos > maxRenderNanos;
+    }
+
+    /**
+     * 记录一次被截断的渲染
+     */
+    void recordTruncated() {
+        truncated.increment();
+    }
+
+    /**
+     * 记录类的一次完整渲染耗时，更新该类的移动平均与降级状态
+     */
+    void record(Class<?> clazz, long elapsedNanos) {
+        if (degradeThresholdNanos <= 0) {
+            return;
+        }
+        Load load = loads.get(clazz);
+        long average = load.averageRenderNanos;
+        average += (elapsedNanos - average) >> EWMA_SHIFT;
+        load.averageRenderNanos = average;
+        if (average > degradeThresholdNanos) {
+            if (load.degraded.compareAndSet(false, true)) {
+                degradedClasses.incrementAndGet();
+            }
+        } else if (average < degradeThresholdNanos >> 1) {
+            if (load.degraded.compareAndSet(true, false)) {
+                degradedClasses.decrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * 是否有类处于降级状态
+     */
+    public boolean isDegraded() {
+        return degradedClasses.get() > 0;
+    }
+
+    /**
+     * 类是否处于降级状态
+     */
+    public boolean isDegraded(Class<?> clazz) {
+        return degradedClasses.get() > 0 && loads.get(clazz).degraded.get();
+    }
+
+    /**
+     * 处于降级状态的类数
+     */
+    public int getDegradedClassCount() {
+        return degradedClasses.get();
+    }
+
+    /**
+     * 类渲染耗时的移动平均（纳秒），未启用自动降级时为 0
+     */
+    public long getAverageRenderNanos(Class<?> clazz) {
+        return loads.get(clazz).averageRenderNanos;
+    }
+
+    /**
+     * 降级期间以摘要代替完整渲染的次数
+     */
+    public long getSummarizedCount() {
+        return summarized.sum();
+    }
+
+    /**
+     * 因长度或时间预算被截断的渲染次数
+     */
+    public long getTruncatedCount() {
+        return truncated.sum();
+    }
+
+    public int getMaxLength() { return maxLength; }
+    public int getSampleRate() { return sampleRate; }
+
+    /**
+     * 单个类的渲染耗时统计
+     */
+    private static final class Load {
+
+        private volatile long averageRenderNanos;
+
+        private final AtomicBoolean degraded = new AtomicBoolean();
+    }
+}
@@ -0,0 +1,682 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.RecordComponent;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 脱敏引擎
+ * <p>
+ * 持有一套完整的脱敏状态：策略注册表（含定长开关）、外部规则策略、字段元数据缓存与渲染预算。
+ * 不同引擎之间互不影响，可为热点租户单独设置缓存容量与降级预算，也可在并行测试中各建一个，
+ * 不必在用例之间重置全局状态：
+ * <pre>
+ * SensitiveEngine engine = new SensitiveEngine(new MaskStrategyRegistry(), 1000);
+ * engine.setRules(Map.of("com.vendor.Customer.mobile", "PHONE"));
+ * String text = engine.build(customer);
+ * </pre>
+ * {@link SensitiveToStringBuilder}、{@link SensitiveRules}、{@link MaskStrategyFactory} 等静态 API
+ * 均委托给 {@link #getDefault() 默认引擎}，默认引擎使用 {@link MaskStrategyFactory#getRegistry() 默认注册表}。
+ * Spring 环境下引擎以 Bean 暴露，默认即为默认引擎，{@code sensitive.engine.isolated=true} 时每个应用上下文独立创建。
+ * <p>
+ * 渲染的属性：普通类为各层级声明的实例字段，外加标注了 {@code @Sensitive} 的 getter（注解在 getter 上时按 getter 取值，
+ * 没有同名字段的 getter 追加在该层级字段之后，按属性名排序）；record 按规范构造器的组件顺序，经组件访问器取值。
+ * 属性经 {@link PropertyAccessors} 缓存的方法句柄读取，不调用 {@code setAccessible}。
+ *
+ * @author example
+ */
+public final class SensitiveEngine {
+
+    /**
+     * 默认最大缓存容量（防止内存泄漏）
+     */
+    public static final int DEFAULT_MAX_CACHE_SIZE = 10000;
+
+    private static final SensitiveEngine DEFAULT =
+            new SensitiveEngine(MaskStrategyFactory.getRegistry(), DEFAULT_MAX_CACHE_SIZE);
+
+    /**
+     * 字段无权访问时的占位值
+     */
+    static final Object ACCESS_DENIED = new Object();
+
+    /**
+     * ConcurrentHashMap 单个条目的估算大小：Node 对象与桶数组槽位
+     */
+    private static final int CACHE_ENTRY_BYTES = 40;
+
+    /**
+     * getter 抛出异常时的占位值，输出异常类名
+     */
+    record AccessFailure(Throwable cause) {}
+
+    private final MaskStrategyRegistry strategies;
+
+    private volatile int maxCacheSize;
+
+    private volatile SensitivePolicy policy = SensitivePolicy.EMPTY;
+
+    /**
+     * 渲染预算，默认不限
+     */
+    private volatile RenderBudget renderBudget = RenderBudget.UNLIMITED;
+
+    /**
+     * 字段元数据缓存，与编译它的脱敏策略及注册表版本绑定
+     */
+    private volatile PlanCache planCache;
+
+    /**
+     * 创建使用独立注册表（内置策略与 ServiceLoader 扩展策略）与默认缓存容量的引擎
+     */
+    public SensitiveEngine() {
+        this(new MaskStrategyRegistry(), DEFAULT_MAX_CACHE_SIZE);
+    }
+
+    /**
+     * @param strategies   策略注册表，可与其他引擎共享
+     * @param maxCacheSize 字段元数据缓存的最大类数（直接渲染的类），超出时清空这些类的计划
+     */
+    public SensitiveEngine(MaskStrategyRegistry strategies, int maxCacheSize) {
+        if (strategies == null) {
+            throw new IllegalArgumentException("strategies must not be null");
+        }
+        this.strategies = strategies;
+        setMaxCacheSize(maxCacheSize);
+        this.planCache = new PlanCache(policy, strategies.getVersion());
+    }
+
+    /**
+     * 默认引擎，静态 API 均委托于此
+     */
+    public static SensitiveEngine getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * 构建脱敏后的 toString 字符串，见 {@link SensitiveToStringBuilder#build(Object)}
+     *
+     * @param obj 对象
+     * @return 脱敏后的字符串表示
+     */
+    public String build(Object obj) {
+        return buildInternal(obj, null, false);
+    }
+
+    /**
+     * 构建脱敏后的 toString 字符串（包含指定字段）
+     *
+     * @param obj        对象
+     * @param fieldNames 要包含的字段名
+     * @return 脱敏后的字符串表示
+     */
+    public String buildWith(Object obj, String... fieldNames) {
+        if (fieldNames == null || fieldNames.length == 0) {
+            return build(obj);
+        }
+        return buildInternal(obj, List.of(fieldNames), true);
+    }
+
+    /**
+     * 构建脱敏后的 toString 字符串（排除指定字段）
+     *
+     * @param obj        对象
+     * @param fieldNames 要排除的字段名
+     * @return 脱敏后的字符串表示
+     */
+    public String buildWithout(Object obj, String... fieldNames) {
+        List<String> excludeFields = (fieldNames != null) ? List.of(fieldNames) : List.of();
+        return buildInternal(obj, excludeFields, false);
+    }
+
+    /**
+     * 捕获对象的浅快照，见 {@link SensitiveToStringBuilder#snapshot(Object)}
+     *
+     * @param obj 对象
+     * @return 快照，输出格式与 {@link #build(Object)} 一致
+     */
+    public SensitiveToStringBuilder.Snapshot snapshot(Object obj) {
+        if (obj == null) {
+            return SensitiveToStringBuilder.Snapshot.NULL;
+        }
+        Class<?> clazz = obj.getClass();
+        FieldPlan plan = getPlan(clazz);
+        Object[] values = new Object[plan.size];
+        int i = 0;
+        for (FieldPlan p = plan; p != null; p = p.parent) {
+            for (MethodHandle accessor : p.accessors) {
+                values[i++] = readField(obj, accessor);
+            }
+        }
+        return new SensitiveToStringBuilder.Snapshot(this, System.identityHashCode(obj), clazz, plan, values);
+    }
+
+    /**
+     * 创建使用本引擎注册表的免反射手动构建器，见 {@link SensitiveToStringBuilder#of(Object)}
+     *
+     * @param obj 对象，仅用于取类名
+     * @return 手动构建器
+     */
+    public SensitiveToStringBuilder.Appender of(Object obj) {
+        return new SensitiveToStringBuilder.Appender(obj == null ? "null" : obj.getClass().getSimpleName(),
+                strategies);
+    }
+
+    /**
+     * 预先解析并缓存类的字段元数据
+     * <p>
+     * 启动阶段调用，避免首个 toString() 在业务流量下承担反射解析开销；线程安全，可并行调用
+     *
+     * @param clazz 类
+     * @return 解析到的字段数
+     */
+    public int warmUp(Class<?> clazz) {
+        if (clazz == null) {
+            return 0;
+        }
+        return getPlan(clazz).size;
+    }
+
+    /**
+     * 策略注册表
+     */
+    public MaskStrategyRegistry getStrategies() {
+        return strategies;
+    }
+
+    /**
+     * 编译并发布规则，编译失败时当前策略保持不变
+     *
+     * @param definitions {@code 类全名.字段名 -> 规则}，null 表示清空
+     * @return 新发布的策略
+     * @throws IllegalArgumentException 规则无效
+     */
+    public SensitivePolicy setRules(Map<String, String> definitions) {
+        SensitivePolicy current = policy;
+        if ((definitions == null || definitions.isEmpty()) && current.getClassNames().isEmpty()) {
+            return current;
+        }
+        SensitivePolicy compiled = SensitivePolicy.compile(definitions);
+        publish(compiled);
+        return compiled;
+    }
+
+    /**
+     * 发布已编译的策略
+     *
+     * @param policy 策略，null 表示清空
+     */
+    public void publish(SensitivePolicy policy) {
+        this.policy = policy == null ? SensitivePolicy.EMPTY : policy;
+    }
+
+    /**
+     * 当前生效的策略
+     */
+    public SensitivePolicy getPolicy() {
+        return policy;
+    }
+
+    /**
+     * 设置渲染预算（长度、时间预算与过载降级），对之后的 {@link #build} 系列调用生效
+     *
+     * @param budget 渲染预算，null 表示不限
+     */
+    public void setRenderBudget(RenderBudget budget) {
+        renderBudget = budget == null ? RenderBudget.UNLIMITED : budget;
+    }
+
+    /**
+     * 当前渲染预算，可读取降级状态与统计
+     */
+    public RenderBudget getRenderBudget() {
+        return renderBudget;
+    }
+
+    /**
+     * 设置字段元数据缓存的最大类数，对之后的缓存写入生效
+     *
+     * @param maxCacheSize 最大类数，须大于 0
+     */
+    public void setMaxCacheSize(int maxCacheSize) {
+        if (maxCacheSize <= 0) {
+            throw new IllegalArgumentException("maxCacheSize must be positive: " + maxCacheSize);
+        }
+        this.maxCacheSize = maxCacheSize;
+    }
+
+    /**
+     * 字段元数据缓存的最大类数
+     */
+    public int getMaxCacheSize() {
+        return maxCacheSize;
+    }
+
+    /**
+     * 清除缓存
+     */
+    public void clearCache() {
+        planCache = new PlanCache(policy, strategies.getVersion());
+    }
+
+    /**
+     * 获取缓存大小：直接渲染（或预热）过的类数，仅作为父类共享的计划不计入
+     */
+    public int getCacheSize() {
+        return currentCache().plans.size();
+    }
+
+    /**
+     * 字段元数据缓存近似占用的堆内存，字节
+     * <p>
+     * 按各计划结构数组与读取句柄的估算大小累加，被多个子类共享的父类计划只计一次，另加缓存表每个条目的开销；
+     * 用于容量规划与监控，不是精确测量
+     */
+    public long getCacheRetainedBytes() {
+        PlanCache cache = currentCache();
+        Set<FieldPlan> counted = Collections.newSetFromMap(new IdentityHashMap<>());
+        long bytes = 0L;
+        for (Map<Class<?>, FieldPlan> plans : List.of(cache.plans, cache.parents)) {
+            for (FieldPlan plan : plans.values()) {
+                for (FieldPlan p = plan; p != null && counted.add(p); p = p.parent) {
+                    bytes += p.shallowBytes();
+                }
+            }
+            bytes += (long) plans.size() * CACHE_ENTRY_BYTES;
+        }
+        return bytes;
+    }
+
+    /**
+     * 内部构建方法
+     *
+     * @param obj          对象
+     * @param filterFields 过滤字段列表（include模式为包含，exclude模式为排除）
+     * @param isInclude    是否为包含模式
+     * @return 脱敏后的字符串表示
+     */
+    private String buildInternal(Object obj, List<String> filterFields, boolean isInclude) {
+        if (obj == null) {
+            return "null";
+        }
+
+        Class<?> clazz = obj.getClass();
+        return render(obj, 0, clazz, getPlan(clazz), null, filterFields, isInclude);
+    }
+
+    /**
+     * 按字段计划渲染，受渲染预算约束
+     *
+     * @param obj          对象，渲染快照时为 null
+     * @param identityHash 快照源对象的身份哈希，values 为 null 时不使用
+     * @param values       快照的字段值（按计划的属性编号），为 null 时从 obj 读取
+     */
+    String render(Object obj, int identityHash, Class<?> clazz, FieldPlan plan, Object[] values,
+                  List<String> filterFields, boolean isInclude) {
+        RenderBudget budget = renderBudget;
+        if (!budget.shouldRender(clazz)) {
+            return summarize(obj, values == null ? System.identityHashCode(obj) : identityHash, clazz, plan, values);
+        }
+
+        boolean timed = budget.isTimed();
+        long start = timed ? System.nanoTime() : 0L;
+        StringJoiner joiner = new StringJoiner(", ", clazz.getSimpleName() + "(", ")");
+
+        int i = 0;
+        fields:
+        for (FieldPlan p = plan; p != null; p = p.parent) {
+            for (int j = 0, n = p.names.length; j < n; j++, i++) {
+                if (!shouldIncludeField(p.names[j], filterFields, isInclude)) {
+                    continue;
+                }
+                if (timed && budget.exceedsTime(start)) {
+                    joiner.add("...");
+                    budget.recordTruncated();
+                    break fields;
+                }
+                String field = formatField(values == null ? readField(obj, p.accessors[j]) : values[i], p, j);
+                if (budget.exceedsLength(joiner.length(), field.length() + 2)) {
+                    joiner.add("...");
+                    budget.recordTruncated();
+                    break fields;
+                }
+                joiner.add(field);
+            }
+        }
+
+        String result = joiner.toString();
+        if (timed) {
+            budget.record(clazz, System.nanoTime() - start);
+        }
+        return result;
+    }
+
+    /**
+     * 降级摘要：ClassName#id，无 id 字段时以身份哈希区分实例；id 字段标注了脱敏时输出脱敏值
+     */
+    private String summarize(Object obj, int identityHash, Class<?> clazz, FieldPlan plan, Object[] values) {
+        int i = 0;
+        for (FieldPlan p = plan; p != null; p = p.parent) {
+            for (int j = 0, n = p.names.length; j < n; j++, i++) {
+                if ("id".equals(p.names[j])) {
+                    Object id = values == null ? readField(obj, p.accessors[j]) : values[i];
+                    if (id == ACCESS_DENIED || id instanceof AccessFailure) {
+                        return clazz.getSimpleName() + "#" + Integer.toHexString(identityHash);
+                    }
+                    return clazz.getSimpleName() + "#" + (id == null ? "null" : maskValue(id.toString(), p, j));
+                }
+            }
+        }
+        return clazz.getSimpleName() + "#" + Integer.toHexString(identityHash);
+    }
+
+    /**
+     * 判断字段是否应该被包含
+     */
+    private static boolean shouldIncludeField(String fieldName, List<String> filterFields, boolean isInclude) {
+        if (filterFields == null) {
+            return true;
+        }
+        boolean isInFilter = filterFields.contains(fieldName);
+        return isInclude ? isInFilter : !isInFilter;
+    }
+
+    /**
+     * 格式化计划中第 j 个属性（值已读取）
+     */
+    private String formatField(Object value, FieldPlan plan, int j) {
+        String name = plan.names[j];
+        if (value == ACCESS_DENIED) {
+            return name + "=<access denied>";
+        }
+        if (value instanceof AccessFailure failure) {
+            return name + "=<error: " + failure.cause().getClass().getSimpleName() + ">";
+        }
+        return name + "=" + formatValue(value, plan, j);
+    }
+
+    /**
+     * 读取属性值，无权访问时返回 {@link #ACCESS_DENIED}，getter 抛出异常时返回 {@link AccessFailure}
+     */
+    private static Object readField(Object obj, MethodHandle accessor) {
+        if (accessor == null) {
+            return ACCESS_DENIED;
+        }
+        try {
+            return (Object) accessor.invokeExact(obj);
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable e) {
+            return new AccessFailure(e);
+        }
+    }
+
+    /**
+     * 获取类的字段计划（带缓存）
+     */
+    private FieldPlan getPlan(Class<?> clazz) {
+        return getPlan(currentCache(), clazz);
+    }
+
+    /**
+     * 取得直接渲染的类的计划：先取得（或解析）父类计划，再解析本类声明的属性；父类计划按引用共享
+     * <p>
+     * 只有直接渲染的类计入缓存容量，达到上限时只清空这些类的计划；仅作为父类被引用的计划另存一处，
+     * 不随之丢弃，之后解析的子类继续共享同一份，超过上限时才单独清空。
+     * 不在 {@code computeIfAbsent} 中递归解析父类（同一映射内递归更新不被允许）；并发首次访问同一类时
+     * 可能重复解析一次，以先写入的为准
+     */
+    private FieldPlan getPlan(PlanCache cache, Class<?> clazz) {
+        FieldPlan plan = cache.plans.get(clazz);
+        if (plan != null) {
+            return plan;
+        }
+        // 防止缓存过大
+        if (cache.plans.size() >= maxCacheSize) {
+            cache.plans.clear();
+        }
+        plan = cache.parents.get(clazz);
+        if (plan == null) {
+            plan = parsePlan(clazz, getParentPlan(cache, clazz), cache.policy);
+        }
+        FieldPlan existing = cache.plans.putIfAbsent(clazz, plan);
+        return existing != null ? existing : plan;
+    }
+
+    /**
+     * 父类的计划：父类本身被直接渲染过时复用其计划，否则解析后存入父类计划表
+     */
+    private FieldPlan getParentPlan(PlanCache cache, Class<?> clazz) {
+        Class<?> superclass = clazz.getSuperclass();
+        if (clazz.isRecord() || superclass == null || superclass == Object.class) {
+            return null;
+        }
+        FieldPlan plan = cache.plans.get(superclass);
+        if (plan == null) {
+            plan = cache.parents.get(superclass);
+        }
+        if (plan != null) {
+            return plan;
+        }
+        if (cache.parents.size() >= maxCacheSize) {
+            cache.parents.clear();
+        }
+        plan = parsePlan(superclass, getParentPlan(cache, superclass), cache.policy);
+        FieldPlan existing = cache.parents.putIfAbsent(superclass, plan);
+        return existing != null ? existing : plan;
+    }
+
+    /**
+     * 当前策略与策略注册表对应的缓存；任一切换时整体换新，按旧配置解析的元数据随旧缓存一起丢弃
+     * <p>
+     * 并发切换时多个线程可能各自换新一次，最终总会收敛到与当前配置绑定的缓存
+     */
+    private PlanCache currentCache() {
+        PlanCache cache = planCache;
+        SensitivePolicy current = policy;
+        long strategyVersion = strategies.getVersion();
+        if (cache.policy != current || cache.strategyVersion != strategyVersion) {
+            cache = new PlanCache(current, strategyVersion);
+            planCache = cache;
+        }
+        return cache;
+    }
+
+    /**
+     * 解析类本身声明的属性：record 按组件，普通类为本类字段与标注的 getter
+     */
+    private FieldPlan parsePlan(Class<?> clazz, FieldPlan parent, SensitivePolicy policy) {
+        FieldPlan.Builder builder = new FieldPlan.Builder();
+        if (clazz.isRecord()) {
+            parseRecordComponents(clazz, policy, builder);
+        } else {
+            parseDeclaredFields(clazz, policy, builder);
+        }
+        return builder.build(parent);
+    }
+
+    /**
+     * 解析当前类声明的字段，以及标注了 {@code @Sensitive} 或配置了规则的 getter
+     */
+    private void parseDeclaredFields(Class<?> clazz, SensitivePolicy policy, FieldPlan.Builder builder) {
+        Map<String, Method> getters = sensitiveGetters(clazz, policy);
+        for (Field field : clazz.getDeclaredFields()) {
+            if (shouldSkipField(field)) {
+                continue;
+            }
+            Sensitive sensitive = field.getAnnotation(Sensitive.class);
+            Method getter = getters.remove(field.getName());
+            if (sensitive == null && getter != null && getter.isAnnotationPresent(Sensitive.class)) {
+                addProperty(builder, clazz, field.getName(), PropertyAccessors.forMethod(getter),
+                        getter.getAnnotation(Sensitive.class), policy);
+            } else {
+                addProperty(builder, clazz, field.getName(), PropertyAccessors.forField(field), sensitive, policy);
+            }
+        }
+        // 没有同名字段的计算属性
+        getters.forEach((name, getter) -> addProperty(builder, clazz, name,
+                PropertyAccessors.forMethod(getter), getter.getAnnotation(Sensitive.class), policy));
+    }
+
+    /**
+     * 按规范构造器顺序解析 record 组件；组件上的注解同时落在私有字段与访问器上，显式声明的访问器可单独标注
+     */
+    private void parseRecordComponents(Class<?> clazz, SensitivePolicy policy, FieldPlan.Builder builder) {
+        for (RecordComponent component : clazz.getRecordComponents()) {
+            Method accessor = component.getAccessor();
+            Sensitive sensitive = accessor.getAnnotation(Sensitive.class);
+            if (sensitive == null) {
+                sensitive = recordFieldAnnotation(clazz, component.getName());
+            }
+            addProperty(builder, clazz, component.getName(), PropertyAccessors.forMethod(accessor), sensitive, policy);
+        }
+    }
+
+    private static Sensitive recordFieldAnnotation(Class<?> clazz, String name) {
+        try {
+            return clazz.getDeclaredField(name).getAnnotation(Sensitive.class);
+        } catch (NoSuchFieldException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 当前类声明的、标注了 {@code @Sensitive} 或在策略中配置了规则的 getter，按属性名排序；
+     * 有同名字段时规则仍按字段读取，只有标注了注解的 getter 替代字段
+     */
+    private static Map<String, Method> sensitiveGetters(Class<?> clazz, SensitivePolicy policy) {
+        boolean ruled = policy.getClassNames().contains(clazz.getName());
+        Map<String, Method> getters = new TreeMap<>();
+        for (Method method : clazz.getDeclaredMethods()) {
+            boolean annotated = method.isAnnotationPresent(Sensitive.class);
+            if (annotated || ruled) {
+                String name = PropertyAccessors.propertyName(method);
+                if (name != null && (annotated || policy.find(clazz, name) != null)) {
+                    getters.putIfAbsent(name, method);
+                }
+            }
+        }
+        return getters;
+    }
+
+    /**
+     * 判断是否应该跳过该字段
+     */
+    private static boolean shouldSkipField(Field field) {
+        return Modifier.isStatic(field.getModifiers()) || field.isSynthetic();
+    }
+
+    /**
+     * 追加属性元数据，脱敏策略在此一次解析为引用；策略中的规则覆盖注解，未指定的选项沿用注解
+     *
+     * @param declaringClass 声明属性的类，按它查找规则
+     * @param accessor       读取句柄，null 表示无权读取
+     * @param sensitive      属性上的注解，可为 null
+     */
+    private void addProperty(FieldPlan.Builder builder, Class<?> declaringClass, String name, MethodHandle accessor,
+                             Sensitive sensitive, SensitivePolicy policy) {
+        SensitivePolicy.Rule rule = policy.find(declaringClass, name);
+        if (rule != null) {
+            if (rule.isDisabled()) {
+                builder.add(name, accessor, null, '*', false);
+                return;
+            }
+            builder.add(name, accessor,
+                    strategies.resolve(rule.type(), null, rule.prefixLength(), rule.suffixLength()),
+                    rule.maskCharOr(sensitive != null ? sensitive.maskChar() : '*'),
+                    rule.fixedLengthOr(sensitive != null && sensitive.fixedLength()));
+            return;
+        }
+        if (sensitive == null) {
+            builder.add(name, accessor, null, '*', false);
+            return;
+        }
+        MaskStrategy strategy = strategies.resolve(sensitive.type(), sensitive.strategy(),
+                sensitive.prefixLength(), sensitive.suffixLength());
+        builder.add(name, accessor, strategy, sensitive.maskChar(), sensitive.fixedLength());
+    }
+    
+    /**
+     * 格式化字段值
+     */
+    private String formatValue(Object value, FieldPlan plan, int j) {
+        if (value == null) {
+            return "null";
+        }
+
+        MaskStrategy strategy = plan.strategy(j);
+        if (strategy != null && value instanceof Map<?, ?> map) {
+            return maskMap(strategies, map, strategy, plan.maskChars[j], plan.fixedLengths[j]);
+        }
+
+        String strValue = value.toString();
+        String maskedValue = maskValue(strValue, plan, j);
+        return quoteStringValue(value, maskedValue);
+    }
+
+    /**
+     * 对敏感值进行脱敏处理
+     */
+    private String maskValue(String strValue, FieldPlan plan, int j) {
+        MaskStrategy strategy = plan.strategy(j);
+        if (strategy == null) {
+            return strValue;
+        }
+        return strategies.mask(strValue, strategy, plan.maskChars[j], plan.fixedLengths[j]);
+    }
+
+    /**
+     * Map 字段（扩展字段、属性包）逐个值脱敏，键原样输出，格式与 {@link Map#toString()} 一致
+     */
+    static String maskMap(MaskStrategyRegistry strategies, Map<?, ?> map, MaskStrategy strategy, char maskChar,
+                          boolean fixedLength) {
+        StringJoiner joiner = new StringJoiner(", ", "{", "}");
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            Object value = entry.getValue();
+            String masked = value == null
+                    ? "null"
+                    : strategies.mask(value.toString(), strategy, maskChar, fixedLength);
+            joiner.add(entry.getKey() + "=" + masked);
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * 为字符串值添加引号
+     */
+    static String quoteStringValue(Object value, String strValue) {
+        if (value instanceof String) {
+            return "\"" + strValue + "\"";
+        }
+        return strValue;
+    }
+
+    /**
+     * 按同一策略解析的字段元数据
+     *
+     * @param plans   直接渲染的类的计划，计入缓存容量
+     * @param parents 仅作为父类被共享的计划
+     */
+    private record PlanCache(SensitivePolicy policy, long strategyVersion, Map<Class<?>, FieldPlan> plans,
+                             Map<Class<?>, FieldPlan> parents) {
+
+        PlanCache(SensitivePolicy policy, long strategyVersion) {
+            this(policy, strategyVersion, new ConcurrentHashMap<>(), new ConcurrentHashMap<>());
+        }
+    }
+}
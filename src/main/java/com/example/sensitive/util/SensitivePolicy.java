@@ -0,0 +1,264 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.enums.SensitiveType;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 不可变的脱敏策略快照
+ * <p>
+ * 由 {@code 类全名.字段名 -> 规则} 一次编译而成，编译完成后不再修改，可在任意线程间无锁共享。
+ * 规则写法为脱敏类型名，后接以分号分隔的可选项；{@code NONE} 关闭该字段的脱敏：
+ * <pre>
+ * com.vendor.Customer.mobile=PHONE
+ * com.vendor.Customer.cardNo=CUSTOM(6,4);mask-char=#;for-api=true
+ * com.example.order.OrderDTO.remark=NONE
+ * </pre>
+ * 可选项 {@code mask-char}、{@code for-api}、{@code fixed-length} 未指定时沿用字段上 {@code @Sensitive} 的取值，
+ * 字段无注解时取注解默认值。规则覆盖字段上的注解。
+ *
+ * @author example
+ * @see SensitiveRules
+ */
+public final class SensitivePolicy {
+
+    /** 不含任何规则的策略 */
+    public static final SensitivePolicy EMPTY = new SensitivePolicy(0, Map.of(), Map.of());
+
+    private static final AtomicLong VERSIONS = new AtomicLong();
+
+    private final long version;
+
+    /** 类全名 -> 字段名 -> 规则 */
+    private final Map<String, Map<String, Rule>> rules;
+
+    private final Map<String, String> definitions;
+
+    private SensitivePolicy(long version, Map<String, Map<String, Rule>> rules, Map<String, String> definitions) {
+        this.version = version;
+        this.rules = rules;
+        this.definitions = definitions;
+    }
+
+    /**
+     * 编译规则
+     * <p>
+     * 规则语法错误、类型未知，或类在类路径上但既没有该字段也没有同名 getter 属性时抛出 {@link IllegalArgumentException}；
+     * 类不在类路径上的规则保留但不生效。字段声明在父类时规则归入声明它的类；没有该字段时按 getter（{@code getX()}、
+     * boolean 的 {@code isX()}）匹配，规则归入声明 getter 的类。
+     *
+     * @param definitions {@code 类全名.字段名 -> 规则}，null 视为空
+     * @return 新的策略快照，版本号单调递增
+     */
+    public static SensitivePolicy compile(Map<String, String> definitions) {
+        Map<String, Map<String, Rule>> compiled = new HashMap<>();
+        Map<String, String> normalized = new TreeMap<>();
+        if (definitions != null) {
+            definitions.forEach((key, definition) -> {
+                int dot = key.lastIndexOf('.');
+                if (dot <= 0 || dot == key.length() - 1) {
+                    throw new IllegalArgumentException("脱敏规则的键须为 类全名.字段名: " + key);
+                }
+                String fieldName = key.substring(dot + 1);
+                String className = declaringClassName(key.substring(0, dot), fieldName, key);
+                compiled.computeIfAbsent(className, c -> new HashMap<>()).put(fieldName, parse(key, definition));
+                normalized.put(className + "." + fieldName, definition.trim());
+            });
+        }
+        compiled.replaceAll((className, fields) -> Map.copyOf(fields));
+        return new SensitivePolicy(VERSIONS.incrementAndGet(), Map.copyOf(compiled),
+                Collections.unmodifiableMap(normalized));
+    }
+
+    /**
+     * 查找字段的规则，未配置时返回 null
+     */
+    public Rule find(Class<?> declaringClass, String fieldName) {
+        Map<String, Rule> fields = rules.get(declaringClass.getName());
+        return fields == null ? null : fields.get(fieldName);
+    }
+
+    /**
+     * 查找字段的规则，未配置时返回 null
+     */
+    public Rule find(Field field) {
+        return find(field.getDeclaringClass(), field.getName());
+    }
+
+    /**
+     * 配置了规则的类全名
+     */
+    public Set<String> getClassNames() {
+        return rules.keySet();
+    }
+
+    /**
+     * 编译前的规则原文，键已归入声明字段的类，按键排序
+     */
+    public Map<String, String> getDefinitions() {
+        return definitions;
+    }
+
+    /**
+     * 版本号，每次编译递增；{@link #EMPTY} 为 0
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * 解析 {@code TYPE[(prefix,suffix)][;option=value]...}
+     */
+    private static Rule parse(String key, String definition) {
+        if (definition == null || definition.isBlank()) {
+            throw new IllegalArgumentException("脱敏规则为空: " + key);
+        }
+        String[] parts = definition.split(";");
+        String text = parts[0].trim();
+        int open = text.indexOf('(');
+        String typeName = (open < 0 ? text : text.substring(0, open)).trim().toUpperCase(Locale.ROOT);
+
+        SensitiveType type = null;
+        if (!"NONE".equals(typeName)) {
+            try {
+                type = SensitiveType.valueOf(typeName);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("未知的脱敏类型: " + key + "=" + definition, e);
+            }
+        }
+
+        int prefixLength = 0;
+        int suffixLength = 0;
+        if (open >= 0) {
+            if (type != SensitiveType.CUSTOM || !text.endsWith(")")) {
+                throw new IllegalArgumentException("只有 CUSTOM 可指定保留长度，写法为 CUSTOM(prefix,suffix): "
+                        + key + "=" + definition);
+            }
+            int[] lengths = parseLengths(text.substring(open + 1, text.length() - 1));
+            if (lengths == null) {
+                throw new IllegalArgumentException("CUSTOM 保留长度须为两个非负整数: " + key + "=" + definition);
+            }
+            prefixLength = lengths[0];
+            suffixLength = lengths[1];
+        }
+
+        Character maskChar = null;
+        Boolean forApi = null;
+        Boolean fixedLength = null;
+        for (int i = 1; i < parts.length; i++) {
+            String option = parts[i].trim();
+            int eq = option.indexOf('=');
+            String name = eq < 0 ? option : option.substring(0, eq).trim();
+            String value = eq < 0 ? "" : option.substring(eq + 1).trim();
+            switch (name) {
+                case "mask-char" -> {
+                    if (value.length() != 1) {
+                        throw new IllegalArgumentException("mask-char 须为单个字符: " + key + "=" + definition);
+                    }
+                    maskChar = value.charAt(0);
+                }
+                case "for-api" -> forApi = parseBoolean(value, key, definition);
+                case "fixed-length" -> fixedLength = parseBoolean(value, key, definition);
+                default -> throw new IllegalArgumentException("未知的规则选项 " + name + ": " + key + "=" + definition);
+            }
+        }
+        return new Rule(type, prefixLength, suffixLength, maskChar, forApi, fixedLength);
+    }
+
+    private static int[] parseLengths(String text) {
+        String[] lengths = text.split(",");
+        if (lengths.length != 2) {
+            return null;
+        }
+        try {
+            int prefix = Integer.parseInt(lengths[0].trim());
+            int suffix = Integer.parseInt(lengths[1].trim());
+            return prefix >= 0 && suffix >= 0 ? new int[]{prefix, suffix} : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static Boolean parseBoolean(String value, String key, String definition) {
+        if ("true".equalsIgnoreCase(value)) {
+            return Boolean.TRUE;
+        }
+        if ("false".equalsIgnoreCase(value)) {
+            return Boolean.FALSE;
+        }
+        throw new IllegalArgumentException("选项值须为 true 或 false: " + key + "=" + definition);
+    }
+
+    /**
+     * 类可加载时校验字段或同名 getter 属性存在，并返回声明它的类（字段优先）；不可加载时原样返回
+     */
+    private static String declaringClassName(String className, String fieldName, String key) {
+        Class<?> clazz;
+        try {
+            clazz = Class.forName(className, false, classLoader());
+        } catch (ClassNotFoundException | LinkageError e) {
+            return className;
+        }
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            try {
+                return c.getDeclaredField(fieldName).getDeclaringClass().getName();
+            } catch (NoSuchFieldException ignored) {
+                // 继续查找父类
+            }
+        }
+        for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            for (Method method : c.getDeclaredMethods()) {
+                if (fieldName.equals(PropertyAccessors.propertyName(method))) {
+                    return c.getName();
+                }
+            }
+        }
+        throw new IllegalArgumentException("脱敏规则指向的字段不存在: " + key);
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader != null ? loader : SensitivePolicy.class.getClassLoader();
+    }
+
+    /**
+     * 一条已编译的规则
+     *
+     * @param type         脱敏类型，null 表示关闭脱敏（{@code NONE}）
+     * @param prefixLength CUSTOM 前置保留长度
+     * @param suffixLength CUSTOM 后置保留长度
+     * @param maskChar     掩码字符，null 表示沿用注解
+     * @param forApi       是否 API 脱敏，null 表示沿用注解
+     * @param fixedLength  是否定长，null 表示沿用注解
+     */
+    public record Rule(SensitiveType type, int prefixLength, int suffixLength,
+                       Character maskChar, Boolean forApi, Boolean fixedLength) {
+
+        /**
+         * 是否关闭脱敏
+         */
+        public boolean isDisabled() {
+            return type == null;
+        }
+
+        public char maskCharOr(char fallback) {
+            return maskChar != null ? maskChar : fallback;
+        }
+
+        public boolean forApiOr(boolean fallback) {
+            return forApi != null ? forApi : fallback;
+        }
+
+        public boolean fixedLengthOr(boolean fallback) {
+            return fixedLength != null ? fixedLength : fallback;
+        }
+    }
+}
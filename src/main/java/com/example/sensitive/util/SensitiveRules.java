@@ -0,0 +1,61 @@
+package com.example.sensitive.util;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 当前生效的脱敏策略
+ * <p>
+ * 为无法添加 {@code @Sensitive} 的类（第三方 jar、生成代码）按 {@code 类全名.字段名 -> 规则} 声明脱敏字段，
+ * 或在运行时调整已注解字段的类型、掩码字符、forApi 与开关，规则写法见 {@link SensitivePolicy}：
+ * <pre>
+ * sensitive.rules.com.vendor.Customer.mobile=PHONE
+ * sensitive.rules.com.vendor.Customer.cardNo=CUSTOM(6,4)
+ * </pre>
+ * 新规则先在调用线程编译成不可变的 {@link SensitivePolicy}，再以一次 volatile 写发布；读取方
+ * （{@link SensitiveToStringBuilder}、{@code SensitiveJsonSerializer}）只做一次 volatile 读，从不加锁。
+ * 按旧策略编译的字段元数据与序列化配置以策略实例为键，发布后首次访问即整体失效，不会混用新旧规则。
+ * 规则只在解析字段元数据时查找，渲染时的开销与注解完全一致。
+ * 静态方法作用于 {@link SensitiveEngine#getDefault() 默认引擎}，其他引擎通过 {@link SensitiveEngine#setRules} 单独配置。
+ *
+ * @author example
+ */
+public final class SensitiveRules {
+
+    private SensitiveRules() {
+    }
+
+    /**
+     * 编译并发布规则，编译失败时当前策略保持不变
+     *
+     * @param definitions {@code 类全名.字段名 -> 规则}，null 表示清空
+     * @return 新发布的策略
+     * @throws IllegalArgumentException 规则无效
+     */
+    public static SensitivePolicy setRules(Map<String, String> definitions) {
+        return SensitiveEngine.getDefault().setRules(definitions);
+    }
+
+    /**
+     * 发布已编译的策略
+     *
+     * @param policy 策略，null 表示清空
+     */
+    public static void publish(SensitivePolicy policy) {
+        SensitiveEngine.getDefault().publish(policy);
+    }
+
+    /**
+     * 当前生效的策略
+     */
+    public static SensitivePolicy current() {
+        return SensitiveEngine.getDefault().getPolicy();
+    }
+
+    /**
+     * 配置了规则的类全名，启动预热时一并解析
+     */
+    public static Set<String> getClassNames() {
+        return current().getClassNames();
+    }
+}
@@ -1,16 +1,12 @@
 package com.example.sensitive.util;
 
-import com.example.sensitive.annotation.Sensitive;
 import com.example.sensitive.enums.SensitiveType;
-import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.Modifier;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 敏感数据 toString 构建器
@@ -29,23 +25,12 @@ import java.util.concurrent.ConcurrentHashMap;
  *     }
  * }
  * </pre>
+ * 所有静态方法委托给 {@link SensitiveEngine#getDefault() 默认引擎}，需要隔离缓存与配置时直接使用 {@link SensitiveEngine} 实例。
  * 
  * @author example
  */
 public final class SensitiveToStringBuilder {
     
-    /**
-     * 字段元数据缓存
-     * Key: Class
-     * Value: 字段元数据列表
-     */
-    private static final Map<Class<?>, List<FieldMeta>> FIELD_CACHE = new ConcurrentHashMap<>();
-    
-    /**
-     * 最大缓存容量（防止内存泄漏）
-     */
-    private static final int MAX_CACHE_SIZE = 10000;
-    
     private SensitiveToStringBuilder() {
         // 工具类禁止实例化
     }
@@ -57,7 +42,7 @@ public final class SensitiveToStringBuilder {
      * @return 脱敏后的字符串表示
      */
     public static String build(Object obj) {
-        return buildInternal(obj, null, false);
+        return SensitiveEngine.getDefault().build(obj);
     }
 
     /**
@@ -68,10 +53,7 @@ public final class SensitiveToStringBuilder {
      * @return 脱敏后的字符串表示
      */
     public static String buildWith(Object obj, String... fieldNames) {
-        if (fieldNames == null || fieldNames.length == 0) {
-            return build(obj);
-        }
-        return buildInternal(obj, List.of(fieldNames), true);
+        return SensitiveEngine.getDefault().buildWith(obj, fieldNames);
     }
 
     /**
@@ -82,185 +64,240 @@ public final class SensitiveToStringBuilder {
      * @return 脱敏后的字符串表示
      */
     public static String buildWithout(Object obj, String... fieldNames) {
-        List<String> excludeFields = (fieldNames != null) ? List.of(fieldNames) : List.of();
-        return buildInternal(obj, excludeFields, false);
+        return SensitiveEngine.getDefault().buildWithout(obj, fieldNames);
     }
 
     /**
-     * 内部构建方法
+     * 捕获对象的浅快照，脱敏与格式化推迟到快照的 {@link Snapshot#toString()}
+     * <p>
+     * 调用线程只按缓存的字段计划读取字段引用（字符串不可变，读取引用即可），不做脱敏与拼接；
+     * 配合异步日志在后台线程格式化参数时，脱敏开销随之移出请求线程：
+     * <pre>
+     * log.info("order created: {}", SensitiveToStringBuilder.snapshot(order));
+     * </pre>
+     * 快照是浅拷贝：字段引用的可变对象（集合、嵌套 DTO）若在格式化前被修改，输出的是修改后的内容。
      *
-     * @param obj          对象
-     * @param filterFields 过滤字段列表（include模式为包含，exclude模式为排除）
-     * @param isInclude    是否为包含模式
-     * @return 脱敏后的字符串表示
+     * @param obj 对象
+     * @return 快照，输出格式与 {@link #build(Object)} 一致
      */
-    private static String buildInternal(Object obj, List<String> filterFields, boolean isInclude) {
-        if (obj == null) {
-            return "null";
-        }
-
-        Class<?> clazz = obj.getClass();
-        List<FieldMeta> fields = getFieldMetas(clazz);
-        StringJoiner joiner = new StringJoiner(", ", clazz.getSimpleName() + "(", ")");
-
-        for (FieldMeta meta : fields) {
-            if (shouldIncludeField(meta.name, filterFields, isInclude)) {
-                joiner.add(formatField(obj, meta));
-            }
-        }
-
-        return joiner.toString();
+    public static Snapshot snapshot(Object obj) {
+        return SensitiveEngine.getDefault().snapshot(obj);
     }
 
     /**
-     * 判断字段是否应该被包含
+     * 创建免反射的手动构建器
+     * <p>
+     * 字段由调用方逐个追加，不读取注解、不访问私有字段，适用于 GraalVM native image
+     * 等不希望依赖运行时反射的场景；输出格式与 {@link #build(Object)} 一致。
+     *
+     * <p>使用示例:
+     * <pre>
+     * &#64;Override
+     * public String toString() {
+     *     return SensitiveToStringBuilder.of(this)
+     *             .append("id", id)
+     *             .append("phone", phone, SensitiveType.PHONE)
+     *             .appendCustom("orderNo", orderNo, 3, 4, '*')
+     *             .build();
+     * }
+     * </pre>
+     *
+     * @param obj 对象，仅用于取类名
+     * @return 手动构建器
      */
-    private static boolean shouldIncludeField(String fieldName, List<String> filterFields, boolean isInclude) {
-        if (filterFields == null) {
-            return true;
-        }
-        boolean isInFilter = filterFields.contains(fieldName);
-        return isInclude ? isInFilter : !isInFilter;
+    public static Appender of(Object obj) {
+        return SensitiveEngine.getDefault().of(obj);
     }
 
     /**
-     * 格式化单个字段
+     * 预先解析并缓存类的字段元数据
+     * <p>
+     * 启动阶段调用，避免首个 toString() 在业务流量下承担反射解析开销；线程安全，可并行调用
+     *
+     * @param clazz 类
+     * @return 解析到的字段数
      */
-    private static String formatField(Object obj, FieldMeta meta) {
-        try {
-            Object value = meta.field.get(obj);
-            return meta.name + "=" + formatValue(value, meta);
-        } catch (IllegalAccessException e) {
-            return meta.name + "=<access denied>";
-        }
+    public static int warmUp(Class<?> clazz) {
+        return SensitiveEngine.getDefault().warmUp(clazz);
     }
-    
+
     /**
-     * 获取类的字段元数据（带缓存）
+     * 设置渲染预算（长度、时间预算与过载降级），对之后的 {@link #build} 系列调用生效
+     *
+     * @param budget 渲染预算，null 表示不限
      */
-    private static List<FieldMeta> getFieldMetas(Class<?> clazz) {
-        return FIELD_CACHE.computeIfAbsent(clazz, c -> {
-            // 防止缓存过大
-            if (FIELD_CACHE.size() >= MAX_CACHE_SIZE) {
-                FIELD_CACHE.clear();
-            }
-            return parseFields(c);
-        });
+    public static void setRenderBudget(RenderBudget budget) {
+        SensitiveEngine.getDefault().setRenderBudget(budget);
     }
-    
+
     /**
-     * 解析类的字段
+     * 当前渲染预算，可读取降级状态与统计
      */
-    private static List<FieldMeta> parseFields(Class<?> clazz) {
-        List<FieldMeta> result = new ArrayList<>();
-        Class<?> currentClass = clazz;
-
-        while (currentClass != null && currentClass != Object.class) {
-            parseDeclaredFields(currentClass, result);
-            currentClass = currentClass.getSuperclass();
-        }
-
-        return result;
+    public static RenderBudget getRenderBudget() {
+        return SensitiveEngine.getDefault().getRenderBudget();
     }
 
     /**
-     * 解析当前类声明的字段
+     * 清除缓存
      */
-    private static void parseDeclaredFields(Class<?> clazz, List<FieldMeta> result) {
-        for (Field field : clazz.getDeclaredFields()) {
-            if (shouldSkipField(field)) {
-                continue;
-            }
-            field.setAccessible(true);
-            result.add(createFieldMeta(field));
-        }
+    public static void clearCache() {
+        SensitiveEngine.getDefault().clearCache();
     }
-
+    
     /**
-     * 判断是否应该跳过该字段
+     * 获取缓存大小
      */
-    private static boolean shouldSkipField(Field field) {
-        return Modifier.isStatic(field.getModifiers()) || field.isSynthetic();
+    public static int getCacheSize() {
+        return SensitiveEngine.getDefault().getCacheSize();
     }
 
     /**
-     * 创建字段元数据
+     * 字段元数据缓存近似占用的堆内存，字节
      */
-    private static FieldMeta createFieldMeta(Field field) {
-        Sensitive sensitive = field.getAnnotation(Sensitive.class);
-
-        boolean hasSensitive = sensitive != null;
-        SensitiveType type = hasSensitive ? sensitive.type() : null;
-        int prefixLength = hasSensitive ? sensitive.prefixLength() : 0;
-        int suffixLength = hasSensitive ? sensitive.suffixLength() : 0;
-        char maskChar = hasSensitive ? sensitive.maskChar() : '*';
-
-        return new FieldMeta(field, field.getName(), hasSensitive, type,
-                prefixLength, suffixLength, maskChar);
+    public static long getCacheRetainedBytes() {
+        return SensitiveEngine.getDefault().getCacheRetainedBytes();
     }
     
     /**
-     * 格式化字段值
+     * 免反射的手动构建器，非线程安全，每次 toString() 新建
      */
-    private static String formatValue(Object value, FieldMeta meta) {
-        if (value == null) {
-            return "null";
+    public static final class Appender {
+
+        private final StringJoiner joiner;
+
+        private final MaskStrategyRegistry strategies;
+
+        Appender(String className, MaskStrategyRegistry strategies) {
+            this.joiner = new StringJoiner(", ", className + "(", ")");
+            this.strategies = strategies;
         }
 
-        String strValue = value.toString();
-        String maskedValue = maskValue(strValue, meta);
-        return quoteStringValue(value, maskedValue);
-    }
+        /**
+         * 追加普通字段
+         *
+         * @param name  字段名
+         * @param value 字段值
+         * @return this
+         */
+        public Appender append(String name, Object value) {
+            if (value == null) {
+                joiner.add(name + "=null");
+            } else {
+                joiner.add(name + "=" + SensitiveEngine.quoteStringValue(value, value.toString()));
+            }
+            return this;
+        }
 
-    /**
-     * 对敏感值进行脱敏处理
-     */
-    private static String maskValue(String strValue, FieldMeta meta) {
-        if (!meta.hasSensitive || meta.type == null) {
-            return strValue;
+        /**
+         * 追加敏感字段
+         *
+         * @param name  字段名
+         * @param value 字段值
+         * @param type  脱敏类型
+         * @return this
+         */
+        public Appender append(String name, Object value, SensitiveType type) {
+            return append(name, value, type, '*');
         }
 
-        if (meta.type == SensitiveType.CUSTOM) {
-            return MaskStrategyFactory.maskCustom(strValue, meta.prefixLength,
-                    meta.suffixLength, meta.maskChar);
+        /**
+         * 追加敏感字段（指定掩码字符）
+         *
+         * @param name     字段名
+         * @param value    字段值
+         * @param type     脱敏类型
+         * @param maskChar 掩码字符
+         * @return this
+         */
+        public Appender append(String name, Object value, SensitiveType type, char maskChar) {
+            return appendMasked(name, value, type, 0, 0, maskChar);
         }
-        return MaskStrategyFactory.mask(strValue, meta.type, meta.maskChar);
-    }
 
-    /**
-     * 为字符串值添加引号
-     */
-    private static String quoteStringValue(Object value, String strValue) {
-        if (value instanceof String) {
-            return "\"" + strValue + "\"";
+        /**
+         * 追加自定义脱敏字段（指定前后保留长度）
+         *
+         * @param name         字段名
+         * @param value        字段值
+         * @param prefixLength 前缀保留长度
+         * @param suffixLength 后缀保留长度
+         * @param maskChar     掩码字符
+         * @return this
+         */
+        public Appender appendCustom(String name, Object value, int prefixLength, int suffixLength, char maskChar) {
+            return appendMasked(name, value, SensitiveType.CUSTOM, prefixLength, suffixLength, maskChar);
+        }
+
+        private Appender appendMasked(String name, Object value, SensitiveType type,
+                                      int prefixLength, int suffixLength, char maskChar) {
+            if (value == null) {
+                joiner.add(name + "=null");
+                return this;
+            }
+            MaskStrategy strategy = strategies.resolve(type, null, prefixLength, suffixLength);
+            if (value instanceof Map<?, ?> map) {
+                joiner.add(name + "=" + SensitiveEngine.maskMap(strategies, map, strategy, maskChar, false));
+                return this;
+            }
+            String masked = strategies.mask(value.toString(), strategy, maskChar, false);
+            joiner.add(name + "=" + SensitiveEngine.quoteStringValue(value, masked));
+            return this;
+        }
+
+        /**
+         * 生成字符串
+         *
+         * @return 脱敏后的字符串表示
+         */
+        public String build() {
+            return joiner.toString();
+        }
+
+        @Override
+        public String toString() {
+            return build();
         }
-        return strValue;
-    }
-    
-    /**
-     * 清除缓存
-     */
-    public static void clearCache() {
-        FIELD_CACHE.clear();
     }
-    
+
     /**
-     * 获取缓存大小
+     * 字段值的浅快照，首次 {@link #toString()} 时在调用线程脱敏并格式化，结果缓存供多个输出端复用
      */
-    public static int getCacheSize() {
-        return FIELD_CACHE.size();
+    public static final class Snapshot {
+
+        static final Snapshot NULL = new Snapshot(null, 0, null, null, new Object[0]);
+
+        private final SensitiveEngine engine;
+
+        /** 源对象的身份哈希，降级摘要用于区分实例；不持有源对象，快照不延长其生命周期 */
+        private final int identityHash;
+
+        private final Class<?> clazz;
+
+        private final FieldPlan plan;
+
+        private final Object[] values;
+
+        private volatile String rendered;
+
+        Snapshot(SensitiveEngine engine, int identityHash, Class<?> clazz, FieldPlan plan, Object[] values) {
+            this.engine = engine;
+            this.identityHash = identityHash;
+            this.clazz = clazz;
+            this.plan = plan;
+            this.values = values;
+        }
+
+        @Override
+        public String toString() {
+            if (clazz == null) {
+                return "null";
+            }
+            String result = rendered;
+            if (result == null) {
+                // 并发下可能重复渲染一次，结果相同
+                result = engine.render(null, identityHash, clazz, plan, values, null, false);
+                rendered = result;
+            }
+            return result;
+        }
     }
-    
-    /**
-     * 字段元数据
-     */
-    private record FieldMeta(
-            Field field,
-            String name,
-            boolean hasSensitive,
-            SensitiveType type,
-            int prefixLength,
-            int suffixLength,
-            char maskChar
-    ) {}
 }
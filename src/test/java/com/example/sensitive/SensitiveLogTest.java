@@ -10,6 +10,8 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -153,6 +155,48 @@ class SensitiveLogTest {
         assertTrue(result.contains("phone"));
     }
 
+    @Test
+    @DisplayName("SensitiveToStringBuilder.of 免反射构建与反射构建输出一致")
+    void testSensitiveToStringBuilderAppender() {
+        UserDTO user = createTestUser();
+
+        String result = SensitiveToStringBuilder.of(user)
+                .append("id", user.getId())
+                .append("username", user.getUsername())
+                .append("phone", user.getPhone(), SensitiveType.PHONE)
+                .append("idCard", user.getIdCard(), SensitiveType.ID_CARD)
+                .append("email", user.getEmail(), SensitiveType.EMAIL)
+                .append("bankCard", user.getBankCard(), SensitiveType.BANK_CARD)
+                .append("realName", user.getRealName(), SensitiveType.NAME)
+                .append("password", user.getPassword())
+                .append("createTime", user.getCreateTime())
+                .build();
+
+        assertEquals(SensitiveToStringBuilder.build(user), result);
+        assertEquals("UserDTO(orderNo=\"ORD**********0123\", remark=null)", SensitiveToStringBuilder.of(user)
+                .appendCustom("orderNo", "ORD20260101230123", 3, 4, '*')
+                .append("remark", null, SensitiveType.TEXT)
+                .build());
+    }
+
+    @Test
+    @DisplayName("Map 扩展字段按值自动识别类型脱敏")
+    void testSensitiveToStringBuilderMapAuto() {
+        AttributeBagDTO bag = new AttributeBagDTO();
+        bag.extra.put("mobile", "13812345678");
+        bag.extra.put("idNo", "110101199001011237");
+        bag.extra.put("contact", "test@example.com");
+        bag.extra.put("remark", "请联系13812345678处理");
+        bag.extra.put("empty", null);
+
+        assertEquals("AttributeBagDTO(extra={mobile=138****5678, idNo=110101********1237, "
+                + "contact=t***@example.com, remark=请联系138****5678处理, empty=null})",
+                SensitiveToStringBuilder.build(bag));
+        assertEquals("AttributeBagDTO(extra={mobile=138****5678})", SensitiveToStringBuilder.of(bag)
+                .append("extra", Map.of("mobile", "13812345678"), SensitiveType.AUTO)
+                .build());
+    }
+
     // ==================== 辅助方法 ====================
 
     private UserDTO createTestUser() {
@@ -171,6 +215,14 @@ class SensitiveLogTest {
 
     // ==================== 测试 DTO ====================
 
+    /**
+     * 测试用 DTO（属性包）
+     */
+    public static class AttributeBagDTO {
+        @Sensitive(type = SensitiveType.AUTO)
+        private final Map<String, String> extra = new LinkedHashMap<>();
+    }
+
     /**
      * 测试用 DTO（普通类）
      */
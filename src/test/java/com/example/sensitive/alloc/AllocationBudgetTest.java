@@ -0,0 +1,373 @@
+package com.example.sensitive.alloc;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.impl.CustomMaskStrategy;
+import com.example.sensitive.strategy.impl.FpeMaskStrategy;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializer;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 渲染路径分配预算测试
+ * <p>
+ * 相对约束随常规测试运行，与 JVM 无关：定长不多于变长、原文直出不多于脱敏、快照不多于完整渲染、
+ * 缓存命中与识别不额外分配等，改动破坏其中任一关系即构建失败。
+ * <p>
+ * 每条路径另有显式的 "每次操作分配字节数" 预算，按 JDK 17 (compressed oops) 的实测值留出约 25% 余量设定。
+ * 对象头、压缩指针与逃逸分析随 JVM 与参数变化，绝对预算只在校准过的环境中有意义，
+ * 因此只在 {@code -Dsensitive.alloc.budgets=true}（{@code mvn test -Palloc-budgets}）时检查；
+ * 若某次改动确实需要更多分配，必须在此同步调高预算并说明理由。
+ */
+class AllocationBudgetTest {
+
+    /** 开启绝对预算检查的系统属性 */
+    private static final String ABSOLUTE_BUDGETS = "sensitive.alloc.budgets";
+
+    /** 各策略对典型输入的分配预算（字节/次） */
+    private static final Map<SensitiveType, Long> MASK_BUDGETS = new EnumMap<>(SensitiveType.class);
+
+    /** 各策略的典型输入 */
+    private static final Map<SensitiveType, String> MASK_INPUTS = new EnumMap<>(SensitiveType.class);
+
+    static {
+        budget(SensitiveType.PHONE, "13812345678", 120);
+        budget(SensitiveType.ID_CARD, "110101199001011234", 152);
+        budget(SensitiveType.BANK_CARD, "6222021234567890123", 160);
+        budget(SensitiveType.EMAIL, "test@example.com", 216);
+        budget(SensitiveType.NAME, "张三丰", 120);
+        budget(SensitiveType.ADDRESS, "北京市朝阳区望京街道10号", 304);
+        // 区划查找不分配，只有结果字符串
+        budget(SensitiveType.ADDRESS_REGION, "北京市朝阳区望京街道10号", 168);
+        budget(SensitiveType.IP_ADDRESS, "192.168.1.100", 496);
+        budget(SensitiveType.TEXT, "VIP 客户，需优先处理", 168);
+        budget(SensitiveType.CUSTOM, "ORD20260101000123", 128);
+        // 典型输入重复出现，命中令牌缓存后不应分配
+        budget(SensitiveType.HMAC, "13812345678", 16);
+        // 未识别到 PII 时返回原字符串
+        budget(SensitiveType.EMBEDDED, "VIP 客户，需优先处理，已电话确认", 8);
+        // 识别本身不分配，预算与 PHONE 相同
+        budget(SensitiveType.AUTO, "13812345678", 120);
+        // 只分配结果字符串，Cipher 与缓冲区来自池
+        budget(SensitiveType.FPE, "6222021234567890123", 104);
+    }
+
+    /** 语料长度，取 2 的幂以便用位运算轮询 */
+    private static final int CORPUS_SIZE = 4096;
+
+    /** 各策略对合成语料（长度混杂、含非法输入）的平均分配预算（字节/次） */
+    private static final Map<SensitiveType, Long> CORPUS_BUDGETS = new EnumMap<>(SensitiveType.class);
+
+    static {
+        CORPUS_BUDGETS.put(SensitiveType.PHONE, 120L);
+        CORPUS_BUDGETS.put(SensitiveType.ID_CARD, 144L);
+        CORPUS_BUDGETS.put(SensitiveType.BANK_CARD, 152L);
+        CORPUS_BUDGETS.put(SensitiveType.EMAIL, 240L);
+        CORPUS_BUDGETS.put(SensitiveType.NAME, 120L);
+        CORPUS_BUDGETS.put(SensitiveType.ADDRESS, 264L);
+        CORPUS_BUDGETS.put(SensitiveType.ADDRESS_REGION, 160L);
+        CORPUS_BUDGETS.put(SensitiveType.IP_ADDRESS, 392L);
+        CORPUS_BUDGETS.put(SensitiveType.TEXT, 240L);
+        CORPUS_BUDGETS.put(SensitiveType.CUSTOM, 120L);
+        CORPUS_BUDGETS.put(SensitiveType.HMAC, 136L);
+        CORPUS_BUDGETS.put(SensitiveType.FPE, 104L);
+        CORPUS_BUDGETS.put(SensitiveType.EMBEDDED, 448L);
+        CORPUS_BUDGETS.put(SensitiveType.AUTO, 240L);
+    }
+
+    /** 国际号码脱敏预算：国家码查找不分配，只有结果字符串（字节/次） */
+    private static final long INTERNATIONAL_PHONE_BUDGET = 128;
+
+    /** 定长姓名预算：命中首字缓存后不分配（字节/次） */
+    private static final long FIXED_NAME_BUDGET = 16;
+
+    /** 定长银行卡预算：掩码段取自常量，只分配结果（字节/次） */
+    private static final long FIXED_BANK_CARD_BUDGET = 128;
+
+    /** SensitiveToStringBuilder.build 预算（字节/次） */
+    private static final long BUILD_BUDGET = 2064;
+
+    /** SensitiveToStringBuilder.snapshot 预算：只有快照对象与字段引用数组（字节/次） */
+    private static final long SNAPSHOT_BUDGET = 96;
+
+    /** SensitiveJsonSerializer.serialize 预算：forApi = true（字节/次） */
+    private static final long SERIALIZE_MASKED_BUDGET = 120;
+
+    /** SensitiveJsonSerializer.serialize 预算：forApi = false，原文直出不应分配（字节/次） */
+    private static final long SERIALIZE_PLAIN_BUDGET = 16;
+
+    /** 相对约束的计量误差：一个对象对齐单位（字节/次） */
+    private static final long TOLERANCE = 8;
+
+    private static void budget(SensitiveType type, String input, long bytesPerOp) {
+        MASK_INPUTS.put(type, input);
+        MASK_BUDGETS.put(type, bytesPerOp);
+    }
+
+    @BeforeAll
+    static void requireAllocationCounter() {
+        assumeTrue(AllocationMeter.isSupported(), "当前 JVM 不支持线程分配计量");
+    }
+
+    @ParameterizedTest
+    @EnumSource(SensitiveType.class)
+    @DisplayName("MaskStrategy.mask 分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void maskStaysWithinBudget(SensitiveType type) {
+        MaskStrategy strategy = strategyFor(type);
+        String input = MASK_INPUTS.get(type);
+
+        assertWithinBudget("mask(" + type + ")", MASK_BUDGETS.get(type),
+                () -> strategy.mask(input, '*'));
+    }
+
+    @ParameterizedTest
+    @EnumSource(SensitiveType.class)
+    @DisplayName("MaskStrategy.mask 在合成语料上的平均分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void maskCorpusStaysWithinBudget(SensitiveType type) {
+        MaskStrategy strategy = strategyFor(type);
+        String[] corpus = PiiCorpus.generate(type, CORPUS_SIZE);
+        int[] cursor = new int[1];
+
+        assertWithinBudget("mask(" + type + ", corpus)", CORPUS_BUDGETS.get(type),
+                () -> strategy.mask(corpus[cursor[0]++ & (CORPUS_SIZE - 1)], '*'));
+    }
+
+    @Test
+    @DisplayName("国际号码脱敏分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void internationalPhoneStaysWithinBudget() {
+        MaskStrategy strategy = strategyFor(SensitiveType.PHONE);
+
+        assertWithinBudget("mask(PHONE, +44)", INTERNATIONAL_PHONE_BUDGET,
+                () -> strategy.mask("+44 7911 123456", '*'));
+    }
+
+    @Test
+    @DisplayName("定长脱敏分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void fixedLengthStaysWithinBudget() {
+        MaskStrategy name = strategyFor(SensitiveType.NAME);
+        MaskStrategy bankCard = strategyFor(SensitiveType.BANK_CARD);
+
+        assertWithinBudget("maskFixed(NAME)", FIXED_NAME_BUDGET, () -> name.maskFixed("张三丰", '*'));
+        assertWithinBudget("maskFixed(BANK_CARD)", FIXED_BANK_CARD_BUDGET,
+                () -> bankCard.maskFixed("6222021234567890123", '*'));
+    }
+
+    @Test
+    @DisplayName("SensitiveToStringBuilder.build 分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void buildStaysWithinBudget() {
+        UserDTO user = new UserDTO();
+
+        assertWithinBudget("build", BUILD_BUDGET, () -> SensitiveToStringBuilder.build(user));
+    }
+
+    @Test
+    @DisplayName("SensitiveToStringBuilder.snapshot 分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void snapshotStaysWithinBudget() {
+        UserDTO user = new UserDTO();
+
+        assertWithinBudget("snapshot", SNAPSHOT_BUDGET, () -> SensitiveToStringBuilder.snapshot(user));
+    }
+
+    @Test
+    @DisplayName("SensitiveJsonSerializer.serialize (forApi = true) 分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void serializeMaskedStaysWithinBudget() throws Exception {
+        assertSerializeWithinBudget("maskedPhone", "13812345678", SERIALIZE_MASKED_BUDGET);
+    }
+
+    @Test
+    @DisplayName("SensitiveJsonSerializer.serialize (forApi = false) 分配不超过预算")
+    @EnabledIfSystemProperty(named = ABSOLUTE_BUDGETS, matches = "true")
+    void serializePlainStaysWithinBudget() throws Exception {
+        assertSerializeWithinBudget("plainPhone", "13812345678", SERIALIZE_PLAIN_BUDGET);
+    }
+
+    // ==================== 相对约束 ====================
+
+    @Test
+    @DisplayName("定长脱敏的分配不多于变长脱敏")
+    void fixedLengthAllocatesNoMoreThanVariable() {
+        MaskStrategy name = strategyFor(SensitiveType.NAME);
+        MaskStrategy bankCard = strategyFor(SensitiveType.BANK_CARD);
+
+        assertNoMoreThan("maskFixed(NAME)", () -> name.maskFixed("张三丰", '*'),
+                "mask(NAME)", () -> name.mask("张三丰", '*'));
+        assertNoMoreThan("maskFixed(BANK_CARD)", () -> bankCard.maskFixed("6222021234567890123", '*'),
+                "mask(BANK_CARD)", () -> bankCard.mask("6222021234567890123", '*'));
+    }
+
+    @Test
+    @DisplayName("命中令牌缓存、未识别到 PII 与 AUTO 识别不额外分配")
+    void cachedAndRecognitionPathsAllocateNoMore() {
+        MaskStrategy phone = strategyFor(SensitiveType.PHONE);
+        MaskStrategy hmac = strategyFor(SensitiveType.HMAC);
+        MaskStrategy auto = strategyFor(SensitiveType.AUTO);
+        MaskStrategy embedded = strategyFor(SensitiveType.EMBEDDED);
+        MaskStrategy text = strategyFor(SensitiveType.TEXT);
+        String plain = MASK_INPUTS.get(SensitiveType.EMBEDDED);
+
+        assertNoMoreThan("mask(HMAC)", () -> hmac.mask("13812345678", '*'),
+                "mask(PHONE)", () -> phone.mask("13812345678", '*'));
+        assertNoMoreThan("mask(AUTO)", () -> auto.mask("13812345678", '*'),
+                "mask(PHONE)", () -> phone.mask("13812345678", '*'));
+        assertNoMoreThan("mask(EMBEDDED, no PII)", () -> embedded.mask(plain, '*'),
+                "mask(TEXT)", () -> text.mask(plain, '*'));
+    }
+
+    @Test
+    @DisplayName("快照的分配不多于完整渲染")
+    void snapshotAllocatesNoMoreThanBuild() {
+        UserDTO user = new UserDTO();
+
+        assertNoMoreThan("snapshot", () -> SensitiveToStringBuilder.snapshot(user),
+                "build", () -> SensitiveToStringBuilder.build(user));
+    }
+
+    @Test
+    @DisplayName("原文直出的序列化分配不多于脱敏序列化")
+    void plainSerializeAllocatesNoMoreThanMasked() throws Exception {
+        assertNoMoreThan("serialize(plainPhone)", serializeOperation("plainPhone", "13812345678"),
+                "serialize(maskedPhone)", serializeOperation("maskedPhone", "13812345678"));
+    }
+
+    // ==================== 辅助方法 ====================
+
+    /**
+     * CUSTOM 保留前2后3；HMAC、FPE 直接构造（无需依赖全局注册状态）
+     */
+    private static MaskStrategy strategyFor(SensitiveType type) {
+        if (type == SensitiveType.CUSTOM) {
+            return new CustomMaskStrategy(2, 3);
+        }
+        if (type == SensitiveType.HMAC) {
+            return new HmacMaskStrategy("0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        }
+        if (type == SensitiveType.FPE) {
+            return new FpeMaskStrategy("0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+        }
+        return MaskStrategyFactory.getStrategy(type);
+    }
+
+    private void assertSerializeWithinBudget(String property, String value, long budget) throws Exception {
+        assertWithinBudget("serialize(" + property + ")", budget, serializeOperation(property, value));
+    }
+
+    /**
+     * 取出 Jackson 为指定属性解析好的上下文序列化器，返回对它的一次 serialize 调用
+     */
+    @SuppressWarnings("unchecked")
+    private static Supplier<?> serializeOperation(String property, String value) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper();
+        SerializerProvider provider = objectMapper.getSerializerProviderInstance();
+        BeanSerializer beanSerializer = (BeanSerializer) provider.findValueSerializer(ApiDTO.class);
+
+        JsonSerializer<Object> serializer = null;
+        var properties = beanSerializer.properties();
+        while (properties.hasNext()) {
+            BeanPropertyWriter writer = (BeanPropertyWriter) properties.next();
+            if (writer.getName().equals(property)) {
+                serializer = writer.getSerializer();
+            }
+        }
+        assertNotNull(serializer, "未找到属性序列化器: " + property);
+
+        JsonSerializer<Object> target = serializer;
+        JsonGenerator gen = objectMapper.getFactory().createGenerator(Writer.nullWriter());
+        return () -> {
+            try {
+                target.serialize(value, gen, provider);
+                return gen;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+    }
+
+    private static void assertWithinBudget(String path, long budget, Supplier<?> operation) {
+        long bytesPerOp = AllocationMeter.bytesPerOp(operation);
+        System.out.printf("allocation %-24s %6d B/op (budget %d)%n", path, bytesPerOp, budget);
+        assertTrue(bytesPerOp <= budget,
+                () -> path + " 分配 " + bytesPerOp + " B/op，超出预算 " + budget + " B/op");
+    }
+
+    /**
+     * 同一 JVM 上比较两条路径，{@code path} 的分配不多于 {@code baselinePath}（允许 {@link #TOLERANCE} 误差）
+     */
+    private static void assertNoMoreThan(String path, Supplier<?> operation,
+                                         String baselinePath, Supplier<?> baseline) {
+        long bytesPerOp = AllocationMeter.bytesPerOp(operation);
+        long baselineBytes = AllocationMeter.bytesPerOp(baseline);
+        System.out.printf("allocation %-24s %6d B/op (<= %s %d)%n", path, bytesPerOp, baselinePath, baselineBytes);
+        assertTrue(bytesPerOp <= baselineBytes + TOLERANCE,
+                () -> path + " 分配 " + bytesPerOp + " B/op，多于 " + baselinePath + " 的 " + baselineBytes + " B/op");
+    }
+
+    // ==================== 测试 DTO ====================
+
+    /**
+     * 日志渲染用 DTO
+     */
+    static class UserDTO {
+
+        private Long id = 1L;
+        private String username = "testuser";
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone = "13812345678";
+
+        @Sensitive(type = SensitiveType.ID_CARD)
+        private String idCard = "110101199001011234";
+
+        @Sensitive(type = SensitiveType.EMAIL)
+        private String email = "test@example.com";
+
+        @Sensitive(type = SensitiveType.NAME)
+        private String realName = "张三丰";
+    }
+
+    /**
+     * API 序列化用 DTO
+     */
+    static class ApiDTO {
+
+        @Sensitive(type = SensitiveType.PHONE, forApi = true)
+        private String maskedPhone;
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String plainPhone;
+
+        public String getMaskedPhone() { return maskedPhone; }
+        public String getPlainPhone() { return plainPhone; }
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.sensitive.alloc;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Supplier;
+
+/**
+ * 基于 {@code ThreadMXBean.getThreadAllocatedBytes} 的单线程分配计量器
+ * <p>
+ * 先预热让 JIT 完成编译（逃逸分析生效后才是生产环境的真实分配量），
+ * 再测量若干次操作的总分配字节数并求平均。每次操作的返回值写入 {@link #sink}，
+ * 防止结果被 JIT 消除。
+ */
+final class AllocationMeter {
+
+    private static final int WARMUP_OPS = 50_000;
+    private static final int MEASURED_OPS = 20_000;
+
+    private static final com.sun.management.ThreadMXBean THREAD_MX_BEAN =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    /** 防止 JIT 消除被测操作 */
+    static volatile Object sink;
+
+    private AllocationMeter() {
+    }
+
+    /**
+     * 当前 JVM 是否支持线程分配计量
+     */
+    static boolean isSupported() {
+        return THREAD_MX_BEAN.isThreadAllocatedMemorySupported()
+                && THREAD_MX_BEAN.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * 测量单次操作平均分配的字节数
+     *
+     * @param operation 被测操作
+     * @return 每次操作分配的字节数
+     */
+    static long bytesPerOp(Supplier<?> operation) {
+        for (int i = 0; i < WARMUP_OPS; i++) {
+            sink = operation.get();
+        }
+
+        long threadId = Thread.currentThread().getId();
+        long before = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < MEASURED_OPS; i++) {
+            sink = operation.get();
+        }
+        long after = THREAD_MX_BEAN.getThreadAllocatedBytes(threadId);
+        return (after - before) / MEASURED_OPS;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.sensitive.aot;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.index.SensitiveClassIndex;
+import com.example.sensitive.jackson.SensitiveJsonSerializer;
+import com.example.sensitive.strategy.impl.AddressRegionMaskStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.GenerationContext;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * native image 运行时提示测试
+ */
+class SensitiveBeanFactoryInitializationAotProcessorTest {
+
+    @Test
+    @DisplayName("为脱敏类及其父类登记字段反射与 Jackson 绑定提示")
+    void testHintsForSensitiveClasses() {
+        RuntimeHints hints = process("com.example.sensitive.aot");
+
+        assertTrue(RuntimeHintsPredicates.reflection().onType(UserDTO.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onType(BaseDTO.class)
+                .withMemberCategory(MemberCategory.DECLARED_FIELDS).test(hints));
+        assertTrue(RuntimeHintsPredicates.reflection().onMethod(UserDTO.class, "getPhone").test(hints));
+        assertFalse(RuntimeHintsPredicates.reflection().onType(PlainDTO.class).test(hints));
+    }
+
+    @Test
+    @DisplayName("没有脱敏类时不产生贡献")
+    void testNoContributionWithoutSensitiveClasses() {
+        DefaultListableBeanFactory beanFactory = beanFactory("com.example.sensitive.nonexistent");
+
+        assertNull(new SensitiveBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory));
+    }
+
+    @Test
+    @DisplayName("组件自身的序列化器与索引资源")
+    void testStaticHints() {
+        RuntimeHints hints = new RuntimeHints();
+        new SensitiveRuntimeHints().registerHints(hints, getClass().getClassLoader());
+
+        assertTrue(RuntimeHintsPredicates.reflection().onConstructor(
+                SensitiveJsonSerializer.class.getDeclaredConstructors()[0]).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(SensitiveClassIndex.INDEX_LOCATION).test(hints));
+        assertTrue(RuntimeHintsPredicates.resource().forResource(AddressRegionMaskStrategy.REGIONS_LOCATION).test(hints));
+    }
+
+    // ==================== 辅助方法 ====================
+
+    private RuntimeHints process(String basePackage) {
+        BeanFactoryInitializationAotContribution contribution =
+                new SensitiveBeanFactoryInitializationAotProcessor().processAheadOfTime(beanFactory(basePackage));
+        assertNotNull(contribution);
+
+        RuntimeHints hints = new RuntimeHints();
+        GenerationContext generationContext = mock(GenerationContext.class);
+        when(generationContext.getRuntimeHints()).thenReturn(hints);
+        contribution.applyTo(generationContext, mock(BeanFactoryInitializationCode.class));
+        return hints;
+    }
+
+    private DefaultListableBeanFactory beanFactory(String basePackage) {
+        StandardEnvironment environment = new StandardEnvironment();
+        environment.getPropertySources().addFirst(new MapPropertySource("test",
+                Map.of("sensitive.warm-up.base-packages", basePackage)));
+        DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("environment", environment);
+        return beanFactory;
+    }
+
+    // ==================== 测试 DTO ====================
+
+    static class BaseDTO {
+
+        private Long id;
+
+        public Long getId() { return id; }
+    }
+
+    static class UserDTO extends BaseDTO {
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone;
+
+        public String getPhone() { return phone; }
+    }
+
+    static class PlainDTO {
+
+        private String name;
+    }
+}
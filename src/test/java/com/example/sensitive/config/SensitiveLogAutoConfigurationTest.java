@@ -0,0 +1,375 @@
+package com.example.sensitive.config;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.reactive.SensitiveJsonEncoder;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import com.example.sensitive.strategy.impl.FpeMaskStrategy;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import com.example.sensitive.support.SensitiveEntity;
+import com.example.sensitive.util.RenderBudget;
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitiveRules;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import com.example.sensitive.util.VendorCustomer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.autoconfigure.jackson.Jackson2ObjectMapperBuilderCustomizer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.boot.web.codec.CodecCustomizer;
+import org.springframework.http.codec.EncoderHttpMessageWriter;
+import org.springframework.http.codec.ServerCodecConfigurer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveLogAutoConfiguration} 测试
+ */
+class SensitiveLogAutoConfigurationTest {
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withConfiguration(AutoConfigurations.of(SensitiveLogAutoConfiguration.class));
+
+    @BeforeEach
+    void setUp() {
+        SensitiveToStringBuilder.clearCache();
+    }
+
+    @Test
+    @DisplayName("无索引时扫描指定包并在启动阶段完成预热")
+    void testWarmUpByPackageScan() {
+        contextRunner
+                .withPropertyValues("sensitive.warm-up.base-packages=com.example.sensitive.config")
+                .run(context -> {
+                    SensitiveMetadataWarmer warmer = context.getBean(SensitiveMetadataWarmer.class);
+
+                    assertEquals(2, warmer.getWarmedClassCount());
+                    assertEquals(2, SensitiveToStringBuilder.getCacheSize());
+                    assertTrue(SensitiveToStringBuilder.getCacheRetainedBytes() > 0);
+                });
+    }
+
+    @Test
+    @DisplayName("warm-up.enabled = false 时不注册预热器")
+    void testWarmUpDisabled() {
+        contextRunner
+                .withPropertyValues("sensitive.warm-up.enabled=false")
+                .run(context -> {
+                    assertTrue(context.getBeansOfType(SensitiveMetadataWarmer.class).isEmpty());
+                    assertEquals(0, SensitiveToStringBuilder.getCacheSize());
+                });
+    }
+
+    @Test
+    @DisplayName("WebFlux 默认 JSON 编码器替换为 SensitiveJsonEncoder")
+    void testWebFluxEncoderCustomizer() {
+        contextRunner.run(context -> {
+            ServerCodecConfigurer configurer = ServerCodecConfigurer.create();
+            context.getBeansOfType(CodecCustomizer.class).values().forEach(c -> c.customize(configurer));
+
+            assertTrue(configurer.getWriters().stream()
+                    .filter(EncoderHttpMessageWriter.class::isInstance)
+                    .map(writer -> ((EncoderHttpMessageWriter<?>) writer).getEncoder())
+                    .anyMatch(SensitiveJsonEncoder.class::isInstance));
+        });
+        contextRunner
+                .withPropertyValues("sensitive.webflux.enabled=false")
+                .run(context -> assertTrue(context.getBeansOfType(CodecCustomizer.class).isEmpty()));
+    }
+
+    @Test
+    @DisplayName("fixed-length 全局开启定长脱敏")
+    void testFixedLengthProperty() {
+        try {
+            contextRunner
+                    .withPropertyValues("sensitive.fixed-length=true")
+                    .run(context -> {
+                        assertTrue(MaskStrategyFactory.isFixedLength());
+                        assertEquals("6222********7890",
+                                MaskStrategyFactory.mask("6222021234567890", SensitiveType.BANK_CARD));
+                    });
+            contextRunner.run(context -> assertFalse(MaskStrategyFactory.isFixedLength()));
+        } finally {
+            MaskStrategyFactory.setFixedLength(false);
+        }
+    }
+
+    @Test
+    @DisplayName("rules 为第三方类配置脱敏字段，并在启动时预热")
+    void testRulesProperty() {
+        try {
+            contextRunner
+                    .withPropertyValues("sensitive.rules.com.example.sensitive.util.VendorCustomer.mobile=PHONE",
+                            "sensitive.rules[com.example.sensitive.util.VendorCustomer.cardNo]=CUSTOM(6,4)")
+                    .run(context -> {
+                        assertEquals(1, context.getBean(SensitiveMetadataWarmer.class).getWarmedClassCount());
+                        String result = SensitiveToStringBuilder.build(new VendorCustomer());
+                        assertTrue(result.contains("mobile=\"138****5678\""), result);
+                        assertTrue(result.contains("cardNo=\"622202******7890\""), result);
+                    });
+            contextRunner.run(context -> assertTrue(SensitiveRules.getClassNames().isEmpty()));
+        } finally {
+            SensitiveRules.setRules(null);
+        }
+    }
+
+    @Test
+    @DisplayName("策略文件启动时加载，修改后自动重新加载，规则无效时保留当前策略")
+    void testPolicyFileHotReload(@TempDir Path dir) throws Exception {
+        Path file = dir.resolve("sensitive-policy.properties");
+        Files.writeString(file, "com.example.sensitive.util.VendorCustomer.mobile=PHONE\n");
+        try {
+            contextRunner
+                    .withPropertyValues("sensitive.policy.location=" + file,
+                            "sensitive.rules[com.example.sensitive.util.VendorCustomer.mobile]=TEXT",
+                            "sensitive.rules[com.example.sensitive.util.VendorCustomer.remark]=NAME")
+                    .run(context -> {
+                        SensitivePolicyEndpoint endpoint = context.getBean(SensitivePolicyEndpoint.class);
+                        assertEquals(Map.of("com.example.sensitive.util.VendorCustomer.mobile", "PHONE",
+                                "com.example.sensitive.util.VendorCustomer.remark", "NAME"), endpoint.policy().get("rules"));
+                        assertTrue(SensitiveToStringBuilder.build(new VendorCustomer()).contains("mobile=\"138****5678\""));
+
+                        replace(file, "com.example.sensitive.util.VendorCustomer.mobile=NONE\n");
+                        await(() -> SensitiveToStringBuilder.build(new VendorCustomer()).contains("mobile=\"13812345678\""));
+
+                        replace(file, "com.example.sensitive.util.VendorCustomer.mobile=MOBILE\n");
+                        assertThrows(IllegalArgumentException.class, endpoint::reload);
+                        assertEquals("NONE", SensitiveRules.current().getDefinitions()
+                                .get("com.example.sensitive.util.VendorCustomer.mobile"));
+                    });
+        } finally {
+            SensitiveRules.setRules(null);
+        }
+    }
+
+    /**
+     * 先写临时文件再原子替换，监听线程不会读到写了一半的内容
+     */
+    private static void replace(Path file, String content) throws IOException {
+        Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+        Files.writeString(tmp, content);
+        Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (!condition.getAsBoolean() && System.nanoTime() < deadline) {
+            Thread.sleep(20);
+        }
+        assertTrue(condition.getAsBoolean(), "策略文件修改后应重新加载");
+    }
+
+    @Test
+    @DisplayName("render 配置渲染预算，未配置时不限")
+    void testRenderBudgetProperty() {
+        try {
+            contextRunner
+                    .withPropertyValues("sensitive.render.max-length=256", "sensitive.render.degrade-threshold=200us",
+                            "sensitive.render.sample-rate=50")
+                    .run(context -> {
+                        RenderBudget budget = SensitiveToStringBuilder.getRenderBudget();
+                        assertEquals(256, budget.getMaxLength());
+                        assertEquals(50, budget.getSampleRate());
+                    });
+            contextRunner.run(context -> assertSame(RenderBudget.UNLIMITED, SensitiveToStringBuilder.getRenderBudget()));
+        } finally {
+            SensitiveToStringBuilder.setRenderBudget(null);
+        }
+    }
+
+    @Test
+    @DisplayName("容器中的 MaskStrategy Bean 按 ID 注册到策略工厂")
+    void testStrategyBeanRegistered() {
+        contextRunner
+                .withBean("plateMaskStrategy", MaskStrategy.class, () -> new MaskStrategy() {
+                    @Override
+                    public String getId() {
+                        return "plate";
+                    }
+
+                    @Override
+                    public String mask(String value, char maskChar) {
+                        return value.substring(0, 2) + "***";
+                    }
+                })
+                .run(context -> assertEquals("粤B***",
+                        MaskStrategyFactory.getStrategy("plate").mask("粤B12345", '*')));
+        assertNull(MaskStrategyFactory.getStrategy("plate"));
+    }
+
+    @Test
+    @DisplayName("应用自行提供引擎时同样按配置设置并注册策略 Bean")
+    void testUserProvidedEngine() {
+        SensitiveEngine userEngine = new SensitiveEngine(new MaskStrategyRegistry(), 64);
+        contextRunner
+                .withBean(SensitiveEngine.class, () -> userEngine)
+                .withPropertyValues("sensitive.hmac.key=base64:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+                        "sensitive.fixed-length=true",
+                        "sensitive.rules.com.example.sensitive.util.VendorCustomer.mobile=PHONE")
+                .run(context -> {
+                    assertSame(userEngine, context.getBean(SensitiveEngine.class));
+                    assertFalse(context.getBean(SensitiveEngineBinding.class).isShared());
+                    assertSame(context.getBean(HmacMaskStrategy.class),
+                            userEngine.getStrategies().getStrategy(SensitiveType.HMAC));
+                    assertTrue(userEngine.getStrategies().isFixedLength());
+                    assertEquals(64, userEngine.getMaxCacheSize());
+                    assertTrue(userEngine.build(new VendorCustomer()).contains("mobile=\"138****5678\""));
+                    assertSame(userEngine, context.getBean(SensitivePolicyReloader.class).getEngine());
+
+                    assertFalse(MaskStrategyFactory.getStrategy(SensitiveType.HMAC) instanceof HmacMaskStrategy);
+                    assertFalse(MaskStrategyFactory.isFixedLength());
+                    assertTrue(SensitiveRules.getClassNames().isEmpty());
+                });
+    }
+
+    @Test
+    @DisplayName("共享默认引擎时，上下文关闭后恢复原有策略、规则与设置")
+    void testSharedEngineRestoredOnClose() {
+        MaskStrategy phone = MaskStrategyFactory.getStrategy(SensitiveType.PHONE);
+        contextRunner
+                .withPropertyValues("sensitive.hmac.key=base64:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=",
+                        "sensitive.fixed-length=true", "sensitive.engine.cache-size=16",
+                        "sensitive.render.max-length=64",
+                        "sensitive.rules.com.example.sensitive.util.VendorCustomer.mobile=PHONE")
+                .withBean("phoneMaskStrategy", MaskStrategy.class, () -> new MaskStrategy() {
+                    @Override
+                    public SensitiveType getType() {
+                        return SensitiveType.PHONE;
+                    }
+
+                    @Override
+                    public String mask(String value, char maskChar) {
+                        return "[phone]";
+                    }
+                })
+                .run(context -> {
+                    assertTrue(context.getBean(SensitiveEngineBinding.class).isShared());
+                    assertSame(context.getBean(HmacMaskStrategy.class),
+                            MaskStrategyFactory.getStrategy(SensitiveType.HMAC));
+                    assertEquals("[phone]", MaskStrategyFactory.mask("13812345678", SensitiveType.PHONE));
+                    assertFalse(SensitiveRules.getClassNames().isEmpty());
+                });
+
+        SensitiveEngine engine = SensitiveEngine.getDefault();
+        assertFalse(MaskStrategyFactory.getStrategy(SensitiveType.HMAC) instanceof HmacMaskStrategy);
+        assertSame(phone, MaskStrategyFactory.getStrategy(SensitiveType.PHONE));
+        assertFalse(MaskStrategyFactory.isFixedLength());
+        assertTrue(SensitiveRules.getClassNames().isEmpty());
+        assertSame(RenderBudget.UNLIMITED, engine.getRenderBudget());
+        assertEquals(SensitiveEngine.DEFAULT_MAX_CACHE_SIZE, engine.getMaxCacheSize());
+        assertTrue(SensitiveToStringBuilder.build(new VendorCustomer()).contains("mobile=\"13812345678\""));
+    }
+
+    @Test
+    @DisplayName("engine.isolated = true 时上下文使用独立引擎，静态 API 不受影响")
+    void testIsolatedEngine() {
+        contextRunner
+                .withPropertyValues("sensitive.engine.isolated=true", "sensitive.engine.cache-size=16",
+                        "sensitive.fixed-length=true",
+                        "sensitive.rules.com.example.sensitive.util.VendorCustomer.mobile=PHONE")
+                .withBean("plateMaskStrategy", MaskStrategy.class, () -> new MaskStrategy() {
+                    @Override
+                    public String getId() {
+                        return "isolated-plate";
+                    }
+
+                    @Override
+                    public String mask(String value, char maskChar) {
+                        return value.substring(0, 2) + "***";
+                    }
+                })
+                .run(context -> {
+                    SensitiveEngine engine = context.getBean(SensitiveEngine.class);
+                    assertNotSame(SensitiveEngine.getDefault(), engine);
+                    assertEquals(16, engine.getMaxCacheSize());
+                    assertTrue(engine.getStrategies().isFixedLength());
+                    assertNotNull(engine.getStrategies().getStrategy("isolated-plate"));
+                    assertEquals(1, engine.getCacheSize());
+                    assertTrue(engine.build(new VendorCustomer()).contains("mobile=\"138****5678\""));
+
+                    assertFalse(MaskStrategyFactory.isFixedLength());
+                    assertNull(MaskStrategyFactory.getStrategy("isolated-plate"));
+                    assertTrue(SensitiveRules.getClassNames().isEmpty());
+                    assertEquals(0, SensitiveToStringBuilder.getCacheSize());
+
+                    Jackson2ObjectMapperBuilder builder = Jackson2ObjectMapperBuilder.json();
+                    context.getBeansOfType(Jackson2ObjectMapperBuilderCustomizer.class).values()
+                            .forEach(c -> c.customize(builder));
+                    ObjectMapper mapper = builder.build();
+                    assertSame(engine, mapper.getSerializationConfig().getAttributes().getAttribute(SensitiveEngine.class));
+                });
+        contextRunner.run(context -> assertSame(SensitiveEngine.getDefault(), context.getBean(SensitiveEngine.class)));
+    }
+
+    @Test
+    @DisplayName("配置 HMAC 密钥后注册假名化策略")
+    void testHmacStrategyRegistered() {
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(HmacMaskStrategy.class).isEmpty()));
+        contextRunner
+                .withPropertyValues("sensitive.hmac.key=base64:MDEyMzQ1Njc4OWFiY2RlZjAxMjM0NTY3ODlhYmNkZWY=")
+                .run(context -> {
+                    HmacMaskStrategy strategy = context.getBean(HmacMaskStrategy.class);
+
+                    assertSame(strategy, MaskStrategyFactory.getStrategy(SensitiveType.HMAC));
+                    assertEquals(strategy.mask("13812345678"),
+                            new HmacMaskStrategy("0123456789abcdef0123456789abcdef".getBytes()).mask("13812345678"));
+                });
+    }
+
+    @Test
+    @DisplayName("配置 FPE 密钥后注册令牌化策略并暴露还原接口")
+    void testFpeStrategyRegistered() {
+        contextRunner.run(context -> assertTrue(context.getBeansOfType(FpeMaskStrategy.class).isEmpty()));
+        contextRunner
+                .withPropertyValues("sensitive.fpe.key=base64:MDEyMzQ1Njc4OWFiY2RlZg==", "sensitive.fpe.tweak=order")
+                .run(context -> {
+                    FpeMaskStrategy strategy = context.getBean(FpeMaskStrategy.class);
+                    String token = strategy.mask("6222021234567890123");
+
+                    assertSame(strategy, MaskStrategyFactory.getStrategy(SensitiveType.FPE));
+                    assertEquals(token, new FpeMaskStrategy("0123456789abcdef".getBytes(),
+                            "order".getBytes()).mask("6222021234567890123"));
+                    assertEquals("6222021234567890123", strategy.detokenize(token));
+                });
+    }
+
+    @Test
+    @DisplayName("warmUp 与首次 build 使用同一份缓存")
+    void testWarmUpPopulatesCache() {
+        assertEquals(1, SensitiveToStringBuilder.warmUp(PhoneHolder.class));
+        assertEquals(1, SensitiveToStringBuilder.getCacheSize());
+
+        PhoneHolder holder = new PhoneHolder();
+        holder.phone = "13812345678";
+        assertEquals("PhoneHolder(phone=\"138****5678\")", SensitiveToStringBuilder.build(holder));
+        assertEquals(1, SensitiveToStringBuilder.getCacheSize());
+    }
+
+    // ==================== 测试 DTO ====================
+
+    static class PhoneHolder {
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone;
+    }
+
+    static class OrderEntity extends SensitiveEntity {
+
+        private String orderNo;
+    }
+}
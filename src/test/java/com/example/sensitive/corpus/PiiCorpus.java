@@ -0,0 +1,494 @@
+package com.example.sensitive.corpus;
+
+import com.example.sensitive.enums.SensitiveType;
+
+import java.util.SplittableRandom;
+
+/**
+ * 合成 PII 语料生成器
+ * <p>
+ * 按固定种子确定性地生成各 {@link SensitiveType} 的 "脏" 数据分布：长度混杂、
+ * 国际号码、15/18 位身份证、生僻字与 emoji 姓名、IPv6、非法输入等，
+ * 供基准测试与分配预算测试在大数组上轮询，避免单一固定值让分支预测过于理想。
+ * <p>
+ * 相同 {@code (type, count, seed)} 在任何 JVM 上都生成完全相同的数组。
+ *
+ * <p>使用示例:
+ * <pre>
+ * String[] phones = PiiCorpus.generate(SensitiveType.PHONE, 65_536, 42L);
+ * </pre>
+ */
+public final class PiiCorpus {
+
+    /** 默认种子 */
+    public static final long DEFAULT_SEED = 20260101L;
+
+    private static final String[] MOBILE_PREFIXES = {
+            "130", "131", "132", "135", "136", "138", "139", "147", "150", "151",
+            "152", "157", "158", "159", "166", "170", "176", "177", "178", "180",
+            "181", "182", "185", "186", "187", "188", "189", "191", "198", "199"
+    };
+
+    private static final String[] INTERNATIONAL_PHONES = {
+            "+1 415 555 2671", "+14155552671", "+44 20 7946 0958", "+442079460958",
+            "+852 6123 4567", "+85261234567", "+81 90-1234-5678", "+61 412 345 678",
+            "+65 8123 4567", "+886 912 345 678", "+49 1512 3456789", "+33 6 12 34 56 78"
+    };
+
+    private static final String[] REGION_CODES = {
+            "110101", "110105", "120101", "310101", "310115", "320102", "330106",
+            "340102", "350102", "370102", "420102", "440103", "440305", "500101",
+            "510104", "610102", "650102", "540102", "230102", "210102"
+    };
+
+    private static final String[] BANK_BINS = {
+            "622202", "621226", "622848", "622700", "621700", "622588", "621483",
+            "622609", "622155", "628888", "456351", "601382", "436742", "625965"
+    };
+
+    private static final String[] EMAIL_DOMAINS = {
+            "gmail.com", "qq.com", "163.com", "126.com", "outlook.com", "example.com",
+            "mail.subdomain.example.co.uk", "corp.example.cn", "yahoo.co.jp", "例子.中国"
+    };
+
+    private static final String[] SURNAMES = {
+            "王", "李", "张", "刘", "陈", "杨", "黄", "赵", "吴", "周", "徐", "孙", "马", "朱", "胡", "郭"
+    };
+
+    private static final String[] COMPOUND_SURNAMES = {"欧阳", "司马", "上官", "诸葛", "慕容", "东方"};
+
+    private static final String GIVEN_CHARS = "伟芳娜秀英敏静丽强磊军洋勇艳杰娟涛明超秀兰霞平刚桂英华建国志文";
+
+    /** 增补平面 (Extension B) 生僻字，UTF-16 中为代理对 */
+    private static final String[] RARE_CHARS = {"𠀋", "𡈼", "𤭢", "𩽾", "𪚥", "𠮷"};
+
+    private static final String[] EMOJI = {"😀", "🌸", "🐼", "⭐", "👨‍👩‍👧"};
+
+    private static final String[] LATIN_NAMES = {
+            "John Smith", "Alice", "Müller", "José García", "Zoë O'Neil",
+            "Alexander Maximilian Montgomery-Fitzgerald", "Li"
+    };
+
+    private static final String[] MINORITY_NAMES = {"买买提·艾力", "阿依古丽·吐尔逊", "扎西·多吉"};
+
+    private static final String[] PROVINCES = {
+            "北京市", "上海市", "天津市", "重庆市", "广东省", "浙江省", "江苏省", "四川省",
+            "湖北省", "新疆维吾尔自治区", "内蒙古自治区", "黑龙江省"
+    };
+
+    private static final String[] CITIES = {"朝阳区", "浦东新区", "杭州市", "深圳市", "成都市", "武汉市", "乌鲁木齐市", "哈尔滨市"};
+
+    private static final String[] DISTRICTS = {"西湖区", "南山区", "武侯区", "江汉区", "天河区", "海淀区", "望京街道", "陆家嘴街道"};
+
+    private static final String[] STREETS = {"人民路", "解放大道", "建国门外大街", "科技园南区高新南七道", "中山北路", "长安街"};
+
+    private static final String TEXT_CHARS = "客户需要优先处理备注信息已联系确认订单发货退款请核实地址电话";
+
+    private static final SensitiveType[] AUTO_MIX = {
+            SensitiveType.PHONE, SensitiveType.ID_CARD, SensitiveType.BANK_CARD, SensitiveType.EMAIL,
+            SensitiveType.NAME, SensitiveType.ADDRESS, SensitiveType.IP_ADDRESS, SensitiveType.TEXT,
+            SensitiveType.EMBEDDED
+    };
+
+    private static final String ASCII_CHARS = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 ,.-_";
+
+    private PiiCorpus() {
+    }
+
+    /**
+     * 使用默认种子生成语料
+     *
+     * @param type  脱敏类型
+     * @param count 数量
+     * @return 语料数组
+     */
+    public static String[] generate(SensitiveType type, int count) {
+        return generate(type, count, DEFAULT_SEED);
+    }
+
+    /**
+     * 生成指定类型的语料
+     *
+     * @param type  脱敏类型
+     * @param count 数量
+     * @param seed  随机种子，相同种子生成相同数组
+     * @return 语料数组
+     */
+    public static String[] generate(SensitiveType type, int count, long seed) {
+        // 每种类型独立的随机流，增加类型不会改变其他类型的语料
+        SplittableRandom random = new SplittableRandom(seed * 31 + type.ordinal());
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            values[i] = next(type, random);
+        }
+        return values;
+    }
+
+    /**
+     * 生成单个值
+     *
+     * @param type   脱敏类型
+     * @param random 随机源
+     * @return 语料值
+     */
+    public static String next(SensitiveType type, SplittableRandom random) {
+        switch (type) {
+            case PHONE:
+                return phone(random);
+            case ID_CARD:
+                return idCard(random);
+            case BANK_CARD:
+                return bankCard(random);
+            case EMAIL:
+                return email(random);
+            case NAME:
+                return name(random);
+            case ADDRESS:
+            case ADDRESS_REGION:
+                return address(random);
+            case IP_ADDRESS:
+                return ip(random);
+            case CUSTOM:
+                return orderNo(random);
+            case HMAC:
+                // 假名化通常作用于需要关联的标识：手机号、身份证
+                return random.nextBoolean() ? phone(random) : idCard(random);
+            case FPE:
+                // 令牌化用于需要还原的卡号、证件号
+                return random.nextBoolean() ? bankCard(random) : idCard(random);
+            case EMBEDDED:
+                return remark(random);
+            case AUTO:
+                // 扩展字段、属性包：各类值混杂
+                return next(AUTO_MIX[random.nextInt(AUTO_MIX.length)], random);
+            case TEXT:
+            default:
+                return text(random);
+        }
+    }
+
+    // ==================== 各类型分布 ====================
+
+    private static String phone(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 75) {
+            return mobile(random);
+        }
+        if (roll < 83) {
+            return (random.nextBoolean() ? "+86" : "+86 ") + mobile(random);
+        }
+        if (roll < 88) {
+            String mobile = mobile(random);
+            char sep = random.nextBoolean() ? '-' : ' ';
+            return mobile.substring(0, 3) + sep + mobile.substring(3, 7) + sep + mobile.substring(7);
+        }
+        if (roll < 93) {
+            return pick(random, INTERNATIONAL_PHONES);
+        }
+        if (roll < 96) {
+            return "0" + (10 + random.nextInt(90)) + "-" + digits(random, 8);
+        }
+        return malformed(random, digits(random, 1 + random.nextInt(10)));
+    }
+
+    private static String mobile(SplittableRandom random) {
+        return pick(random, MOBILE_PREFIXES) + digits(random, 8);
+    }
+
+    private static String idCard(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        String region = pick(random, REGION_CODES);
+        int year = 1940 + random.nextInt(70);
+        String birth = String.format("%04d%02d%02d", year, 1 + random.nextInt(12), 1 + random.nextInt(28));
+        if (roll < 80) {
+            String body = region + birth + digits(random, 3);
+            return body + idCheckDigit(body);
+        }
+        if (roll < 92) {
+            return region + birth.substring(2) + digits(random, 3);
+        }
+        if (roll < 95) {
+            String body = region + birth + digits(random, 3);
+            return (body + idCheckDigit(body)).toLowerCase();
+        }
+        return malformed(random, region + birth + digits(random, random.nextInt(3)));
+    }
+
+    private static String bankCard(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        int length = 16 + random.nextInt(4);
+        String body = pick(random, BANK_BINS) + digits(random, length - 7);
+        String card = body + luhnCheckDigit(body);
+        if (roll < 85) {
+            return card;
+        }
+        if (roll < 95) {
+            StringBuilder sb = new StringBuilder(card.length() + 5);
+            for (int i = 0; i < card.length(); i++) {
+                if (i > 0 && i % 4 == 0) {
+                    sb.append(' ');
+                }
+                sb.append(card.charAt(i));
+            }
+            return sb.toString();
+        }
+        return malformed(random, card.substring(0, 4 + random.nextInt(4)));
+    }
+
+    private static String email(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        String local = ascii(random, 1 + random.nextInt(random.nextInt(10) < 8 ? 12 : 40), "abcdefghijklmnopqrstuvwxyz0123456789._");
+        String domain = pick(random, EMAIL_DOMAINS);
+        if (roll < 80) {
+            return local + "@" + domain;
+        }
+        if (roll < 86) {
+            return local + "+tag" + random.nextInt(100) + "@" + domain;
+        }
+        if (roll < 90) {
+            return (local + "@" + domain).toUpperCase();
+        }
+        if (roll < 93) {
+            return "用户" + random.nextInt(1000) + "@" + domain;
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                return local + domain;
+            case 1:
+                return "@" + domain;
+            default:
+                return local + "@" + local + "@" + domain;
+        }
+    }
+
+    private static String name(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 55) {
+            return pick(random, SURNAMES) + given(random, 1 + random.nextInt(2));
+        }
+        if (roll < 62) {
+            return pick(random, COMPOUND_SURNAMES) + given(random, 1 + random.nextInt(2));
+        }
+        if (roll < 70) {
+            return pick(random, SURNAMES);
+        }
+        if (roll < 78) {
+            return pick(random, SURNAMES) + pick(random, RARE_CHARS) + (random.nextBoolean() ? given(random, 1) : "");
+        }
+        if (roll < 82) {
+            return pick(random, SURNAMES) + given(random, 1) + pick(random, EMOJI);
+        }
+        if (roll < 92) {
+            return pick(random, LATIN_NAMES);
+        }
+        if (roll < 96) {
+            return pick(random, MINORITY_NAMES);
+        }
+        return malformed(random, " " + pick(random, SURNAMES) + " ");
+    }
+
+    private static String address(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        String province = pick(random, PROVINCES);
+        if (roll < 70) {
+            return province + pick(random, CITIES) + pick(random, DISTRICTS) + pick(random, STREETS)
+                    + (1 + random.nextInt(999)) + "号";
+        }
+        if (roll < 80) {
+            return province + pick(random, CITIES);
+        }
+        if (roll < 88) {
+            return province + pick(random, CITIES) + pick(random, DISTRICTS) + pick(random, STREETS)
+                    + (1 + random.nextInt(999)) + "号" + (1 + random.nextInt(30)) + "栋"
+                    + (101 + random.nextInt(2000)) + "室（请放快递柜 Locker " + random.nextInt(100) + "）";
+        }
+        if (roll < 94) {
+            return "Room " + (100 + random.nextInt(900)) + ", No." + (1 + random.nextInt(200)) + " Nanjing Road, Shanghai";
+        }
+        return malformed(random, province);
+    }
+
+    private static String ip(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 70) {
+            return random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+        }
+        if (roll < 80) {
+            StringBuilder sb = new StringBuilder(39);
+            for (int i = 0; i < 8; i++) {
+                if (i > 0) {
+                    sb.append(':');
+                }
+                sb.append(String.format("%04x", random.nextInt(0x10000)));
+            }
+            return sb.toString();
+        }
+        if (roll < 88) {
+            return "2001:db8::" + Integer.toHexString(random.nextInt(0x10000)) + ":" + Integer.toHexString(random.nextInt(0x10000));
+        }
+        if (roll < 92) {
+            return "::ffff:192.168." + random.nextInt(256) + "." + random.nextInt(256);
+        }
+        switch (random.nextInt(3)) {
+            case 0:
+                return "256." + random.nextInt(256) + ".1";
+            case 1:
+                return random.nextInt(256) + "." + random.nextInt(256) + "." + random.nextInt(256);
+            default:
+                return "localhost";
+        }
+    }
+
+    private static String text(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 40) {
+            return cjk(random, 2 + random.nextInt(20));
+        }
+        if (roll < 60) {
+            return ascii(random, 1 + random.nextInt(40), ASCII_CHARS);
+        }
+        if (roll < 75) {
+            return cjk(random, 4 + random.nextInt(10)) + "，联系电话 " + mobile(random) + "，" + cjk(random, 2 + random.nextInt(6));
+        }
+        if (roll < 85) {
+            return cjk(random, 50 + random.nextInt(150));
+        }
+        if (roll < 90) {
+            return cjk(random, 3) + pick(random, EMOJI) + cjk(random, 3);
+        }
+        return malformed(random, ascii(random, 1, ASCII_CHARS));
+    }
+
+    /**
+     * 备注、留言：多数不含 PII，部分夹带手机号、证件号、卡号、邮箱，另有订单号等易误判的数字编码
+     */
+    private static String remark(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 35) {
+            return cjk(random, 4 + random.nextInt(30));
+        }
+        if (roll < 50) {
+            return cjk(random, 2 + random.nextInt(8)) + "，联系电话" + (random.nextBoolean() ? " " : "")
+                    + mobile(random) + "，" + cjk(random, 2 + random.nextInt(8));
+        }
+        if (roll < 58) {
+            return "客户身份证号 " + idCard(random) + " " + cjk(random, 2 + random.nextInt(6));
+        }
+        if (roll < 66) {
+            return "退款至卡号" + bankCard(random) + "，" + cjk(random, 2 + random.nextInt(6));
+        }
+        if (roll < 74) {
+            return cjk(random, 2 + random.nextInt(6)) + " 邮箱 " + email(random) + " " + cjk(random, 2);
+        }
+        if (roll < 80) {
+            return "电话 +86" + mobile(random) + " 或 " + mobile(random) + "，邮箱 "
+                    + ascii(random, 4 + random.nextInt(8), "abcdefghijklmnopqrstuvwxyz0123456789") + "@" + pick(random, EMAIL_DOMAINS);
+        }
+        if (roll < 85) {
+            return cjk(random, 100 + random.nextInt(200)) + mobile(random) + cjk(random, 100 + random.nextInt(200));
+        }
+        if (roll < 95) {
+            return "订单 " + orderNo(random) + " 已发货，物流单号 " + digits(random, 12 + random.nextInt(4));
+        }
+        return malformed(random, cjk(random, 3));
+    }
+
+    private static String orderNo(SplittableRandom random) {
+        int roll = random.nextInt(100);
+        if (roll < 80) {
+            return "ORD" + (20200101 + random.nextInt(60000)) + digits(random, 6);
+        }
+        if (roll < 95) {
+            return digits(random, 4 + random.nextInt(28));
+        }
+        return malformed(random, digits(random, 3));
+    }
+
+    // ==================== 辅助方法 ====================
+
+    /**
+     * 非法/边界输入：空串、纯空白、原值截断或带干扰字符
+     */
+    private static String malformed(SplittableRandom random, String seed) {
+        switch (random.nextInt(5)) {
+            case 0:
+                return "";
+            case 1:
+                return " ";
+            case 2:
+                return seed;
+            case 3:
+                return seed + "abc";
+            default:
+                return "N/A";
+        }
+    }
+
+    private static String given(SplittableRandom random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(GIVEN_CHARS.charAt(random.nextInt(GIVEN_CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String cjk(SplittableRandom random, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(TEXT_CHARS.charAt(random.nextInt(TEXT_CHARS.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String ascii(SplittableRandom random, int length, String alphabet) {
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return sb.toString();
+    }
+
+    private static String digits(SplittableRandom random, int length) {
+        char[] chars = new char[length];
+        for (int i = 0; i < length; i++) {
+            chars[i] = (char) ('0' + random.nextInt(10));
+        }
+        return new String(chars);
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * GB 11643 身份证校验码（ISO 7064 MOD 11-2）
+     */
+    static char idCheckDigit(String body17) {
+        int[] weights = {7, 9, 10, 5, 8, 4, 2, 1, 6, 3, 7, 9, 10, 5, 8, 4, 2};
+        int sum = 0;
+        for (int i = 0; i < 17; i++) {
+            sum += (body17.charAt(i) - '0') * weights[i];
+        }
+        return "10X98765432".charAt(sum % 11);
+    }
+
+    /**
+     * Luhn 校验位
+     */
+    static char luhnCheckDigit(String body) {
+        int sum = 0;
+        boolean doubleIt = true;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int d = body.charAt(i) - '0';
+            if (doubleIt) {
+                d *= 2;
+                if (d > 9) {
+                    d -= 9;
+                }
+            }
+            sum += d;
+            doubleIt = !doubleIt;
+        }
+        return (char) ('0' + (10 - sum % 10) % 10);
+    }
+}
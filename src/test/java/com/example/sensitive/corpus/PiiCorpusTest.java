@@ -0,0 +1,71 @@
+package com.example.sensitive.corpus;
+
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link PiiCorpus} 测试
+ */
+class PiiCorpusTest {
+
+    @ParameterizedTest
+    @EnumSource(SensitiveType.class)
+    @DisplayName("相同种子生成完全相同的语料")
+    void testDeterministic(SensitiveType type) {
+        assertArrayEquals(PiiCorpus.generate(type, 1000, 7L), PiiCorpus.generate(type, 1000, 7L));
+        assertFalse(Arrays.equals(PiiCorpus.generate(type, 1000, 7L), PiiCorpus.generate(type, 1000, 8L)));
+    }
+
+    @Test
+    @DisplayName("身份证语料包含 18 位（校验码正确）与 15 位号码")
+    void testIdCardDistribution() {
+        String[] ids = PiiCorpus.generate(SensitiveType.ID_CARD, 10_000);
+
+        long valid18 = Arrays.stream(ids)
+                .filter(id -> id.length() == 18)
+                .filter(id -> Character.toUpperCase(id.charAt(17)) == PiiCorpus.idCheckDigit(id))
+                .count();
+        long legacy15 = Arrays.stream(ids).filter(id -> id.length() == 15).count();
+
+        assertTrue(valid18 > 7000, "18 位身份证应占多数");
+        assertTrue(legacy15 > 500, "应包含 15 位身份证");
+    }
+
+    @Test
+    @DisplayName("姓名语料包含代理对字符与多种长度")
+    void testNameEdgeCases() {
+        String[] names = PiiCorpus.generate(SensitiveType.NAME, 10_000);
+
+        assertTrue(Arrays.stream(names).anyMatch(n -> n.codePoints().count() != n.length()), "应包含代理对");
+        assertTrue(Arrays.stream(names).anyMatch(n -> n.length() == 1), "应包含单字姓名");
+        assertTrue(Arrays.stream(names).anyMatch(String::isEmpty), "应包含空串");
+    }
+
+    @Test
+    @DisplayName("IP 语料包含 IPv4 与 IPv6")
+    void testIpDistribution() {
+        String[] ips = PiiCorpus.generate(SensitiveType.IP_ADDRESS, 10_000);
+
+        assertTrue(Arrays.stream(ips).anyMatch(ip -> ip.chars().filter(c -> c == '.').count() == 3 && !ip.contains(":")));
+        assertTrue(Arrays.stream(ips).anyMatch(ip -> ip.contains(":")));
+    }
+
+    @Test
+    @DisplayName("银行卡语料通过 Luhn 校验")
+    void testBankCardLuhn() {
+        String card = Arrays.stream(PiiCorpus.generate(SensitiveType.BANK_CARD, 100))
+                .filter(c -> c.length() >= 16 && c.chars().allMatch(Character::isDigit))
+                .findFirst()
+                .orElseThrow();
+
+        String body = card.substring(0, card.length() - 1);
+        assertEquals(PiiCorpus.luhnCheckDigit(body), card.charAt(card.length() - 1));
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.sensitive.index;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import java.io.File;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveIndexProcessor} 测试
+ * <p>
+ * 使用进程内 javac 编译示例源码，验证生成的索引内容
+ */
+class SensitiveIndexProcessorTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("索引包含 @Sensitive 声明类、嵌套类与 SensitiveEntity 子类")
+    void testIndexContents() throws Exception {
+        Path output = compile(
+                source("demo.UserDTO", """
+                        package demo;
+                        import com.example.sensitive.annotation.Sensitive;
+                        import com.example.sensitive.enums.SensitiveType;
+                        public class UserDTO {
+                            @Sensitive(type = SensitiveType.PHONE)
+                            private String phone;
+                            public static class Address {
+                                @Sensitive(type = SensitiveType.ADDRESS)
+                                private String detail;
+                            }
+                        }
+                        """),
+                source("demo.OrderDTO", """
+                        package demo;
+                        public class OrderDTO extends com.example.sensitive.support.SensitiveEntity {
+                            private String orderNo;
+                        }
+                        """),
+                source("demo.PlainDTO", """
+                        package demo;
+                        public class PlainDTO {
+                            private String name;
+                        }
+                        """));
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{output.toUri().toURL()}, null)) {
+            Set<String> classNames = SensitiveClassIndex.load(classLoader);
+
+            assertEquals(Set.of("demo.UserDTO", "demo.UserDTO$Address", "demo.OrderDTO"), classNames);
+        }
+    }
+
+    @Test
+    @DisplayName("没有敏感类时不生成索引")
+    void testNoIndexWithoutSensitiveClasses() throws Exception {
+        Path output = compile(source("demo.PlainDTO", "package demo; public class PlainDTO { private String name; }"));
+
+        assertFalse(Files.exists(output.resolve(SensitiveClassIndex.INDEX_LOCATION)));
+    }
+
+    // ==================== 辅助方法 ====================
+
+    private Path source(String className, String code) throws Exception {
+        Path file = tempDir.resolve("src").resolve(className.replace('.', '/') + ".java");
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, code);
+        return file;
+    }
+
+    private Path compile(Path... sources) throws Exception {
+        Path output = Files.createDirectories(tempDir.resolve("classes"));
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+
+        List<String> args = new ArrayList<>(List.of(
+                "-proc:only",
+                "-processor", SensitiveIndexProcessor.class.getName(),
+                "-processorpath", location(SensitiveIndexProcessor.class),
+                "-classpath", String.join(File.pathSeparator, location(Sensitive.class),
+                        location(ObjectMapper.class), location(JsonInclude.class)),
+                "-d", output.toString()));
+        for (Path source : sources) {
+            args.add(source.toString());
+        }
+
+        int exitCode = compiler.run(null, null, null, args.toArray(String[]::new));
+        assertEquals(0, exitCode, "javac 编译失败");
+        return output;
+    }
+
+    private static String location(Class<?> clazz) throws URISyntaxException {
+        return Path.of(clazz.getProtectionDomain().getCodeSource().getLocation().toURI()).toString();
+    }
+}
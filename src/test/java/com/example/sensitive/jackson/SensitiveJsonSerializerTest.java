@@ -2,6 +2,8 @@ package com.example.sensitive.jackson;
 
 import com.example.sensitive.annotation.Sensitive;
 import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.util.SensitiveEngine;
+import com.example.sensitive.util.SensitiveRules;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializerProvider;
@@ -11,6 +13,9 @@ import org.mockito.Mock;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.eq;
@@ -73,6 +78,30 @@ class SensitiveJsonSerializerTest {
         public String getNormal() { return normal; }
     }
 
+    /**
+     * 测试用的 DTO 类 - 注解标在没有对应字段的 getter 上
+     */
+    static class TestDtoWithGetterOnly {
+        @Sensitive(type = SensitiveType.TEXT, forApi = true)
+        public String getContact() {
+            return "13812345678";
+        }
+    }
+
+    /**
+     * 测试用的 DTO 类 - Map 扩展字段，按值自动识别
+     */
+    static class TestDtoWithExtraMap {
+        @Sensitive(type = SensitiveType.AUTO, forApi = true)
+        private Map<String, Object> extra = new LinkedHashMap<>();
+
+        @Sensitive(type = SensitiveType.AUTO)
+        private Map<String, String> logOnly = Map.of("mobile", "13812345678");
+
+        public Map<String, Object> getExtra() { return extra; }
+        public Map<String, String> getLogOnly() { return logOnly; }
+    }
+
     @BeforeEach
     void setUp() {
         objectMapper = new ObjectMapper();
@@ -115,6 +144,69 @@ class SensitiveJsonSerializerTest {
         assertTrue(json.contains("null"), "null 字段应该序列化为 null");
     }
 
+    @Test
+    void testSerializeMapWithAutoType() throws Exception {
+        TestDtoWithExtraMap dto = new TestDtoWithExtraMap();
+        dto.getExtra().put("mobile", "13812345678");
+        dto.getExtra().put("contact", "test@example.com");
+        dto.getExtra().put("uid", 13912345678L);
+        dto.getExtra().put("tags", List.of("vip"));
+        dto.getExtra().put("note", null);
+
+        String json = objectMapper.writeValueAsString(dto);
+
+        assertTrue(json.contains("\"extra\":{\"mobile\":\"138****5678\",\"contact\":\"t***@example.com\","
+                + "\"uid\":\"139****5678\",\"tags\":[\"vip\"],\"note\":null}"), json);
+        assertTrue(json.contains("\"logOnly\":{\"mobile\":\"13812345678\"}"), "forApi = false 的 Map 原样输出");
+    }
+
+    @Test
+    void testPolicySwapAppliesToCachedSerializers() throws Exception {
+        // 切换策略后，同一 ObjectMapper 已缓存的序列化器立即按新规则输出
+        String dtoClass = TestDtoWithForApiFalse.class.getName();
+        String mapClass = TestDtoWithExtraMap.class.getName();
+        assertTrue(objectMapper.writeValueAsString(new TestDtoWithForApiFalse()).contains("13812345678"));
+        assertTrue(objectMapper.writeValueAsString(new TestDtoWithExtraMap()).contains("13812345678"));
+        try {
+            SensitiveRules.setRules(Map.of(
+                    dtoClass + ".phone", "PHONE;for-api=true;mask-char=#",
+                    mapClass + ".logOnly", "AUTO;for-api=true",
+                    mapClass + ".extra", "NONE"));
+
+            assertTrue(objectMapper.writeValueAsString(new TestDtoWithForApiFalse()).contains("\"phone\":\"138####5678\""));
+            TestDtoWithExtraMap dto = new TestDtoWithExtraMap();
+            dto.getExtra().put("mobile", "13912345678");
+            String json = objectMapper.writeValueAsString(dto);
+            assertTrue(json.contains("\"extra\":{\"mobile\":\"13912345678\"}"), json);
+            assertTrue(json.contains("\"logOnly\":{\"mobile\":\"138****5678\"}"), json);
+        } finally {
+            SensitiveRules.setRules(null);
+        }
+        assertTrue(objectMapper.writeValueAsString(new TestDtoWithForApiFalse()).contains("13812345678"));
+    }
+
+    @Test
+    void testEngineAttributeSelectsRules() throws Exception {
+        // 不同 ObjectMapper 绑定不同引擎，规则互不影响
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.setRules(Map.of(TestDtoWithForApiFalse.class.getName() + ".phone", "PHONE;for-api=true"));
+        ObjectMapper tenantMapper = SensitiveJsonSerializer.withEngine(new ObjectMapper(), engine);
+
+        assertTrue(tenantMapper.writeValueAsString(new TestDtoWithForApiFalse()).contains("\"phone\":\"138****5678\""));
+        assertTrue(objectMapper.writeValueAsString(new TestDtoWithForApiFalse()).contains("\"phone\":\"13812345678\""));
+    }
+
+    @Test
+    void testRuleOnGetterOnlyProperty() throws Exception {
+        // 注解标在没有对应字段的 getter 上时，规则按声明 getter 的类与属性名查找
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.setRules(Map.of(TestDtoWithGetterOnly.class.getName() + ".contact", "PHONE"));
+        ObjectMapper tenantMapper = SensitiveJsonSerializer.withEngine(new ObjectMapper(), engine);
+
+        assertTrue(tenantMapper.writeValueAsString(new TestDtoWithGetterOnly()).contains("\"contact\":\"138****5678\""));
+        assertTrue(objectMapper.writeValueAsString(new TestDtoWithGetterOnly()).contains("\"contact\":\"1*********8\""));
+    }
+
     @Test
     void testSerializeWithoutAnnotation() throws Exception {
         // 测试没有注解的字段正常序列化
@@ -140,6 +232,31 @@ class SensitiveJsonSerializerTest {
         assertTrue(json.contains("138####5678"), "应该使用自定义掩码字符 #");
     }
 
+    @Test
+    void testSerializeWithFixedLength() throws Exception {
+        // 定长输出：不同位数的卡号掩码后长度相同
+        class TestDto {
+            @Sensitive(type = SensitiveType.BANK_CARD, fixedLength = true, forApi = true)
+            private String card16 = "6222021234567890";
+
+            @Sensitive(type = SensitiveType.BANK_CARD, fixedLength = true, forApi = true)
+            private String card19 = "6222021234567890123";
+
+            @Sensitive(type = SensitiveType.CUSTOM, prefixLength = 2, suffixLength = 2, fixedLength = true, forApi = true)
+            private String orderNo = "ORD20260101000123";
+
+            public String getCard16() { return card16; }
+            public String getCard19() { return card19; }
+            public String getOrderNo() { return orderNo; }
+        }
+
+        String json = objectMapper.writeValueAsString(new TestDto());
+
+        assertTrue(json.contains("\"card16\":\"6222********7890\""), json);
+        assertTrue(json.contains("\"card19\":\"6222********0123\""), json);
+        assertTrue(json.contains("\"orderNo\":\"OR****23\""), json);
+    }
+
     @Test
     void testSerializeWithEmptyString() throws Exception {
         // 测试空字符串处理
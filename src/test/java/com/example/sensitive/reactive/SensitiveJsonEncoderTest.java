@@ -0,0 +1,127 @@
+package com.example.sensitive.reactive;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.json.Jackson2JsonEncoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveJsonEncoder} 测试
+ */
+class SensitiveJsonEncoderTest {
+
+    private static final ResolvableType USER_TYPE = ResolvableType.forClass(UserDTO.class);
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final SensitiveJsonEncoder encoder = new SensitiveJsonEncoder(objectMapper);
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    @Test
+    @DisplayName("NDJSON 每个元素一个缓冲区，forApi 字段脱敏")
+    void testNdjsonMasked() {
+        List<String> lines = encode(Flux.just(new UserDTO(1L, "13812345678"), new UserDTO(2L, "13987654321")),
+                MediaType.APPLICATION_NDJSON);
+
+        assertEquals(List.of(
+                "{\"id\":1,\"phone\":\"138****5678\"}\n",
+                "{\"id\":2,\"phone\":\"139****4321\"}\n"), lines);
+    }
+
+    @Test
+    @DisplayName("输出与默认 Jackson2JsonEncoder 逐字节一致")
+    void testSameOutputAsJackson2JsonEncoder() {
+        Flux<UserDTO> users = Flux.range(0, 100).map(i -> new UserDTO((long) i, "138" + (10_000_000 + i)));
+
+        List<String> expected = new Jackson2JsonEncoder(objectMapper)
+                .encode(users, bufferFactory, USER_TYPE, MediaType.APPLICATION_NDJSON, null)
+                .map(SensitiveJsonEncoderTest::toString)
+                .collectList()
+                .block();
+
+        assertEquals(expected, encode(users, MediaType.APPLICATION_NDJSON));
+    }
+
+    @Test
+    @DisplayName("encodeValue（SSE 单事件）直接写入缓冲区")
+    void testEncodeValue() {
+        DataBuffer buffer = encoder.encodeValue(new UserDTO(1L, "13812345678"), bufferFactory, USER_TYPE,
+                MediaType.APPLICATION_JSON, null);
+
+        assertEquals("{\"id\":1,\"phone\":\"138****5678\"}", toString(buffer));
+    }
+
+    @Test
+    @DisplayName("下游背压传递到数据源，不会预取全部元素")
+    void testBackpressure() {
+        AtomicInteger produced = new AtomicInteger();
+        Flux<UserDTO> source = Flux.range(0, 1_000_000)
+                .doOnNext(i -> produced.incrementAndGet())
+                .map(i -> new UserDTO((long) i, "13812345678"));
+
+        List<String> lines = encoder.encode(source, bufferFactory, USER_TYPE, MediaType.APPLICATION_NDJSON, null)
+                .take(5)
+                .map(SensitiveJsonEncoderTest::toString)
+                .collectList()
+                .block();
+
+        assertEquals(5, lines.size());
+        assertEquals(5, produced.get());
+    }
+
+    @Test
+    @DisplayName("非流式 JSON 数组沿用父类实现")
+    void testJsonArrayFallsBackToParent() {
+        String json = String.join("", encode(Flux.just(new UserDTO(1L, "13812345678")), MediaType.APPLICATION_JSON));
+
+        assertEquals("[{\"id\":1,\"phone\":\"138****5678\"}]", json);
+    }
+
+    // ==================== 辅助方法 ====================
+
+    private List<String> encode(Flux<UserDTO> users, MediaType mediaType) {
+        return encoder.encode(users, bufferFactory, USER_TYPE, mediaType, null)
+                .map(SensitiveJsonEncoderTest::toString)
+                .collectList()
+                .block();
+    }
+
+    private static String toString(DataBuffer buffer) {
+        String value = buffer.toString(StandardCharsets.UTF_8);
+        DataBufferUtils.release(buffer);
+        return value;
+    }
+
+    // ==================== 测试 DTO ====================
+
+    static class UserDTO {
+
+        private final Long id;
+
+        @Sensitive(type = SensitiveType.PHONE, forApi = true)
+        private final String phone;
+
+        UserDTO(Long id, String phone) {
+            this.id = id;
+            this.phone = phone;
+        }
+
+        public Long getId() { return id; }
+        public String getPhone() { return phone; }
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link com.example.sensitive.strategy.impl.AddressRegionMaskStrategy} 测试
+ */
+class AddressRegionMaskStrategyTest {
+
+    private static String mask(String value) {
+        return MaskStrategyFactory.mask(value, SensitiveType.ADDRESS_REGION);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "北京市朝阳区望京街道10号                   | 北京市朝阳区***",
+            "广东省深圳市南山区科技园南区高新南七道 | 广东省深圳市南山区***",
+            "新疆维吾尔自治区乌鲁木齐市天山区人民路1号 | 新疆维吾尔自治区乌鲁木齐市天山区***",
+            "浙江杭州市西湖区文三路90号               | 浙江杭州市西湖区***",
+            "吉林省吉林市船营区解放大路5号             | 吉林省吉林市***",
+            "上海市浦东新区陆家嘴街道                   | 上海市浦东新区***",
+            "江苏省苏州市昆山市前进西路                 | 江苏省苏州市昆山市***"
+    })
+    @DisplayName("恰好保留省/市/区县前缀")
+    void testRegionPrefix(String value, String expected) {
+        assertEquals(expected, mask(value));
+    }
+
+    @Test
+    @DisplayName("区划之后的同级或更高级名称不再保留")
+    void testLevelsMustDescend() {
+        // 市后的"山东路"是街道，不是省
+        assertEquals("青岛市***", mask("青岛市山东路10号"));
+        assertEquals("北京市朝阳区***", mask("北京市朝阳区海淀区1号"));
+    }
+
+    @Test
+    @DisplayName("只有区划时原样返回，开头无法识别时按 ADDRESS 处理")
+    void testFallback() {
+        assertEquals("广东省深圳市", mask("广东省深圳市"));
+        assertEquals(MaskStrategyFactory.mask("Room 101, Nanjing Road", SensitiveType.ADDRESS),
+                mask("Room 101, Nanjing Road"));
+        assertEquals("", mask(""));
+        assertNull(mask(null));
+    }
+
+    @Test
+    @DisplayName("合成语料：保留部分不超过 ADDRESS 固定前缀时也不截断区划名")
+    void testCorpusNeverCutsRegion() {
+        for (String address : PiiCorpus.generate(SensitiveType.ADDRESS_REGION, 2000)) {
+            String masked = mask(address);
+            if (address != null && address.startsWith("新疆维吾尔自治区") && masked.endsWith("***")) {
+                assertTrue(masked.startsWith("新疆维吾尔自治区"), masked);
+            }
+        }
+    }
+}
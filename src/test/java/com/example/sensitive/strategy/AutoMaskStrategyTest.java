@@ -0,0 +1,92 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.AutoMaskStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link AutoMaskStrategy} 测试
+ */
+class AutoMaskStrategyTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "13812345678, PHONE",
+            "+86 138 1234 5678, PHONE",
+            "010-12345678, PHONE",
+            "110101199001011237, ID_CARD",
+            "11010119900307002X, ID_CARD",
+            "110101900307123, ID_CARD",
+            "6222021234567890128, BANK_CARD",
+            "6222 0212 3456 7890 128, BANK_CARD",
+            "test@example.com, EMAIL",
+            "192.168.1.100, IP_ADDRESS",
+            "2001:0db8:85a3:0000:0000:8a2e:0370:7334, IP_ADDRESS",
+            "张三丰, NAME",
+            "买买提·艾力, NAME",
+            "北京市朝阳区望京街道10号, ADDRESS",
+            "请联系13812345678处理, EMBEDDED",
+            "VIP 客户，需优先处理, TEXT",
+            "pending, TEXT",
+            "999.999.1.1, TEXT",
+            "12345, TEXT",
+            "1234567, TEXT",
+            "123-4567, TEXT",
+            "12345678, TEXT",
+            "123456789012345, PHONE",
+            "010-1234567, TEXT",
+            "0755-1234567, PHONE"
+    })
+    @DisplayName("判定树按值识别类型")
+    void testClassify(String value, SensitiveType expected) {
+        assertEquals(expected, AutoMaskStrategy.classify(value));
+    }
+
+    @Test
+    @DisplayName("识别后按对应策略脱敏")
+    void testMaskDispatch() {
+        assertEquals("138****5678", MaskStrategyFactory.mask("13812345678", SensitiveType.AUTO));
+        assertEquals("t***@example.com", MaskStrategyFactory.mask("test@example.com", SensitiveType.AUTO));
+        assertEquals("请联系138****5678处理", MaskStrategyFactory.mask("请联系13812345678处理", SensitiveType.AUTO));
+        assertEquals("p*****g", MaskStrategyFactory.mask("pending", SensitiveType.AUTO));
+        assertNull(MaskStrategyFactory.mask(null, SensitiveType.AUTO));
+    }
+
+    @Test
+    @DisplayName("短号码不按手机号规则输出明文")
+    void testShortNumbersNeverPlain() {
+        for (String value : new String[]{"1234567", "123-4567", "12345678", "123 4567", "+1234567"}) {
+            String masked = MaskStrategyFactory.mask(value, SensitiveType.AUTO);
+            assertNotEquals(value, masked);
+            assertTrue(masked.chars().filter(c -> c == '*').count() >= value.length() / 2, masked);
+        }
+    }
+
+    @Test
+    @DisplayName("合成语料：规范取值的主要类型识别准确")
+    void testCorpusAccuracy() {
+        assertAccuracy(SensitiveType.PHONE, SensitiveType.PHONE, 0.90);
+        assertAccuracy(SensitiveType.ID_CARD, SensitiveType.ID_CARD, 0.90);
+        assertAccuracy(SensitiveType.BANK_CARD, SensitiveType.BANK_CARD, 0.90);
+        assertAccuracy(SensitiveType.EMAIL, SensitiveType.EMAIL, 0.80);
+        assertAccuracy(SensitiveType.IP_ADDRESS, SensitiveType.IP_ADDRESS, 0.85);
+    }
+
+    private static void assertAccuracy(SensitiveType corpus, SensitiveType expected, double threshold) {
+        String[] values = PiiCorpus.generate(corpus, 5000);
+        long hits = Arrays.stream(values)
+                .filter(v -> !v.isBlank())
+                .filter(v -> AutoMaskStrategy.classify(v) == expected)
+                .count();
+        long total = Arrays.stream(values).filter(v -> !v.isBlank()).count();
+        assertTrue(hits >= threshold * total, corpus + ": " + hits + "/" + total);
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.CustomMaskStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 按码点脱敏测试：增补平面字符（emoji、生僻汉字）不被拆分
+ */
+class CodePointMaskingTest {
+
+    /** U+20BB7，"吉"的异体字，UTF-16 为代理对 */
+    private static final String RARE = "𠮷";
+
+    private static final String EMOJI = "😀";
+
+    @Test
+    @DisplayName("姓名：首尾为增补平面字符时完整保留，中间每个码点一个掩码")
+    void testNameWithSupplementaryCharacters() {
+        assertEquals(RARE + "*", MaskStrategyFactory.mask(RARE + "三", SensitiveType.NAME));
+        assertEquals("张*", MaskStrategyFactory.mask("张" + RARE, SensitiveType.NAME));
+        assertEquals("张*" + EMOJI, MaskStrategyFactory.mask("张" + RARE + EMOJI, SensitiveType.NAME));
+        assertEquals("张**丰", MaskStrategyFactory.mask("张" + EMOJI + RARE + "丰", SensitiveType.NAME));
+        assertEquals("*", MaskStrategyFactory.mask(EMOJI, SensitiveType.NAME));
+    }
+
+    @Test
+    @DisplayName("通用文本：Latin-1、BMP、增补平面三种输入结果一致")
+    void testTextAcrossCoders() {
+        assertEquals("J**é", MaskStrategyFactory.mask("José", SensitiveType.TEXT));
+        assertEquals("J●●é", MaskStrategyFactory.mask("José", SensitiveType.TEXT, '●'));
+        assertEquals("客**理", MaskStrategyFactory.mask("客户处理", SensitiveType.TEXT));
+        assertEquals(EMOJI + "**" + EMOJI, MaskStrategyFactory.mask(EMOJI + "ab" + EMOJI, SensitiveType.TEXT));
+        assertEquals("a*", MaskStrategyFactory.mask("a" + EMOJI, SensitiveType.TEXT));
+    }
+
+    @Test
+    @DisplayName("自定义、地址、邮箱：保留区间按码点计算")
+    void testPrefixSuffixByCodePoint() {
+        CustomMaskStrategy custom = new CustomMaskStrategy(2, 1);
+
+        assertEquals("a" + EMOJI + "**z", custom.mask("a" + EMOJI + "bcz"));
+        assertEquals("a" + EMOJI + "z", custom.mask("a" + EMOJI + "z"));
+        assertEquals("北京市" + RARE + "阳区***",
+                MaskStrategyFactory.mask("北京市" + RARE + "阳区望京街道", SensitiveType.ADDRESS));
+        assertEquals(EMOJI + "***@example.com",
+                MaskStrategyFactory.mask(EMOJI + "ab@example.com", SensitiveType.EMAIL));
+        assertEquals(EMOJI + "@example.com", MaskStrategyFactory.mask(EMOJI + "@example.com", SensitiveType.EMAIL));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = SensitiveType.class, names = {"NAME", "TEXT", "ADDRESS", "EMAIL", "CUSTOM"})
+    @DisplayName("合成语料脱敏结果不含孤立代理字符")
+    void testCorpusHasNoBrokenSurrogates(SensitiveType type) {
+        CustomMaskStrategy custom = new CustomMaskStrategy(2, 3);
+        for (String value : PiiCorpus.generate(type, 5000)) {
+            String masked = type == SensitiveType.CUSTOM ? custom.mask(value) : MaskStrategyFactory.mask(value, type);
+            if (masked != null) {
+                assertFalse(hasLoneSurrogate(masked), () -> value + " -> " + masked);
+            }
+        }
+    }
+
+    private static boolean hasLoneSurrogate(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (Character.isHighSurrogate(c)) {
+                if (i + 1 >= s.length() || !Character.isLowSurrogate(s.charAt(i + 1))) {
+                    return true;
+                }
+                i++;
+            } else if (Character.isLowSurrogate(c)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
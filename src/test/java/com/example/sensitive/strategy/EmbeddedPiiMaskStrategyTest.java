@@ -0,0 +1,105 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link com.example.sensitive.strategy.impl.EmbeddedPiiMaskStrategy} 测试
+ */
+class EmbeddedPiiMaskStrategyTest {
+
+    private static String mask(String value) {
+        return MaskStrategyFactory.mask(value, SensitiveType.EMBEDDED);
+    }
+
+    @Test
+    @DisplayName("只掩码嵌入的手机号，其余文本保持原样")
+    void testPhone() {
+        assertEquals("请尽快联系138****5678处理", mask("请尽快联系13812345678处理"));
+        assertEquals("电话 +86138****5678。", mask("电话 +8613812345678。"));
+        assertEquals("138****5678 或 139****4321", mask("13812345678 或 13987654321"));
+    }
+
+    @Test
+    @DisplayName("身份证按校验码识别，银行卡按 Luhn 识别")
+    void testIdCardAndBankCard() {
+        assertEquals("身份证 110101********7774，", mask("身份证 110101199003077774，"));
+        assertEquals("身份证 110101********002x", mask("身份证 11010119900307002x"));
+        // 15 位旧证无校验码，不识别
+        assertEquals("旧证 110101900307123", mask("旧证 110101900307123"));
+        assertEquals("卡号6222***********0128", mask("卡号6222021234567890128"));
+        // 校验失败的长数字串不处理
+        assertEquals("卡号6222021234567890127", mask("卡号6222021234567890127"));
+        assertEquals("身份证 110101199003077775", mask("身份证 110101199003077775"));
+    }
+
+    @Test
+    @DisplayName("邮箱：本地部分与域名按 ASCII 规则识别，句末标点不计入")
+    void testEmail() {
+        assertEquals("邮箱 t***@example.com。", mask("邮箱 test@example.com。"));
+        assertEquals("1***@qq.com", mask("13812345678@qq.com"));
+        assertEquals("a@b 与 x@y.z 不是邮箱", mask("a@b 与 x@y.z 不是邮箱"));
+        assertEquals("a@b@example.com", mask("a@b@example.com"));
+    }
+
+    @Test
+    @DisplayName("紧邻字母数字的编码、不合规长度的数字串不被误伤")
+    void testNoFalsePositives() {
+        String text = "订单 ORD13812345678 已发货，物流单号 1381234567，金额 12345678901234";
+        assertSame(text, mask(text));
+        assertEquals("abc", mask("abc"));
+        assertNull(mask(null));
+    }
+
+    @Test
+    @DisplayName("合成语料中的备注：无 PII 的文本原样返回，夹带的手机号被掩码")
+    void testCorpus() {
+        for (String remark : PiiCorpus.generate(SensitiveType.EMBEDDED, 5000)) {
+            String masked = mask(remark);
+            if (remark != null && remark.contains("联系电话")) {
+                assertNotEquals(remark, masked);
+                assertTrue(masked.contains("****"), masked);
+            }
+            if (remark != null && remark.startsWith("订单 ")) {
+                assertSame(remark, masked);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("定长开关打开时仍保留原文长度")
+    void testKeepsLengthWhenFixedLength() {
+        MaskStrategyRegistry registry = new MaskStrategyRegistry();
+        registry.setFixedLength(true);
+        String text = "卡号6222021234567890128，证件110101199001011237";
+
+        String masked = registry.mask(text, SensitiveType.EMBEDDED);
+        assertEquals(mask(text), masked);
+        assertEquals(text.length(), masked.length());
+        assertEquals(masked, registry.mask(text, registry.getStrategy(SensitiveType.EMBEDDED), '*', true));
+        assertNotEquals(text, masked);
+    }
+
+    @Test
+    @DisplayName("病态输入耗时线性，无回溯")
+    void testLinearTime() {
+        String digits = "1".repeat(1 << 20);
+        String ats = "a@".repeat(1 << 19);
+        String dots = "a".repeat(1 << 19) + "@" + "b.".repeat(1 << 18);
+        // 每个 @ 之后的域名都没有点，回找顶级域时不得越过域名起点
+        String domains = "." + "x@b ".repeat(1 << 18);
+
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            assertSame(digits, mask(digits));
+            assertSame(ats, mask(ats));
+            assertSame(dots, mask(dots));
+            assertSame(domains, mask(domains));
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 定长脱敏（{@link MaskStrategy#maskFixed}）测试
+ */
+class FixedLengthMaskTest {
+
+    private static String fixed(String value, SensitiveType type) {
+        return MaskStrategyFactory.mask(value, type, '*', true);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "PHONE      | 13812345678          | 138****5678",
+            "PHONE      | +85261234567         | +85****4567",
+            "ID_CARD    | 110101199001011237   | 110101********1237",
+            "ID_CARD    | 110101900307123      | 110101********7123",
+            "BANK_CARD  | 6222021234567890123  | 6222********0123",
+            "BANK_CARD  | 6222021234567890     | 6222********7890",
+            "EMAIL      | a@example.com        | a***@example.com",
+            "EMAIL      | alexander@example.com | a***@example.com",
+            "NAME       | 张三                 | 张**",
+            "NAME       | 欧阳娜娜              | 欧**",
+            "TEXT       | VIP 客户，需优先处理   | V****理",
+            "AUTO       | 6222021234567890128  | 6222********0128"
+    })
+    @DisplayName("掩码段长度固定，与原值长度无关")
+    void testFixedLength(SensitiveType type, String value, String expected) {
+        assertEquals(expected, fixed(value, type));
+    }
+
+    @Test
+    @DisplayName("原值过短时整体输出等长常量掩码，不回显原值")
+    void testShortValues() {
+        assertEquals("***********", fixed("1381234", SensitiveType.PHONE));
+        assertEquals("***", fixed("张", SensitiveType.NAME));
+        assertEquals("##########", MaskStrategyFactory.maskCustom("abc", 3, 3, '#', true));
+        assertEquals("", fixed("", SensitiveType.BANK_CARD));
+        assertNull(fixed(null, SensitiveType.BANK_CARD));
+    }
+
+    @Test
+    @DisplayName("姓名定长结果按首字复用，增补平面字符不拆分")
+    void testNameCacheAndSupplementary() {
+        assertSame(fixed("张三", SensitiveType.NAME), fixed("张三丰", SensitiveType.NAME));
+        assertEquals("𠮷**", fixed("𠮷一", SensitiveType.NAME));
+        assertEquals("张##", MaskStrategyFactory.mask("张三丰", SensitiveType.NAME, '#', true));
+    }
+
+    @Test
+    @DisplayName("字段注解 fixedLength 作用于 toString")
+    void testAnnotation() {
+        assertEquals("CardDTO(card=\"6222********7890\", name=\"张*丰\")",
+                SensitiveToStringBuilder.build(new CardDTO()));
+    }
+
+    @Test
+    @DisplayName("全局开关对所有字段生效")
+    void testGlobalSwitch() {
+        try {
+            MaskStrategyFactory.setFixedLength(true);
+            assertEquals("CardDTO(card=\"6222********7890\", name=\"张**\")",
+                    SensitiveToStringBuilder.build(new CardDTO()));
+        } finally {
+            MaskStrategyFactory.setFixedLength(false);
+        }
+        assertEquals("张*丰", MaskStrategyFactory.mask("张三丰", SensitiveType.NAME));
+    }
+
+    static class CardDTO {
+        @Sensitive(type = SensitiveType.BANK_CARD, fixedLength = true)
+        private String card = "6222021234567890";
+
+        @Sensitive(type = SensitiveType.NAME)
+        private String name = "张三丰";
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.corpus.PiiCorpus;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.FpeMaskStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link FpeMaskStrategy} 测试
+ */
+class FpeMaskStrategyTest {
+
+    private static final byte[] AES_128 = HexFormat.of().parseHex("2B7E151628AED2A6ABF7158809CF4F3C");
+
+    private static final byte[] AES_256 = HexFormat.of().parseHex(
+            "2B7E151628AED2A6ABF7158809CF4F3CEF4359D8D580AA4F7F036D6F04FC6A94");
+
+    private static final byte[] NIST_TWEAK = HexFormat.of().parseHex("39383736353433323130");
+
+    private final FpeMaskStrategy strategy = new FpeMaskStrategy(AES_128);
+
+    @Test
+    @DisplayName("NIST SP 800-38G FF1 十进制样例")
+    void testNistSamples() {
+        assertEquals("2433477484", strategy.mask("0123456789", '*'));
+        assertEquals("6124200773", new FpeMaskStrategy(AES_128, NIST_TWEAK).mask("0123456789"));
+        assertEquals("6657667009", new FpeMaskStrategy(AES_256).mask("0123456789"));
+        assertEquals("1001623463", new FpeMaskStrategy(AES_256, NIST_TWEAK).mask("0123456789"));
+
+        assertEquals("0123456789", strategy.detokenize("2433477484"));
+        assertEquals(SensitiveType.FPE, strategy.getType());
+    }
+
+    @Test
+    @DisplayName("令牌保留长度与非数字字符，且可还原")
+    void testFormatPreservingRoundTrip() {
+        for (SensitiveType type : new SensitiveType[]{SensitiveType.BANK_CARD, SensitiveType.ID_CARD}) {
+            for (String value : PiiCorpus.generate(type, 2000)) {
+                String token = strategy.mask(value);
+                long digits = value.chars().filter(c -> c >= '0' && c <= '9').count();
+                boolean reversible = digits >= FpeMaskStrategy.MIN_DIGITS && digits <= FpeMaskStrategy.MAX_DIGITS;
+
+                assertEquals(value.length(), token.length());
+                for (int i = 0; i < value.length(); i++) {
+                    char c = value.charAt(i);
+                    if (c < '0' || c > '9') {
+                        assertEquals(c, token.charAt(i), token);
+                    } else if (reversible) {
+                        assertTrue(token.charAt(i) >= '0' && token.charAt(i) <= '9', token);
+                    } else {
+                        // 位数越界：数字被不可逆掩码
+                        assertEquals('*', token.charAt(i), token);
+                    }
+                }
+                if (reversible) {
+                    assertEquals(value, strategy.detokenize(token));
+                }
+            }
+        }
+        assertEquals("11010119900101123X".length(), strategy.mask("11010119900101123X").length());
+        assertTrue(strategy.mask("11010119900101123X").endsWith("X"));
+    }
+
+    @Test
+    @DisplayName("不同 tweak 得到不同令牌")
+    void testTweakSeparatesTokenSpaces() {
+        FpeMaskStrategy other = new FpeMaskStrategy(AES_128, "order".getBytes(StandardCharsets.UTF_8));
+
+        assertNotEquals(strategy.mask("6222021234567890123"), other.mask("6222021234567890123"));
+        assertEquals("6222021234567890123", other.detokenize(other.mask("6222021234567890123")));
+    }
+
+    @Test
+    @DisplayName("数字位数越界时不可逆掩码，空值原样返回")
+    void testOutOfRange() {
+        assertEquals("ab-***", strategy.mask("ab-123", '*'));
+        assertEquals("#".repeat(33), strategy.mask("1".repeat(33), '#'));
+        assertEquals("no digits", strategy.mask("no digits"));
+        assertNull(strategy.mask(null));
+        assertEquals("", strategy.mask(""));
+        assertThrows(IllegalArgumentException.class, () -> new FpeMaskStrategy(new byte[15]));
+    }
+
+    @Test
+    @DisplayName("并发调用结果正确")
+    void testConcurrentUse() throws Exception {
+        FpeMaskStrategy reference = new FpeMaskStrategy(AES_128);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String value = "62220212345678" + (10000 + i);
+                futures.add(executor.submit(() -> {
+                    String token = strategy.mask(value);
+                    return token.equals(reference.mask(value)) && value.equals(strategy.detokenize(token));
+                }));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
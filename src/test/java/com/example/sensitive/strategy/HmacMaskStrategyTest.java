@@ -0,0 +1,95 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.HmacMaskStrategy;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link HmacMaskStrategy} 测试
+ */
+class HmacMaskStrategyTest {
+
+    private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+    private final HmacMaskStrategy strategy = new HmacMaskStrategy(KEY);
+
+    @Test
+    @DisplayName("令牌为 HMAC-SHA256 的前 16 个十六进制字符，且确定性")
+    void testDeterministicToken() throws Exception {
+        String token = strategy.mask("13812345678", '*');
+
+        assertEquals(reference("13812345678").substring(0, 16), token);
+        assertEquals(token, strategy.mask("13812345678", '#'));
+        assertEquals(SensitiveType.HMAC, strategy.getType());
+    }
+
+    @Test
+    @DisplayName("不同密钥、不同原值得到不同令牌")
+    void testKeyAndValueSensitivity() {
+        HmacMaskStrategy other = new HmacMaskStrategy("another-secret-key-another-secret".getBytes(StandardCharsets.UTF_8));
+
+        assertNotEquals(strategy.mask("13812345678"), other.mask("13812345678"));
+        assertNotEquals(strategy.mask("13812345678"), strategy.mask("13812345679"));
+    }
+
+    @Test
+    @DisplayName("缓存与不缓存结果一致，缓存槽位冲突不影响正确性")
+    void testCacheConsistency() {
+        HmacMaskStrategy uncached = new HmacMaskStrategy(KEY, HmacMaskStrategy.DEFAULT_ALGORITHM, 16, 0);
+        HmacMaskStrategy tiny = new HmacMaskStrategy(KEY, HmacMaskStrategy.DEFAULT_ALGORITHM, 16, 2);
+
+        for (int i = 0; i < 1000; i++) {
+            String value = "1381234" + i;
+            assertEquals(uncached.mask(value), tiny.mask(value));
+            assertEquals(uncached.mask(value), strategy.mask(value));
+        }
+    }
+
+    @Test
+    @DisplayName("并发调用结果正确")
+    void testConcurrentUse() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String value = "user-" + (i % 300);
+                futures.add(executor.submit(() -> reference(value).substring(0, 16).equals(strategy.mask(value))));
+            }
+            for (Future<Boolean> future : futures) {
+                assertTrue(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("空值原样返回，非法参数拒绝构造")
+    void testEdgeCases() {
+        assertNull(strategy.mask(null));
+        assertEquals("", strategy.mask(""));
+        assertThrows(IllegalArgumentException.class, () -> new HmacMaskStrategy(new byte[0]));
+        assertThrows(IllegalArgumentException.class, () -> new HmacMaskStrategy(KEY, "HmacSHA256", 15, 16));
+        assertThrows(IllegalArgumentException.class, () -> new HmacMaskStrategy(KEY, "HmacSHA256", 66, 16));
+        assertThrows(IllegalArgumentException.class, () -> new HmacMaskStrategy(KEY, "NoSuchMac", 16, 16));
+    }
+
+    private static String reference(String value) throws Exception {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(KEY, "HmacSHA256"));
+        return HexFormat.of().formatHex(mac.doFinal(value.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.impl.PhoneMaskStrategy;
+import com.example.sensitive.strategy.impl.TextMaskStrategy;
+import com.example.sensitive.util.SensitiveToStringBuilder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link MaskStrategyFactory} 注册表测试
+ */
+class MaskStrategyFactoryTest {
+
+    @Test
+    @DisplayName("内置策略以类型名为 ID，ServiceLoader 发现的扩展策略按自身 ID 注册")
+    void testBuiltInAndServiceLoaderIds() {
+        assertSame(MaskStrategyFactory.getStrategy(SensitiveType.PHONE), MaskStrategyFactory.getStrategy("PHONE"));
+        assertInstanceOf(PassportMaskStrategy.class, MaskStrategyFactory.getStrategy("passport"));
+        assertTrue(MaskStrategyFactory.getStrategyIds().containsAll(java.util.Set.of("TEXT", "passport")));
+        assertNull(MaskStrategyFactory.getStrategy("unknown"));
+    }
+
+    @Test
+    @DisplayName("字段按 strategy ID 引用扩展策略，日志与 API 输出一致")
+    void testStrategyAttribute() throws Exception {
+        TravelerDTO dto = new TravelerDTO();
+
+        assertEquals("TravelerDTO(passportNo=\"E******78\", visaNo=\"V*******1\")", SensitiveToStringBuilder.build(dto));
+        assertEquals("{\"passportNo\":\"E******78\",\"visaNo\":\"V*******1\"}",
+                new ObjectMapper().writeValueAsString(dto));
+    }
+
+    @Test
+    @DisplayName("注册写时复制：版本递增，按旧注册表解析的字段元数据失效")
+    void testRegisterPublishesNewSnapshot() {
+        SensitiveToStringBuilder.build(new TravelerDTO());
+        long version = MaskStrategyFactory.getVersion();
+        try {
+            MaskStrategyFactory.register(new MaskStrategy() {
+                @Override
+                public String getId() {
+                    return "visa";
+                }
+
+                @Override
+                public String mask(String value, char maskChar) {
+                    return "[visa]";
+                }
+            });
+
+            assertEquals(version + 1, MaskStrategyFactory.getVersion());
+            assertTrue(SensitiveToStringBuilder.build(new TravelerDTO()).contains("visaNo=\"[visa]\""));
+        } finally {
+            MaskStrategyFactory.register(new MaskStrategy() {
+                @Override
+                public String getId() {
+                    return "visa";
+                }
+
+                @Override
+                public String mask(String value, char maskChar) {
+                    return new TextMaskStrategy().mask(value, maskChar);
+                }
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("同 ID 注册替换内置策略，ID 为空的策略忽略")
+    void testReplaceBuiltInAndIgnoreInvalid() {
+        MaskStrategy original = MaskStrategyFactory.getStrategy(SensitiveType.PHONE);
+        long version = MaskStrategyFactory.getVersion();
+        try {
+            MaskStrategyFactory.register(null);
+            MaskStrategyFactory.register((value, maskChar) -> value);
+            assertEquals(version, MaskStrategyFactory.getVersion());
+
+            MaskStrategyFactory.register(new PhoneMaskStrategy() {
+                @Override
+                public String mask(String value, char maskChar) {
+                    return "phone";
+                }
+            });
+            assertEquals("phone", MaskStrategyFactory.mask("13812345678", SensitiveType.PHONE));
+        } finally {
+            MaskStrategyFactory.register(original);
+        }
+        assertEquals("138****5678", MaskStrategyFactory.mask("13812345678", SensitiveType.PHONE));
+    }
+
+    static class TravelerDTO {
+        @Sensitive(strategy = "passport", forApi = true)
+        private String passportNo = "E12345678";
+
+        @Sensitive(strategy = "visa", forApi = true)
+        private String visaNo = "V12345671";
+
+        public String getPassportNo() { return passportNo; }
+        public String getVisaNo() { return visaNo; }
+    }
+}
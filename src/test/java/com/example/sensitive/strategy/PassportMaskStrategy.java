@@ -0,0 +1,21 @@
+package com.example.sensitive.strategy;
+
+/**
+ * 通过 ServiceLoader 注册的扩展策略：护照号保留首字母与末 2 位
+ */
+public class PassportMaskStrategy implements MaskStrategy {
+
+    @Override
+    public String getId() {
+        return "passport";
+    }
+
+    @Override
+    public String mask(String value, char maskChar) {
+        if (value.length() <= 3) {
+            return String.valueOf(maskChar).repeat(value.length());
+        }
+        return value.charAt(0) + String.valueOf(maskChar).repeat(value.length() - 3)
+                + value.substring(value.length() - 2);
+    }
+}
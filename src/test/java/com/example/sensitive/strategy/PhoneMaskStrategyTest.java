@@ -0,0 +1,58 @@
+package com.example.sensitive.strategy;
+
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link com.example.sensitive.strategy.impl.PhoneMaskStrategy} 测试
+ */
+class PhoneMaskStrategyTest {
+
+    private static String mask(String value) {
+        return MaskStrategyFactory.mask(value, SensitiveType.PHONE);
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "+86 138 1234 5678   | +86 138 **** 5678",
+            "+8613812345678      | +86138****5678",
+            "008613812345678     | 0086138****5678",
+            "+1 (415) 555-2671   | +1 (***) ***-2671",
+            "+14155552671        | +1******2671",
+            "+44 7911 123456     | +44 791* ***456",
+            "+44 20 7946 0958    | +44 20 7*** *958",
+            "+852 6123 4567      | +852 61** **67",
+            "+886 912 345 678    | +886 912 *** *78",
+            "+81 90-1234-5678    | +81 90-****-5678",
+            "+7 912 123-45-67    | +7 912 ***-**-67",
+            "+33 6 12 34 56 78   | +33 6 ** ** ** 78",
+            "+65 8123 4567       | +65 8*** *567"
+    })
+    @DisplayName("国际号码按国家码规则掩码，国家码与分隔符保留")
+    void testInternational(String value, String expected) {
+        assertEquals(expected, mask(value));
+    }
+
+    @Test
+    @DisplayName("未收录规则的国家码与不合规长度按通用规则处理")
+    void testGenericRule() {
+        // 3 位国家码 +998，9 位本国号码：保留前 2 后 3
+        assertEquals("+998 90 **** 567", mask("+998 90 1234 567"));
+        // +86 座机 10 位不在手机规则区间内
+        assertEquals("+86 10 *****678", mask("+86 10 12345678"));
+    }
+
+    @Test
+    @DisplayName("大陆号码与无法识别国家码的号码保持原有规则")
+    void testDomesticUnchanged() {
+        assertEquals("138****5678", mask("13812345678"));
+        assertEquals("+09****5678", mask("+0912345678"));
+        assertEquals("123456", mask("123456"));
+        assertNull(mask(null));
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveToStringBuilder} 对 getter 与 record 组件的渲染测试
+ */
+class PropertyRenderingTest {
+
+    @Test
+    @DisplayName("record 按组件顺序渲染，组件上的注解生效")
+    void testRecordComponents() {
+        UserRecord user = new UserRecord(7L, "张三丰", "13812345678");
+
+        assertEquals("UserRecord(id=7, name=\"张*丰\", phone=\"138****5678\")", SensitiveToStringBuilder.build(user));
+        assertEquals(SensitiveToStringBuilder.build(user), SensitiveToStringBuilder.snapshot(user).toString());
+    }
+
+    @Test
+    @DisplayName("显式声明的访问器可单独标注，规则同样适用于 record 组件")
+    void testRecordAccessorAndRule() {
+        assertEquals("AccountRecord(cardNo=\"6222********7890\", email=\"z***@example.com\")",
+                SensitiveToStringBuilder.build(new AccountRecord("6222021234567890", "zhang@example.com")));
+
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.setRules(Map.of(UserRecord.class.getName() + ".phone", "NONE"));
+        assertTrue(engine.build(new UserRecord(1L, "李四", "13812345678")).contains("phone=\"13812345678\""));
+    }
+
+    @Test
+    @DisplayName("注解在 getter 上时按 getter 取值脱敏，无同名字段的 getter 追加输出")
+    void testAnnotatedGetters() {
+        assertEquals("GetterDTO(phone=\"138****5678\", remark=\"ok\", contact=\"z***@example.com\")",
+                SensitiveToStringBuilder.build(new GetterDTO()));
+    }
+
+    @Test
+    @DisplayName("getter 属性名按 JavaBeans 规则推导，连续大写开头保持原样")
+    void testGetterPropertyNames() {
+        assertEquals("AcronymDTO(URL=\"a*c\", mobile=\"138****5678\")", SensitiveToStringBuilder.build(new AcronymDTO()));
+    }
+
+    @Test
+    @DisplayName("getter 抛出异常时输出异常类名，不影响其他属性")
+    void testGetterFailure() {
+        assertEquals("FailingDTO(id=1, token=<error: IllegalStateException>)",
+                SensitiveToStringBuilder.build(new FailingDTO()));
+    }
+
+    @Test
+    @DisplayName("record 的 Jackson 序列化与 toString 使用同一注解")
+    void testRecordJackson() throws Exception {
+        String json = new ObjectMapper().writeValueAsString(new AccountRecord("6222021234567890", "zhang@example.com"));
+
+        assertTrue(json.contains("\"email\":\"z***@example.com\""), json);
+        assertTrue(json.contains("\"cardNo\":\"6222021234567890\""), json);
+    }
+
+    record UserRecord(Long id, @Sensitive(type = SensitiveType.NAME) String name,
+                      @Sensitive(type = SensitiveType.PHONE) String phone) {
+    }
+
+    record AccountRecord(@Sensitive(type = SensitiveType.BANK_CARD) String cardNo, String email) {
+
+        @Override
+        @Sensitive(type = SensitiveType.EMAIL, forApi = true)
+        public String email() {
+            return email;
+        }
+    }
+
+    static class GetterDTO {
+        private String phone = "13812345678";
+        private String remark = "ok";
+
+        @Sensitive(type = SensitiveType.PHONE)
+        public String getPhone() {
+            return phone;
+        }
+
+        @Sensitive(type = SensitiveType.EMAIL)
+        public String getContact() {
+            return "zhang@example.com";
+        }
+    }
+
+    static class AcronymDTO {
+
+        @Sensitive
+        public String getURL() {
+            return "abc";
+        }
+
+        @Sensitive(type = SensitiveType.PHONE)
+        public String getMobile() {
+            return "13812345678";
+        }
+    }
+
+    static class FailingDTO {
+        private long id = 1;
+
+        @Sensitive
+        String getToken() {
+            throw new IllegalStateException("not loaded");
+        }
+    }
+}
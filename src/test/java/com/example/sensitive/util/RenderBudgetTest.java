@@ -0,0 +1,142 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link RenderBudget} 测试
+ */
+class RenderBudgetTest {
+
+    @AfterEach
+    void tearDown() {
+        SensitiveToStringBuilder.setRenderBudget(null);
+    }
+
+    @Test
+    @DisplayName("长度预算：超出前停止追加字段")
+    void testMaxLength() {
+        RenderBudget budget = new RenderBudget(40, null, null, 1);
+        SensitiveToStringBuilder.setRenderBudget(budget);
+
+        String result = SensitiveToStringBuilder.build(new OrderDTO());
+
+        assertEquals("OrderDTO(id=42, phone=\"138****5678\", ...)", result);
+        assertEquals(1, budget.getTruncatedCount());
+        assertFalse(budget.isDegraded());
+    }
+
+    @Test
+    @DisplayName("时间预算：超时后停止追加字段")
+    void testMaxRenderTime() {
+        RenderBudget budget = new RenderBudget(0, Duration.ofMillis(1), null, 1);
+        SensitiveToStringBuilder.setRenderBudget(budget);
+
+        String result = SensitiveToStringBuilder.build(new SlowDTO(Duration.ofMillis(5)));
+
+        assertEquals("SlowDTO(payload=slow, ...)", result);
+        assertEquals(1, budget.getTruncatedCount());
+    }
+
+    @Test
+    @DisplayName("平均渲染耗时超过阈值后自动降级为摘要，回落到阈值一半以下后恢复")
+    void testDegradeAndRecover() {
+        RenderBudget budget = new RenderBudget(0, null, Duration.ofMillis(1), Integer.MAX_VALUE);
+        SensitiveToStringBuilder.setRenderBudget(budget);
+
+        for (Class<?> clazz : List.of(OrderDTO.class, SecretIdDTO.class, NoIdDTO.class)) {
+            for (int i = 0; i < 16; i++) {
+                budget.record(clazz, Duration.ofMillis(10).toNanos());
+            }
+        }
+        assertTrue(budget.isDegraded());
+        assertEquals(3, budget.getDegradedClassCount());
+        assertEquals("OrderDTO#42", SensitiveToStringBuilder.build(new OrderDTO()));
+        assertEquals("SecretIdDTO#110101********1237", SensitiveToStringBuilder.build(new SecretIdDTO()));
+        assertTrue(SensitiveToStringBuilder.build(new NoIdDTO()).matches("NoIdDTO#[0-9a-f]+"));
+        assertEquals(3, budget.getSummarizedCount());
+
+        for (int i = 0; i < 64; i++) {
+            budget.record(OrderDTO.class, 0);
+        }
+        assertFalse(budget.isDegraded(OrderDTO.class));
+        assertTrue(budget.isDegraded(NoIdDTO.class));
+        assertEquals(2, budget.getDegradedClassCount());
+        assertTrue(SensitiveToStringBuilder.build(new OrderDTO()).startsWith("OrderDTO(id=42, "));
+    }
+
+    @Test
+    @DisplayName("降级由实测渲染耗时触发")
+    void testDegradeFromMeasuredLatency() {
+        RenderBudget budget = new RenderBudget(0, null, Duration.ofMillis(1), Integer.MAX_VALUE);
+        SensitiveToStringBuilder.setRenderBudget(budget);
+
+        SlowDTO slow = new SlowDTO(Duration.ofMillis(3));
+        for (int i = 0; i < 32 && !budget.isDegraded(SlowDTO.class); i++) {
+            SensitiveToStringBuilder.build(slow);
+        }
+
+        assertTrue(budget.isDegraded(SlowDTO.class), "average " + budget.getAverageRenderNanos(SlowDTO.class) + " ns");
+        assertTrue(SensitiveToStringBuilder.build(slow).startsWith("SlowDTO#"));
+        // 降级按类生效，其他类仍完整渲染
+        assertFalse(budget.isDegraded(OrderDTO.class));
+        assertTrue(SensitiveToStringBuilder.build(new OrderDTO()).startsWith("OrderDTO(id=42, "));
+    }
+
+    @Test
+    @DisplayName("参数校验")
+    void testValidation() {
+        assertThrows(IllegalArgumentException.class, () -> new RenderBudget(-1, null, null, 1));
+        assertThrows(IllegalArgumentException.class, () -> new RenderBudget(0, null, null, 0));
+        assertSame(RenderBudget.UNLIMITED, SensitiveToStringBuilder.getRenderBudget());
+    }
+
+    static class OrderDTO {
+        private Long id = 42L;
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone = "13812345678";
+
+        @Sensitive(type = SensitiveType.ADDRESS)
+        private String address = "北京市朝阳区望京街道10号";
+    }
+
+    static class SecretIdDTO {
+        @Sensitive(type = SensitiveType.ID_CARD)
+        private String id = "110101199001011237";
+    }
+
+    static class NoIdDTO {
+        private String name = "plain";
+    }
+
+    static class SlowDTO {
+        private final Slow payload;
+
+        private String tail = "tail";
+
+        SlowDTO(Duration delay) {
+            this.payload = new Slow(delay);
+        }
+    }
+
+    record Slow(Duration delay) {
+        @Override
+        public String toString() {
+            long deadline = System.nanoTime() + delay.toNanos();
+            while (System.nanoTime() < deadline) {
+                LockSupport.parkNanos(deadline - System.nanoTime());
+            }
+            return "slow";
+        }
+    }
+}
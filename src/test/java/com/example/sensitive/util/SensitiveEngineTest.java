@@ -0,0 +1,169 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import com.example.sensitive.strategy.MaskStrategy;
+import com.example.sensitive.strategy.MaskStrategyFactory;
+import com.example.sensitive.strategy.MaskStrategyRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveEngine} 测试
+ */
+class SensitiveEngineTest {
+
+    private static final String VENDOR = VendorCustomer.class.getName();
+
+    @Test
+    @DisplayName("规则只作用于设置它的引擎，静态 API 不受影响")
+    void testRulesIsolated() {
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.setRules(Map.of(VENDOR + ".mobile", "PHONE"));
+
+        assertTrue(engine.build(new VendorCustomer()).contains("mobile=\"138****5678\""));
+        assertTrue(SensitiveToStringBuilder.build(new VendorCustomer()).contains("mobile=\"13812345678\""));
+        assertTrue(SensitiveRules.getClassNames().isEmpty());
+        assertSame(SensitivePolicy.EMPTY, new SensitiveEngine().getPolicy());
+    }
+
+    @Test
+    @DisplayName("替换策略与定长开关只影响所属引擎，组合策略转发到所属注册表")
+    void testStrategiesIsolated() {
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.getStrategies().register(new MaskStrategy() {
+            @Override
+            public SensitiveType getType() {
+                return SensitiveType.PHONE;
+            }
+
+            @Override
+            public String mask(String value, char maskChar) {
+                return "[phone]";
+            }
+        });
+
+        assertEquals("Contact(phone=\"[phone]\", note=\"[phone]\")", engine.build(new Contact()));
+        assertEquals("Contact(phone=\"138****5678\", note=\"138****5678\")",
+                SensitiveToStringBuilder.build(new Contact()));
+        assertEquals("Contact(x=\"[phone]\")",
+                engine.of(new Contact()).append("x", "13812345678", SensitiveType.PHONE).build());
+
+        SensitiveEngine fixed = new SensitiveEngine();
+        fixed.getStrategies().setFixedLength(true);
+        MaskStrategy text = MaskStrategyFactory.getStrategy(SensitiveType.TEXT);
+        String remark = new Memo().remark;
+        assertNotEquals(text.mask(remark, '*'), text.maskFixed(remark, '*'));
+        assertEquals("Memo(remark=\"" + text.maskFixed(remark, '*') + "\")", fixed.build(new Memo()));
+        assertEquals("Memo(remark=\"" + text.mask(remark, '*') + "\")", SensitiveToStringBuilder.build(new Memo()));
+        assertFalse(MaskStrategyFactory.isFixedLength());
+    }
+
+    @Test
+    @DisplayName("缓存容量与渲染预算按引擎设置")
+    void testCacheAndBudgetPerEngine() {
+        SensitiveEngine engine = new SensitiveEngine(new MaskStrategyRegistry(), 2);
+        int before = SensitiveToStringBuilder.getCacheSize();
+        engine.warmUp(Contact.class);
+        engine.warmUp(VendorCustomer.class);
+        assertEquals(2, engine.getCacheSize());
+        engine.warmUp(Object.class);
+        assertEquals(1, engine.getCacheSize());
+        assertEquals(before, SensitiveToStringBuilder.getCacheSize());
+
+        engine.setRenderBudget(new RenderBudget(30, null, null, 100));
+        assertEquals("Contact(phone=\"138****5678\", ...)", engine.build(new Contact()));
+        assertSame(RenderBudget.UNLIMITED, SensitiveToStringBuilder.getRenderBudget());
+
+        assertThrows(IllegalArgumentException.class, () -> engine.setMaxCacheSize(0));
+        assertSame(MaskStrategyFactory.getRegistry(), SensitiveEngine.getDefault().getStrategies());
+    }
+
+    @Test
+    @DisplayName("快照按创建它的引擎渲染")
+    void testSnapshotBoundToEngine() {
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.setRules(Map.of(VENDOR + ".remark", "TEXT"));
+        assertTrue(engine.snapshot(new VendorCustomer()).toString().contains("remark=\"v*p\""));
+    }
+
+    @Test
+    @DisplayName("子类计划按引用共享父类计划，只增加本类声明的属性")
+    void testHierarchySharesParentPlan() {
+        SensitiveEngine engine = new SensitiveEngine();
+        engine.warmUp(BaseEntity.class);
+        long base = engine.getCacheRetainedBytes();
+
+        assertEquals(5, engine.warmUp(OrderEntity.class));
+        assertEquals(2, engine.getCacheSize());
+        long order = engine.getCacheRetainedBytes() - base;
+        assertTrue(order > 0 && order < base, base + " / " + order);
+
+        engine.warmUp(RefundEntity.class);
+        assertEquals(3, engine.getCacheSize());
+        assertTrue(engine.getCacheRetainedBytes() - base - order < base);
+
+        assertEquals("OrderEntity(orderNo=\"A1\", id=1, creator=\"张*\", creatorPhone=\"138****5678\", remark=null)",
+                engine.build(new OrderEntity()));
+        engine.clearCache();
+        assertEquals(0L, engine.getCacheRetainedBytes());
+    }
+
+    @Test
+    @DisplayName("缓存容量只计直接渲染的类，淘汰时保留共享的父类计划")
+    void testParentPlansNotCounted() {
+        SensitiveEngine engine = new SensitiveEngine(new MaskStrategyRegistry(), 2);
+        engine.warmUp(OrderEntity.class);
+        engine.warmUp(RefundEntity.class);
+        assertEquals(2, engine.getCacheSize());
+        long shared = engine.getCacheRetainedBytes();
+
+        SensitiveEngine separate = new SensitiveEngine();
+        separate.warmUp(OrderEntity.class);
+        long order = separate.getCacheRetainedBytes();
+        separate.clearCache();
+        separate.warmUp(RefundEntity.class);
+        assertTrue(shared < order + separate.getCacheRetainedBytes());
+
+        engine.warmUp(Contact.class);
+        assertEquals(1, engine.getCacheSize());
+        assertEquals("RefundEntity(cardNo=\"6222********7890\", id=1, creator=\"张*\", "
+                + "creatorPhone=\"138****5678\", remark=null)", engine.build(new RefundEntity()));
+        assertEquals(2, engine.getCacheSize());
+    }
+
+    static class BaseEntity {
+        private long id = 1;
+        @Sensitive(type = SensitiveType.NAME)
+        private String creator = "张三";
+        @Sensitive(type = SensitiveType.PHONE)
+        private String creatorPhone = "13812345678";
+        private String remark;
+    }
+
+    static class OrderEntity extends BaseEntity {
+        private String orderNo = "A1";
+    }
+
+    static class RefundEntity extends BaseEntity {
+        @Sensitive(type = SensitiveType.BANK_CARD)
+        private String cardNo = "6222021234567890";
+    }
+
+    static class Contact {
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone = "13812345678";
+        @Sensitive(type = SensitiveType.AUTO)
+        private String note = "13812345678";
+    }
+
+    static class Memo {
+        @Sensitive(type = SensitiveType.TEXT)
+        private String remark = "a rather long remark";
+    }
+}
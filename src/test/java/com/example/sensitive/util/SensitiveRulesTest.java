@@ -0,0 +1,125 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveRules} 测试
+ */
+class SensitiveRulesTest {
+
+    private static final String VENDOR = VendorCustomer.class.getName();
+
+    @AfterEach
+    void tearDown() {
+        SensitiveRules.setRules(null);
+    }
+
+    @Test
+    @DisplayName("外部规则与注解一样编译进字段元数据")
+    void testRulesAppliedToUnannotatedClass() {
+        String plain = SensitiveToStringBuilder.build(new VendorCustomer());
+        assertTrue(plain.contains("mobile=\"13812345678\""), plain);
+
+        SensitiveRules.setRules(Map.of(
+                VENDOR + ".mobile", "PHONE",
+                VENDOR + ".cardNo", " custom(6, 4) "));
+
+        assertEquals("VendorCustomer(id=7, mobile=\"138****5678\", cardNo=\"622202******7890\", remark=\"vip\")",
+                SensitiveToStringBuilder.build(new VendorCustomer()));
+        assertEquals(Set.of(VENDOR), SensitiveRules.getClassNames());
+    }
+
+    @Test
+    @DisplayName("规则覆盖注解；继承字段归入声明它的父类")
+    void testRuleOverridesAnnotationAndInheritedField() {
+        SensitiveRules.setRules(Map.of(
+                Child.class.getName() + ".phone", "TEXT",
+                Child.class.getName() + ".email", "EMAIL"));
+
+        assertEquals(Set.of(Child.class.getName(), Parent.class.getName()), SensitiveRules.getClassNames());
+        String result = SensitiveToStringBuilder.build(new Child());
+        assertTrue(result.contains("phone=\"1*********8\""), result);
+        assertTrue(result.contains("email=\"z***@example.com\""), result);
+    }
+
+    @Test
+    @DisplayName("规则可指向没有对应字段的 getter 属性")
+    void testRuleOnGetterOnlyProperty() {
+        assertFalse(SensitiveToStringBuilder.build(new VendorCustomer()).contains("contact"));
+
+        SensitiveRules.setRules(Map.of(VENDOR + ".contact", "EMAIL"));
+
+        assertEquals("VendorCustomer(id=7, mobile=\"13812345678\", cardNo=\"6222021234567890\", remark=\"vip\", "
+                + "contact=\"z***@example.com\")", SensitiveToStringBuilder.build(new VendorCustomer()));
+        assertEquals(Set.of(VENDOR), SensitiveRules.getClassNames());
+    }
+
+    @Test
+    @DisplayName("NONE 关闭注解字段的脱敏，未指定的选项沿用注解")
+    void testDisableAndOptions() {
+        SensitiveRules.setRules(Map.of(Child.class.getName() + ".phone", "NONE"));
+        assertTrue(SensitiveToStringBuilder.build(new Child()).contains("phone=\"13812345678\""));
+
+        SensitiveRules.setRules(Map.of(Child.class.getName() + ".phone", "PHONE;mask-char=#"));
+        assertTrue(SensitiveToStringBuilder.build(new Child()).contains("phone=\"138####5678\""));
+
+        SensitivePolicy.Rule rule = SensitiveRules.current().find(Child.class, "phone");
+        assertNull(rule.forApi());
+        assertTrue(rule.forApiOr(true));
+    }
+
+    @Test
+    @DisplayName("发布新策略后按旧策略缓存的字段元数据整体失效")
+    void testSwapInvalidatesPlans() {
+        SensitiveToStringBuilder.warmUp(VendorCustomer.class);
+        SensitivePolicy before = SensitiveRules.current();
+
+        SensitivePolicy policy = SensitiveRules.setRules(Map.of(VENDOR + ".remark", "NAME"));
+
+        assertTrue(policy.getVersion() > before.getVersion());
+        assertSame(policy, SensitiveRules.current());
+        assertEquals(Map.of(VENDOR + ".remark", "NAME"), policy.getDefinitions());
+        assertEquals(0, SensitiveToStringBuilder.getCacheSize());
+        assertTrue(SensitiveToStringBuilder.build(new VendorCustomer()).contains("remark=\"v*p\""));
+    }
+
+    @Test
+    @DisplayName("规则错误在启动时报出；类不在类路径上时保留不生效")
+    void testInvalidRules() {
+        assertThrows(IllegalArgumentException.class, () -> SensitiveRules.setRules(Map.of("mobile", "PHONE")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".mobile", "MOBILE")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".mobile", "PHONE(3,4)")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".cardNo", "CUSTOM(6)")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".phone", "PHONE")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".mobile", "PHONE;mask-char=##")));
+        assertThrows(IllegalArgumentException.class,
+                () -> SensitiveRules.setRules(Map.of(VENDOR + ".mobile", "PHONE;for-api=yes")));
+        assertEquals(0, SensitiveRules.current().getClassNames().size(), "编译失败时保留当前策略");
+
+        SensitiveRules.setRules(Map.of("com.vendor.Missing.mobile", "PHONE"));
+        assertEquals(Set.of("com.vendor.Missing"), SensitiveRules.getClassNames());
+    }
+
+    static class Parent {
+        private String email = "zhangsan@example.com";
+    }
+
+    static class Child extends Parent {
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone = "13812345678";
+    }
+}
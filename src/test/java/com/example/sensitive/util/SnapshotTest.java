@@ -0,0 +1,95 @@
+package com.example.sensitive.util;
+
+import com.example.sensitive.annotation.Sensitive;
+import com.example.sensitive.enums.SensitiveType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * {@link SensitiveToStringBuilder#snapshot(Object)} 测试
+ */
+class SnapshotTest {
+
+    @Test
+    @DisplayName("快照输出与 build 一致，结果缓存复用")
+    void testSameOutputAsBuild() {
+        OrderDTO order = new OrderDTO();
+        SensitiveToStringBuilder.Snapshot snapshot = SensitiveToStringBuilder.snapshot(order);
+
+        assertEquals(SensitiveToStringBuilder.build(order), snapshot.toString());
+        assertSame(snapshot.toString(), snapshot.toString());
+        assertEquals("null", SensitiveToStringBuilder.snapshot(null).toString());
+    }
+
+    @Test
+    @DisplayName("捕获的是快照时刻的字段引用")
+    void testCapturesFieldValues() {
+        OrderDTO order = new OrderDTO();
+        SensitiveToStringBuilder.Snapshot snapshot = SensitiveToStringBuilder.snapshot(order);
+        order.phone = "13987654321";
+
+        assertTrue(snapshot.toString().contains("phone=\"138****5678\""), snapshot.toString());
+    }
+
+    @Test
+    @DisplayName("格式化在调用 toString 的线程执行")
+    void testDeferredToFormattingThread() throws Exception {
+        OrderDTO order = new OrderDTO();
+        SensitiveToStringBuilder.Snapshot snapshot = SensitiveToStringBuilder.snapshot(order);
+        assertNull(order.payload.formattedBy, "快照阶段不应格式化字段");
+
+        ExecutorService logger = Executors.newSingleThreadExecutor(r -> new Thread(r, "async-logger"));
+        try {
+            String rendered = CompletableFuture.supplyAsync(snapshot::toString, logger).get();
+            assertTrue(rendered.contains("payload=payload"), rendered);
+            assertEquals("async-logger", order.payload.formattedBy);
+        } finally {
+            logger.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("降级摘要使用快照时记录的身份哈希，快照不持有源对象")
+    void testSummaryUsesCapturedIdentity() {
+        SensitiveEngine engine = new SensitiveEngine();
+        RenderBudget budget = new RenderBudget(0, null, Duration.ofMillis(1), Integer.MAX_VALUE);
+        engine.setRenderBudget(budget);
+        for (int i = 0; i < 16; i++) {
+            budget.record(Payload.class, Duration.ofMillis(10).toNanos());
+        }
+
+        Payload payload = new Payload();
+        SensitiveToStringBuilder.Snapshot snapshot = engine.snapshot(payload);
+
+        assertEquals("Payload#" + Integer.toHexString(System.identityHashCode(payload)), snapshot.toString());
+        assertTrue(Arrays.stream(SensitiveToStringBuilder.Snapshot.class.getDeclaredFields())
+                .noneMatch(field -> field.getType() == Object.class));
+    }
+
+    static class OrderDTO {
+        private Long id = 42L;
+
+        @Sensitive(type = SensitiveType.PHONE)
+        private String phone = "13812345678";
+
+        private final Payload payload = new Payload();
+    }
+
+    static class Payload {
+        private volatile String formattedBy;
+
+        @Override
+        public String toString() {
+            formattedBy = Thread.currentThread().getName();
+            return "payload";
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.sensitive.util;
+
+/**
+ * 模拟第三方 jar 中无法添加注解的类
+ */
+public class VendorCustomer {
+
+    private Long id = 7L;
+
+    private String mobile = "13812345678";
+
+    private String cardNo = "6222021234567890";
+
+    private String remark = "vip";
+
+    /**
+     * 没有对应字段的计算属性
+     */
+    public String getContact() {
+        return "zhangsan@example.com";
+    }
+}